@@ -1,7 +1,15 @@
 package org.springframework.boot.autoconfigure.orient;
 
 import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.opentelemetry.api.OpenTelemetry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
@@ -9,8 +17,24 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplicat
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.orient.commons.core.OrientBatchLoader;
+import org.springframework.data.orient.commons.core.OrientBulkhead;
 import org.springframework.data.orient.commons.core.OrientDatabaseFactory;
+import org.springframework.data.orient.commons.core.OrientExistenceFilter;
+import org.springframework.data.orient.commons.core.OrientInvocationListener;
+import org.springframework.data.orient.commons.core.OrientInvocationListeners;
+import org.springframework.data.orient.commons.core.OrientLeakDetector;
+import org.springframework.data.orient.commons.core.OrientMetrics;
+import org.springframework.data.orient.commons.core.OrientNearCache;
 import org.springframework.data.orient.commons.core.OrientOperations;
+import org.springframework.data.orient.commons.core.OrientQueryCache;
+import org.springframework.data.orient.commons.core.OrientRecordCache;
+import org.springframework.data.orient.commons.core.OrientRepositoryMetrics;
+import org.springframework.data.orient.commons.core.OrientSingleFlight;
+import org.springframework.data.orient.commons.core.OrientSlowQueryLog;
+import org.springframework.data.orient.commons.core.OrientStatementStatistics;
+import org.springframework.data.orient.commons.core.OrientTracer;
+import org.springframework.data.orient.commons.core.OrientTracing;
 import org.springframework.data.orient.commons.core.OrientTransactionManager;
 import org.springframework.data.orient.object.OrientObjectDatabaseFactory;
 import org.springframework.data.orient.object.OrientObjectOperations;
@@ -18,6 +42,8 @@ import org.springframework.data.orient.object.OrientObjectTemplate;
 import org.springframework.data.orient.commons.web.config.OrientWebConfigurer;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.stream.Collectors;
+
 @Configuration
 @ConditionalOnClass(OObjectDatabaseTx.class)
 @EnableConfigurationProperties(OrientProperties.class)
@@ -34,10 +60,11 @@ public class OrientAutoConfiguration {
     
     @Bean
     @ConditionalOnMissingBean(OrientObjectDatabaseFactory.class)
-    public OrientObjectDatabaseFactory objectDatabaseFactory() {
+    public OrientObjectDatabaseFactory objectDatabaseFactory(ObjectProvider<OrientLeakDetector> leakDetector) {
         OrientObjectDatabaseFactory factory = new OrientObjectDatabaseFactory();
         
         configure(factory);
+        factory.setLeakDetector(leakDetector.getIfAvailable());
         
         return factory;
     }
@@ -45,8 +72,31 @@ public class OrientAutoConfiguration {
     @Bean
     @ConditionalOnClass(OObjectDatabaseTx.class)
     @ConditionalOnMissingBean(OrientObjectTemplate.class)
-    public OrientObjectTemplate objectTemplate(OrientObjectDatabaseFactory factory) {
-        return new OrientObjectTemplate(factory);
+    public OrientObjectTemplate objectTemplate(OrientObjectDatabaseFactory factory, ObjectProvider<OrientRecordCache> recordCache, 
+            ObjectProvider<OrientQueryCache> queryCache, ObjectProvider<OrientNearCache> nearCache, 
+            ObjectProvider<OrientExistenceFilter> existenceFilters, ObjectProvider<OrientBatchLoader> batchLoader, 
+            ObjectProvider<OrientSingleFlight> singleFlight, ObjectProvider<OrientInvocationListener> invocationListener, 
+            ObjectProvider<OrientSlowQueryLog> slowQueryLog, ObjectProvider<OrientStatementStatistics> statementStatistics, 
+            ObjectProvider<OrientTracer> tracer, ObjectProvider<OrientBulkhead> bulkheads) {
+        OrientObjectTemplate template = new OrientObjectTemplate(factory);
+        
+        template.setRecordCache(recordCache.getIfAvailable());
+        template.setQueryCache(queryCache.getIfAvailable());
+        template.setNearCache(nearCache.getIfAvailable());
+        existenceFilters.orderedStream().forEach(template::addExistenceFilter);
+        template.setBatchLoader(batchLoader.getIfAvailable());
+        template.setSingleFlight(singleFlight.getIfAvailable());
+        template.setInvocationListener(OrientInvocationListeners.of(invocationListener.orderedStream().collect(Collectors.toList())));
+        template.setSlowQueryLog(slowQueryLog.getIfAvailable());
+        template.setStatementStatistics(statementStatistics.getIfAvailable());
+        template.setTracer(tracer.getIfAvailable());
+        bulkheads.orderedStream().forEach(template::addBulkhead);
+        
+        if (template.getTracer() instanceof OrientTracing) {
+            template.getAsyncExecutor().setTaskDecorator(((OrientTracing) template.getTracer())::wrap);
+        }
+        
+        return template;
     }
 
     @Bean
@@ -57,6 +107,61 @@ public class OrientAutoConfiguration {
         return new OrientWebConfigurer();
     }
 
+    @Configuration
+    @ConditionalOnClass(MeterRegistry.class)
+    static class OrientMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(OrientMetrics.class)
+        public MeterBinder orientMetrics(OrientObjectDatabaseFactory factory, ObjectProvider<PlatformTransactionManager> transactionManager) {
+            PlatformTransactionManager manager = transactionManager.getIfUnique();
+            
+            return new OrientMetrics(factory, manager instanceof OrientTransactionManager ? (OrientTransactionManager) manager : null, Tags.empty());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(OrientRepositoryMetrics.class)
+        public OrientRepositoryMetrics orientRepositoryMetrics(ObjectProvider<MeterRegistry> registry) {
+            return new OrientRepositoryMetrics(registry.getIfAvailable(() -> Metrics.globalRegistry), Tags.empty());
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass(OpenTelemetry.class)
+    @ConditionalOnBean(OpenTelemetry.class)
+    static class OrientTracingConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(OrientTracer.class)
+        public OrientTracing orientTracing(OpenTelemetry openTelemetry) {
+            return new OrientTracing(openTelemetry);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass(Endpoint.class)
+    @ConditionalOnBean(OrientStatementStatistics.class)
+    static class OrientStatementsEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(OrientStatementsEndpoint.class)
+        public OrientStatementsEndpoint orientStatementsEndpoint(OrientStatementStatistics statistics) {
+            return new OrientStatementsEndpoint(statistics);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass(Endpoint.class)
+    @ConditionalOnBean(OrientLeakDetector.class)
+    static class OrientSessionsEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(OrientSessionsEndpoint.class)
+        public OrientSessionsEndpoint orientSessionsEndpoint(OrientLeakDetector leakDetector) {
+            return new OrientSessionsEndpoint(leakDetector);
+        }
+    }
+
     @SuppressWarnings("rawtypes")
     protected void configure(OrientDatabaseFactory factory) {
         factory.setUrl(properties.getUrl());
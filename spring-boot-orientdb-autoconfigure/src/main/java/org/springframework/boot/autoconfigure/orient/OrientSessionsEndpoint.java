@@ -0,0 +1,41 @@
+package org.springframework.boot.autoconfigure.orient;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.data.orient.commons.core.OrientLeakDetector;
+
+/**
+ * Actuator endpoint exposing the sessions held according to the {@link OrientLeakDetector}, the oldest first with
+ * their thread, age and sampled acquisition site.
+ */
+@Endpoint(id = "orientsessions")
+public class OrientSessionsEndpoint {
+
+    /** The leak detector. */
+    private final OrientLeakDetector leakDetector;
+
+    public OrientSessionsEndpoint(OrientLeakDetector leakDetector) {
+        this.leakDetector = leakDetector;
+    }
+
+    /**
+     * Reads the held sessions.
+     *
+     * @return the held sessions and the leak counts
+     */
+    @ReadOperation
+    public Map<String, Object> sessions() {
+        Map<String, Object> result = new LinkedHashMap<>();
+
+        result.put("threshold", leakDetector.getThreshold(TimeUnit.MILLISECONDS));
+        result.put("leaked", leakDetector.getLeakCount());
+        result.put("closed", leakDetector.getClosedCount());
+        result.put("sessions", leakDetector.getHeldSessions());
+
+        return result;
+    }
+}
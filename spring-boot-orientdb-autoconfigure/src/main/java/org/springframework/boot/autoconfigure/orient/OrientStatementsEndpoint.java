@@ -0,0 +1,56 @@
+package org.springframework.boot.autoconfigure.orient;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.data.orient.commons.core.OrientStatementStatistics;
+import org.springframework.data.orient.commons.core.OrientStatementStatistics.Statement;
+import org.springframework.lang.Nullable;
+
+/**
+ * Actuator endpoint exposing the {@link OrientStatementStatistics}, the statements costing the most time overall
+ * first, and resetting them, e.g. before measuring a load test.
+ */
+@Endpoint(id = "orientstatements")
+public class OrientStatementsEndpoint {
+
+    /** The number of statements read when no limit is given. */
+    public static final int DEFAULT_LIMIT = 20;
+
+    /** The statistics. */
+    private final OrientStatementStatistics statistics;
+
+    public OrientStatementsEndpoint(OrientStatementStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Reads the statements costing the most time overall.
+     *
+     * @param limit the max number of statements, {@link #DEFAULT_LIMIT} if {@literal null}
+     * @return the statistics
+     */
+    @ReadOperation
+    public Map<String, Object> statements(@Nullable Integer limit) {
+        List<Statement> statements = statistics.getTopStatements(limit == null ? DEFAULT_LIMIT : limit);
+        Map<String, Object> result = new LinkedHashMap<>();
+
+        result.put("tracked", statistics.size());
+        result.put("dropped", statistics.getDroppedCount());
+        result.put("statements", statements);
+
+        return result;
+    }
+
+    /**
+     * Removes all statistics.
+     */
+    @DeleteOperation
+    public void reset() {
+        statistics.reset();
+    }
+}
@@ -1,12 +1,17 @@
 package org.springframework.data.orient.commons.core;
 
+import com.orientechnologies.common.concur.lock.OLockException;
 import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.PostConstruct;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import static org.springframework.util.Assert.notNull;
 
@@ -39,6 +44,21 @@ public abstract class AbstractOrientDatabaseFactory<T> implements OrientDatabase
     protected Boolean autoCreate;
 
     protected String url;
+
+    /** The count of sessions acquired from the pool. */
+    private final AtomicLong acquireCount = new AtomicLong();
+
+    /** The total time waited for sessions from the pool in nanoseconds. */
+    private final AtomicLong acquireTime = new AtomicLong();
+
+    /** The count of sessions not acquired because the pool was exhausted. */
+    private final AtomicLong acquireTimeoutCount = new AtomicLong();
+
+    /** The count of closed sessions of the current thread re-opened. */
+    private final AtomicLong reopenCount = new AtomicLong();
+
+    /** The detector of the sessions held too long, {@literal null} if they are not tracked. */
+    private volatile OrientLeakDetector leakDetector;
     
     @PostConstruct
     public void init() {
@@ -66,7 +86,106 @@ public abstract class AbstractOrientDatabaseFactory<T> implements OrientDatabase
 
     protected abstract ODatabaseInternal<?> newDatabase();
 
+    /**
+     * Gets the number of sessions the pool created, idle or not.
+     *
+     * @return the number of sessions
+     */
+    public abstract int getSessionCount();
+
+    /**
+     * Gets the number of sessions waiting in the pool to be acquired.
+     *
+     * @return the number of idle sessions
+     */
+    public abstract int getIdleSessionCount();
+
+    /**
+     * Gets the number of sessions acquired from the pool and not released yet.
+     *
+     * @return the number of active sessions
+     */
+    public int getActiveSessionCount() {
+        return Math.max(getSessionCount() - getIdleSessionCount(), 0);
+    }
+
+    /**
+     * Acquires a session from the pool, recording the time waited for it and whether the pool was exhausted.
+     *
+     * @param pool the pool acquiring the session
+     * @param <D> the type of the session
+     * @return the session
+     */
+    protected <D extends ODatabase<T>> D acquire(Supplier<D> pool) {
+        releaseLeaked();
+
+        long start = System.nanoTime();
+        Object event = OrientFlightRecorder.beginAcquire();
+        boolean reopened = event != null && isBoundSessionClosed();
+        boolean timedOut = false;
+        boolean failed = true;
+
+        try {
+            D db = pool.get();
+            acquireCount.incrementAndGet();
+            failed = false;
+
+            OrientLeakDetector detector = leakDetector;
+
+            if (detector != null) {
+                detector.acquired(db);
+            }
+
+            return db;
+        } catch (RuntimeException e) {
+            if (isAcquireTimeout(e)) {
+                acquireTimeoutCount.incrementAndGet();
+                timedOut = true;
+            }
+
+            throw e;
+        } finally {
+            acquireTime.addAndGet(System.nanoTime() - start);
+            OrientFlightRecorder.commitAcquire(event, getUrl(), reopened, timedOut, failed);
+        }
+    }
+
+    /**
+     * Lets the leak detector release the sessions of the current thread it found held past its threshold, only the
+     * thread holding a session can return it to the pool.
+     */
+    private void releaseLeaked() {
+        OrientLeakDetector detector = leakDetector;
+
+        if (detector != null) {
+            detector.releaseLeaked();
+        }
+    }
+
+    /**
+     * Checks if the session bound to the current thread was closed, so the acquired session replaces it.
+     *
+     * @return true, if the bound session is closed
+     */
+    private static boolean isBoundSessionClosed() {
+        ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
+
+        return db != null && db.isClosed();
+    }
+
+    /**
+     * Checks if the given failure to acquire a session means the pool was exhausted.
+     *
+     * @param e the failure
+     * @return true, if no session was available in time
+     */
+    protected boolean isAcquireTimeout(RuntimeException e) {
+        return e instanceof OLockException;
+    }
+
     public ODatabase<T> db() {
+        releaseLeaked();
+
         ODatabase<T> db;
         if(!ODatabaseRecordThreadLocal.instance().isDefined()) {
             db = openDatabase();
@@ -76,6 +195,7 @@ public abstract class AbstractOrientDatabaseFactory<T> implements OrientDatabase
 
             if(db.isClosed()) {
                 db = openDatabase();
+                reopenCount.incrementAndGet();
                 log.debug("re-opened db {}", db.hashCode());
             } else {
                 log.debug("use existing db {}", db.hashCode());
@@ -182,6 +302,35 @@ public abstract class AbstractOrientDatabaseFactory<T> implements OrientDatabase
         this.maxPoolSize = maxPoolSize;
     }
 
+    public long getAcquireCount() {
+        return acquireCount.get();
+    }
+
+    public long getAcquireTime(TimeUnit unit) {
+        return unit.convert(acquireTime.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getAcquireTimeoutCount() {
+        return acquireTimeoutCount.get();
+    }
+
+    public long getReopenCount() {
+        return reopenCount.get();
+    }
+
+    public OrientLeakDetector getLeakDetector() {
+        return leakDetector;
+    }
+
+    /**
+     * Sets the detector of the sessions acquired from the pool and held longer than its threshold.
+     *
+     * @param leakDetector the leak detector, {@literal null} to not track sessions
+     */
+    public void setLeakDetector(OrientLeakDetector leakDetector) {
+        this.leakDetector = leakDetector;
+    }
+
     public Boolean getAutoCreate() {
         return autoCreate;
     }
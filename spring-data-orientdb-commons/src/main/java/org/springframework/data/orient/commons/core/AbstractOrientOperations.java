@@ -4,21 +4,34 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.orient.commons.core.convert.OrientConverter;
 import org.springframework.data.orient.commons.core.mapping.OrientMappingContext;
 import org.springframework.data.orient.commons.core.mapping.OrientPersistentEntity;
 import org.springframework.data.orient.commons.core.mapping.OrientPersistentProperty;
+import org.springframework.data.orient.commons.repository.CountMode;
 import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
 
 import com.orientechnologies.common.exception.OSystemException;
 import com.orientechnologies.orient.core.cache.OLocalRecordCache;
@@ -26,20 +39,27 @@ import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.command.OCommandRequest;
 import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.db.ODatabaseListener;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ORecordOperation;
 import com.orientechnologies.orient.core.dictionary.ODictionary;
 import com.orientechnologies.orient.core.exception.OTransactionException;
 import com.orientechnologies.orient.core.hook.ORecordHook;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.intent.OIntent;
 import com.orientechnologies.orient.core.metadata.OMetadata;
+import com.orientechnologies.orient.core.metadata.OMetadataInternal;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.security.OSecurityUser;
 import com.orientechnologies.orient.core.metadata.security.OUser;
 import com.orientechnologies.orient.core.query.OQuery;
+import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.OCommandSQL;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import com.orientechnologies.orient.core.sql.query.OSQLQuery;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 import com.orientechnologies.orient.core.storage.ORecordCallback;
@@ -47,7 +67,7 @@ import com.orientechnologies.orient.core.storage.ORecordMetadata;
 import com.orientechnologies.orient.core.storage.OStorage;
 import com.orientechnologies.orient.core.tx.OTransaction;
 
-public abstract class AbstractOrientOperations<T> implements OrientOperations<T> {
+public abstract class AbstractOrientOperations<T> implements OrientOperations<T>, DisposableBean {
     //private static final Logger logger = LoggerFactory.getLogger(AbstractOrientOperations.class);
 
     protected final OrientDatabaseFactory<T> dbf;
@@ -56,6 +76,45 @@ public abstract class AbstractOrientOperations<T> implements OrientOperations<T>
 
 	protected OrientConverter orientConverter;
 
+    /** The executor of the asynchronous work, created on first use if not set. */
+    private OrientAsyncExecutor asyncExecutor;
+
+    /** Whether the async executor was created by this instance, it is then shut down with it. */
+    private boolean ownAsyncExecutor;
+
+    /** The record cache shared by all sessions, {@literal null} if records are not cached. */
+    private volatile OrientRecordCache recordCache;
+
+    /** The query cache shared by all sessions, {@literal null} if query results are not cached. */
+    private volatile OrientQueryCache queryCache;
+
+    /** The near cache shared by all sessions, {@literal null} if natural keys are not cached. */
+    private volatile OrientNearCache nearCache;
+
+    /** The existence filters of the classes. */
+    private final List<OrientExistenceFilter> existenceFilters = new CopyOnWriteArrayList<>();
+
+    /** The loader coalescing concurrent asynchronous loads, {@literal null} if every record is loaded on its own. */
+    private volatile OrientBatchLoader batchLoader;
+
+    /** The deduplication of identical detached queries, {@literal null} if every query runs on its own. */
+    private volatile OrientSingleFlight singleFlight;
+
+    /** The listener notified of the repository method invocations, {@literal null} if they are not recorded. */
+    private volatile OrientInvocationListener invocationListener;
+
+    /** The log of the slow statements, {@literal null} if they are not logged. */
+    private volatile OrientSlowQueryLog slowQueryLog;
+
+    /** The statistics of the statements by fingerprint, {@literal null} if they are not aggregated. */
+    private volatile OrientStatementStatistics statementStatistics;
+
+    /** The tracer of the operations, {@literal null} if they are not traced. */
+    private volatile OrientTracer tracer;
+
+    /** The bulkheads of the repositories by name. */
+    private final Map<String, OrientBulkhead> bulkheads = new ConcurrentHashMap<>();
+
     protected AbstractOrientOperations(OrientDatabaseFactory<T> dbf) {
         this.dbf = dbf;
         
@@ -326,7 +385,86 @@ public abstract class AbstractOrientOperations<T> implements OrientOperations<T>
 
     @Override
     public T load(ORID recordId) {
-        return dbf.db().load(recordId);
+        return traced("load", null, () -> doLoad(recordId));
+    }
+
+    /**
+     * Loads the given record, from the record cache if it holds its current version.
+     *
+     * @param recordId the record id
+     * @return the entity or {@literal null} if the record does not exist
+     */
+    private T doLoad(ORID recordId) {
+        OrientRecordCache cache = recordCache;
+
+        if (cache == null || !recordId.isPersistent()) {
+            return dbf.db().load(recordId);
+        }
+
+        ODatabase<T> db = cacheAwareDb();
+
+        // records changed by the current transaction are only visible to its session
+        if (db.getTransaction().getRecordEntry(recordId) != null) {
+            return db.load(recordId);
+        }
+
+        // the version is read from the cluster position map, the record content is not read
+        ORecordMetadata metadata = db.getRecordMetadata(recordId);
+        ORecord record = metadata == null ? null : cache.get(recordId, metadata.getVersion());
+
+        if (record != null) {
+            return fromRecord(record);
+        }
+
+        // the local cache of the session may hold the version the shared cache just found stale
+        T entity = db.load(recordId, null, true);
+
+        if (entity != null) {
+            cache.put(toRecord(entity));
+        }
+
+        return entity;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CompletableFuture<T> loadAsync(ORID recordId) {
+        OrientBatchLoader loader = batchLoader;
+
+        if (loader != null) {
+            return loader.load(this, recordId);
+        }
+
+        return getAsyncExecutor().submit(() -> {
+            T entity = load(recordId);
+
+            return entity == null ? null : detachAll(entity);
+        });
+    }
+
+    @Override
+    public boolean exists(ORID recordId) {
+        ODatabase<T> db = dbf.db();
+        ORecordOperation operation = db.getTransaction().getRecordEntry(recordId);
+
+        // records changed by the current transaction are only known to its session
+        if (operation != null) {
+            return operation.type != ORecordOperation.DELETED;
+        }
+
+        if (!recordId.isPersistent()) {
+            return false;
+        }
+
+        for (OrientExistenceFilter filter : existenceFilters) {
+            populate(filter);
+
+            if (filter.covers(recordId.getClusterId()) && !filter.mightContain(recordId)) {
+                return false;
+            }
+        }
+
+        return db.getRecordMetadata(recordId) != null;
     }
 
     @Override
@@ -350,7 +488,7 @@ public abstract class AbstractOrientOperations<T> implements OrientOperations<T>
 
     @Override
     public T load(ORID recordId, String fetchPlan) {
-        return dbf.db().load(recordId, fetchPlan);
+        return traced("load", fetchPlan, () -> dbf.db().load(recordId, fetchPlan));
     }
 
     @Override
@@ -370,32 +508,382 @@ public abstract class AbstractOrientOperations<T> implements OrientOperations<T>
 
     @Override
     public <S extends T> S save(S entity) {
-        return dbf.db().save(entity);
+        return traced("save", null, () -> cacheAwareDb().save(entity));
     }
 
     @Override
     public <S extends T> S save(S entity, String cluster) {
-        return dbf.db().save(entity, cluster);
+        return traced("save", null, () -> cacheAwareDb().save(entity, cluster));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BulkWriteResult bulkSave(Iterable<? extends T> entities, BulkWriteOptions options) {
+        ODatabase<T> db = dbf.db();
+
+        if (db.getTransaction().isActive()) {
+            throw new IllegalStateException("Bulk writes must not run within a transaction!");
+        }
+
+        // bulk writes bypass the hooks, the filters answer no check until the write ended and are populated again then
+        for (OrientExistenceFilter filter : existenceFilters) {
+            filter.beginBulkWrite();
+        }
+
+        try {
+            return new BulkWriter<>(dbf, options).write(entities);
+        } finally {
+            for (OrientExistenceFilter filter : existenceFilters) {
+                filter.endBulkWrite();
+            }
+
+            // the cached results are read again
+            OrientQueryCache results = queryCache;
+
+            if (results != null) {
+                results.clear();
+            }
+        }
+    }
+
+    /**
+     * Gets the async executor. Unless one was set, an executor with half as many threads as the pool has connections
+     * is created on first use and shut down when this instance is destroyed.
+     *
+     * @return the async executor
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public synchronized OrientAsyncExecutor getAsyncExecutor() {
+        if (asyncExecutor == null) {
+            asyncExecutor = new OrientAsyncExecutor(Math.max(1, dbf.getMaxPoolSize() / 2));
+            ownAsyncExecutor = true;
+        }
+
+        return asyncExecutor;
+    }
+
+    /**
+     * Sets the async executor, the one created by this instance is shut down. The given executor is not shut down by
+     * this instance.
+     *
+     * @param asyncExecutor the async executor
+     */
+    public synchronized void setAsyncExecutor(OrientAsyncExecutor asyncExecutor) {
+        if (ownAsyncExecutor) {
+            this.asyncExecutor.destroy();
+        }
+
+        this.asyncExecutor = asyncExecutor;
+        this.ownAsyncExecutor = false;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.beans.factory.DisposableBean#destroy()
+     */
+    @Override
+    public synchronized void destroy() {
+        if (ownAsyncExecutor) {
+            asyncExecutor.destroy();
+            asyncExecutor = null;
+            ownAsyncExecutor = false;
+        }
+    }
+
+    public OrientRecordCache getRecordCache() {
+        return recordCache;
+    }
+
+    /**
+     * Sets the record cache shared by all sessions in front of {@link #load(ORID)}.
+     *
+     * @param recordCache the record cache, {@literal null} to not cache records
+     */
+    public void setRecordCache(OrientRecordCache recordCache) {
+        this.recordCache = recordCache;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OrientQueryCache getQueryCache() {
+        return queryCache;
+    }
+
+    /**
+     * Sets the query cache shared by all sessions in front of the query methods annotated with
+     * {@link org.springframework.data.orient.commons.repository.annotation.ResultCache}.
+     *
+     * @param queryCache the query cache, {@literal null} to not cache query results
+     */
+    public void setQueryCache(OrientQueryCache queryCache) {
+        this.queryCache = queryCache;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OrientNearCache getNearCache() {
+        return nearCache;
+    }
+
+    /**
+     * Sets the near cache shared by all sessions in front of the query methods annotated with
+     * {@link org.springframework.data.orient.commons.repository.annotation.NearCache}.
+     *
+     * @param nearCache the near cache, {@literal null} to not cache natural keys
+     */
+    public void setNearCache(OrientNearCache nearCache) {
+        this.nearCache = nearCache;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OrientBatchLoader getBatchLoader() {
+        return batchLoader;
+    }
+
+    /**
+     * Sets the loader coalescing the concurrent calls of {@link #loadAsync(ORID)}.
+     *
+     * @param batchLoader the batch loader, {@literal null} to load every record on its own
+     */
+    public void setBatchLoader(OrientBatchLoader batchLoader) {
+        this.batchLoader = batchLoader;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OrientSingleFlight getSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * Sets the deduplication of identical queries running at the same time. Detached queries of the template and the
+     * query methods annotated with {@link org.springframework.data.orient.commons.repository.annotation.SingleFlight}
+     * then share one execution, unless they run in a transaction with pending changes.
+     *
+     * @param singleFlight the single flight, {@literal null} to run every query on its own
+     */
+    public void setSingleFlight(OrientSingleFlight singleFlight) {
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OrientInvocationListener getInvocationListener() {
+        return invocationListener;
+    }
+
+    /**
+     * Sets the listener notified of the invocations of the repository methods, with their execution type, duration,
+     * result size and the time spent detaching entities.
+     *
+     * @param invocationListener the invocation listener, {@literal null} to not record invocations
+     */
+    public void setInvocationListener(OrientInvocationListener invocationListener) {
+        this.invocationListener = invocationListener;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OrientSlowQueryLog getSlowQueryLog() {
+        return slowQueryLog;
+    }
+
+    /**
+     * Sets the log of the queries, counts and commands taking longer than its threshold.
+     *
+     * @param slowQueryLog the slow query log, {@literal null} to not log slow statements
+     */
+    public void setSlowQueryLog(OrientSlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OrientStatementStatistics getStatementStatistics() {
+        return statementStatistics;
+    }
+
+    /**
+     * Sets the statistics aggregating the queries, counts and commands by fingerprint.
+     *
+     * @param statementStatistics the statement statistics, {@literal null} to not aggregate statements
+     */
+    public void setStatementStatistics(OrientStatementStatistics statementStatistics) {
+        this.statementStatistics = statementStatistics;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OrientTracer getTracer() {
+        return tracer;
+    }
+
+    /**
+     * Sets the tracer of the queries, counts, commands, loads and saves.
+     *
+     * @param tracer the tracer, {@literal null} to not trace operations
+     */
+    public void setTracer(OrientTracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OrientBulkhead getBulkhead(String name) {
+        return bulkheads.get(name);
+    }
+
+    public Collection<OrientBulkhead> getBulkheads() {
+        return Collections.unmodifiableCollection(bulkheads.values());
+    }
+
+    /**
+     * Adds a bulkhead bounding the concurrent invocations of the repositories naming it, or of all repositories not
+     * naming one if it is the {@link OrientBulkhead#DEFAULT} one.
+     *
+     * @param bulkhead the bulkhead
+     */
+    public void addBulkhead(OrientBulkhead bulkhead) {
+        if (bulkheads.putIfAbsent(bulkhead.getName(), bulkhead) != null) {
+            throw new IllegalArgumentException("Bulkhead '" + bulkhead.getName() + "' already exists");
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OrientExistenceFilter getExistenceFilter(String className) {
+        for (OrientExistenceFilter filter : existenceFilters) {
+            if (filter.getClassName().equalsIgnoreCase(className)) {
+                populate(filter);
+                return filter;
+            }
+        }
+
+        return null;
+    }
+
+    public List<OrientExistenceFilter> getExistenceFilters() {
+        return Collections.unmodifiableList(existenceFilters);
+    }
+
+    /**
+     * Adds the existence filter of a class, populated on first use.
+     *
+     * @param filter the existence filter
+     */
+    public void addExistenceFilter(OrientExistenceFilter filter) {
+        for (OrientExistenceFilter existing : existenceFilters) {
+            if (existing.getClassName().equalsIgnoreCase(filter.getClassName())) {
+                throw new IllegalArgumentException("Class '" + filter.getClassName() + "' already has an existence filter");
+            }
+        }
+
+        existenceFilters.add(filter);
+    }
+
+    /**
+     * Populates the given filter unless it is populated already.
+     *
+     * @param filter the existence filter
+     */
+    private void populate(OrientExistenceFilter filter) {
+        if (!filter.isPopulated()) {
+            cacheAwareDb();
+            filter.populate(ODatabaseRecordThreadLocal.instance().get());
+        }
+    }
+
+    /**
+     * Gets the database of the current thread with the record, query and near caches and the existence filters
+     * registered on it, so the changes made through it invalidate the cached records, query results and natural keys
+     * and the created records are added to the filters.
+     *
+     * @return the database
+     */
+    private ODatabase<T> cacheAwareDb() {
+        ODatabase<T> db = dbf.db();
+        OrientRecordCache cache = recordCache;
+        OrientQueryCache results = queryCache;
+        OrientNearCache keys = nearCache;
+
+        if (cache != null) {
+            cache.register(db);
+        }
+
+        if (results != null) {
+            results.register(db);
+        }
+
+        if (keys != null) {
+            keys.register(db);
+        }
+
+        for (OrientExistenceFilter filter : existenceFilters) {
+            filter.register(db);
+        }
+
+        return db;
+    }
+
+    /**
+     * Gets the record of the given entity to cache.
+     *
+     * @param entity the entity
+     * @return the record
+     */
+    protected ORecord toRecord(T entity) {
+        return (ORecord) entity;
+    }
+
+    /**
+     * Converts a cached record into the entity returned to the caller.
+     *
+     * @param record the copy of the cached record
+     * @return the entity
+     */
+    @SuppressWarnings("unchecked")
+    protected T fromRecord(ORecord record) {
+        return (T) record;
     }
 
     @Override
     public <S extends T> S save(S entity, ODatabase.OPERATION_MODE mode, boolean forceCreate, ORecordCallback<? extends Number> recordCallback, ORecordCallback<Integer> recordUpdatedCallback) {
-        return dbf.db().save(entity, mode, forceCreate, recordCallback, recordUpdatedCallback);
+        return cacheAwareDb().save(entity, mode, forceCreate, recordCallback, recordUpdatedCallback);
     }
 
     @Override
     public long countClass(Class<?> clazz) {
-        return count(new OSQLSynchQuery<Long>("select count(*) from " + clazz.getSimpleName()));
+        return countClass(clazz.getSimpleName(), CountMode.EXACT);
     }
 
     @Override
     public long countClass(String className) {
-        return count(new OSQLSynchQuery<Long>("select count(*) from " + className));
+        return countClass(className, CountMode.EXACT);
+    }
+
+    @Override
+    public long countClass(Class<?> clazz, CountMode mode) {
+        return countClass(clazz.getSimpleName(), mode);
+    }
+
+    @Override
+    public long countClass(String className, CountMode mode) {
+        OMetadataInternal metadata = (OMetadataInternal) dbf.db().getMetadata();
+        
+        // the snapshot sums the polymorphic cluster counters without locking the schema or looking at the transaction
+        OClass oClass = mode == CountMode.APPROXIMATE ? metadata.getImmutableSchemaSnapshot().getClass(className) : metadata.getSchema().getClass(className);
+        
+        if (oClass == null) {
+            throw new IllegalArgumentException("Class '" + className + "' not found in database");
+        }
+        
+        return oClass.count(true);
     }
 
     @Override
     public long count(OSQLQuery<?> query, Object... args) {
-        return ((ODocument) dbf.db().query(query, args).get(0)).field("count");
+        return monitored("count", query.getText(), null, args, () -> ((ODocument) dbf.db().query(query, args).get(0)).<Long>field("count"));
     }
 
     @Override
@@ -525,17 +1013,17 @@ public abstract class AbstractOrientOperations<T> implements OrientOperations<T>
 
     @Override
     public ODatabase<T> delete(ORID recordId) {
-        return dbf.db().delete(recordId);
+        return cacheAwareDb().delete(recordId);
     }
 
     @Override
     public ODatabase<T> delete(T entity) {
-        return dbf.db().delete(entity);
+        return cacheAwareDb().delete(entity);
     }
 
     @Override
     public ODatabase<T> delete(ORID rid, int version) {
-        return dbf.db().delete(rid, version);
+        return cacheAwareDb().delete(rid, version);
     }
 
     @Override
@@ -563,6 +1051,28 @@ public abstract class AbstractOrientOperations<T> implements OrientOperations<T>
         return dbf.db().getMetadata().getSchema().existsClass(className);
     }
 
+    @Override
+    public boolean isUniquelyIndexed(String className, Collection<String> fields) {
+        // the repositories are created outside of any transaction, so no session is left bound to the thread
+        ODatabase<T> db = dbf.openDatabase();
+
+        try {
+            OClass oClass = db.getMetadata().getSchema().getClass(className);
+
+            if (oClass != null) {
+                for (OIndex<?> index : oClass.getIndexes()) {
+                    if (index.isUnique() && fields.containsAll(index.getDefinition().getFields())) {
+                        return true;
+                    }
+                }
+            }
+
+            return false;
+        } finally {
+            db.close();
+        }
+    }
+
     @Override
     public OSecurityUser getUser() {
         return dbf.db().getUser();
@@ -600,39 +1110,90 @@ public abstract class AbstractOrientOperations<T> implements OrientOperations<T>
 
     @Override
     public <RET extends List<?>> RET query(OQuery<?> query, Object... args) {
-        return dbf.db().query(query, args);
+        String text = query instanceof OSQLQuery ? ((OSQLQuery<?>) query).getText() : query.toString();
+
+        return monitored("query", text, query.getFetchPlan(), args, () -> dbf.db().query(query, args));
     }
 
     @Override
     public <RET extends List<?>> RET query(OQuery<?> query, DetachMode detachMode, Object... args) {
-        RET result = query(query, args);
+        OrientSingleFlight flight = singleFlight;
 
-        switch (detachMode) {
-            case ENTITY:
-                return detach(result);
-            case ALL:
-                return detachAll(result);
-            case NONE:
-                default:
-                    break;
+        // attached entities belong to the session of the caller, as do the pending changes of its transaction
+        if (flight == null || detachMode == DetachMode.NONE || query.getClass() != OSQLSynchQuery.class || getTransaction().getEntryCount() > 0) {
+            return doQuery(query, detachMode, args);
+        }
+
+        return flight.execute(new QueryKey((OSQLQuery<?>) query, detachMode, args), () -> doQuery(query, detachMode, args), this::copyAll);
+    }
+
+    /**
+     * Executes the given query and detaches its entities.
+     *
+     * @param query the query
+     * @param detachMode the detach mode
+     * @param args the arguments
+     * @return the entities
+     */
+    protected <RET extends List<?>> RET doQuery(OQuery<?> query, DetachMode detachMode, Object... args) {
+        RET result = query(query, args);
+        long start = System.nanoTime();
+        Object event = OrientFlightRecorder.beginDetach();
+
+        try {
+            switch (detachMode) {
+                case ENTITY:
+                    return detach(result);
+                case ALL:
+                    return detachAll(result);
+                case NONE:
+                    default:
+                        break;
+            }
+        } finally {
+            OrientInvocation.recordDetach(detachMode, System.nanoTime() - start);
+            OrientFlightRecorder.commitDetach(event, detachMode, result);
         }
 
         return result;
     }
 
+    @Override
+    public <RET> RET copy(RET entity) {
+        return EntityCopier.copy(entity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <RET extends List<?>> RET copyAll(RET entities) {
+        List<Object> result = new ArrayList<>(entities.size());
+
+        for (Object entity : entities) {
+            result.add(entity == null ? null : copy(entity));
+        }
+
+        return (RET) result;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <RET> RET queryForObject(OSQLQuery<?> query, DetachMode detachMode, Object... args) {
         RET result = queryForObject(query, args);
-
-        switch (detachMode) {
-            case ENTITY:
-                return detach(result);
-            case ALL:
-                return detachAll(result);
-            case NONE:
-                default:
-                    break;
+        long start = System.nanoTime();
+        Object event = OrientFlightRecorder.beginDetach();
+
+        try {
+            switch (detachMode) {
+                case ENTITY:
+                    return detach(result);
+                case ALL:
+                    return detachAll(result);
+                case NONE:
+                    default:
+                        break;
+            }
+        } finally {
+            OrientInvocation.recordDetach(detachMode, System.nanoTime() - start);
+            OrientFlightRecorder.commitDetach(event, detachMode, result);
         }
 
         return result;
@@ -644,19 +1205,197 @@ public abstract class AbstractOrientOperations<T> implements OrientOperations<T>
         return (RET)query(query, args).get(0);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <RET> CloseableIterator<RET> stream(OSQLQuery<?> query, DetachMode detachMode, Object... args) {
+        return stream(query, result -> {
+            Object entity = toEntity(result);
+
+            switch (detachMode) {
+                case ENTITY:
+                    return (RET) detach(entity);
+                case ALL:
+                    return (RET) detachAll(entity);
+                case NONE:
+                default:
+                    return (RET) entity;
+            }
+        }, args);
+    }
+
+    @Override
+    public <RET> CloseableIterator<RET> stream(OSQLQuery<?> query, Function<OResult, RET> mapper, Object... args) {
+        // the iterator holds its own acquisition of the session, so the session outlives the transaction of the caller
+        ODatabase<T> db = dbf.openDatabase();
+        String sql = query.getText();
+        OrientStatementStatistics statistics = statementStatistics;
+        long start = System.nanoTime();
+
+        try {
+            // the statistics are recorded once the rows are read, with their number and the time spent fetching them
+            OResultSet resultSet = monitored("query", sql, null, args, null, () -> db.query(sql, args));
+            long openTime = System.nanoTime() - start;
+
+            return new OrientResultSetIterator<>(resultSet, mapper, db::close, (rows, fetchTime, failed) -> {
+                if (statistics == null) {
+                    return;
+                }
+
+                if (failed) {
+                    statistics.recordError(sql, openTime + fetchTime);
+                } else {
+                    statistics.record(sql, rows, openTime + fetchTime);
+                }
+            });
+        } catch (RuntimeException e) {
+            if (statistics != null) {
+                statistics.recordError(sql, System.nanoTime() - start);
+            }
+
+            db.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Converts a result of a lazily executed query into the entity returned to the caller.
+     *
+     * @param result the result
+     * @return the entity
+     */
+    protected Object toEntity(OResult result) {
+        return result.toElement();
+    }
+
     @Override
     public <RET extends OCommandRequest> RET command(OCommandRequest command) {
-        return dbf.db().command(command);
+        return cacheAwareDb().command(command);
     }
 
     @Override
     public <RET> RET command(OCommandSQL command, Object... args) {
-        return dbf.db().command(command).execute(args);
+        return monitored("command", command.getText(), null, args, () -> cacheAwareDb().command(command).execute(args));
     }
 
     @Override
     public <RET> RET command(String sql, Object... args) {
-        return dbf.db().command(new OCommandSQL(sql)).execute(args);
+        return monitored("command", sql, null, args, () -> cacheAwareDb().command(new OCommandSQL(sql)).execute(args));
+    }
+
+    /**
+     * Runs the given statement, logging it if it is slow, recording it to the statement statistics, tracing it and
+     * emitting a Flight Recorder event if enabled.
+     *
+     * @param operation the operation, i.e. query, count or command
+     * @param sql the statement
+     * @param fetchPlan the fetch plan, {@literal null} if none
+     * @param args the bound parameters
+     * @param action the action running the statement
+     * @return the result
+     */
+    private <RET> RET monitored(String operation, String sql, String fetchPlan, Object[] args, Supplier<RET> action) {
+        return monitored(operation, sql, fetchPlan, args, statementStatistics, action);
+    }
+
+    /**
+     * Runs the given statement as {@link #monitored(String, String, String, Object[], Supplier)} does, recording it to
+     * the given statement statistics.
+     *
+     * @param operation the operation, i.e. query, count or command
+     * @param sql the statement
+     * @param fetchPlan the fetch plan, {@literal null} if none
+     * @param args the bound parameters
+     * @param statistics the statement statistics, {@literal null} to not record the statement
+     * @param action the action running the statement
+     * @return the result
+     */
+    private <RET> RET monitored(String operation, String sql, String fetchPlan, Object[] args, OrientStatementStatistics statistics, Supplier<RET> action) {
+        OrientSlowQueryLog log = slowQueryLog;
+        OrientTracer tracer = this.tracer;
+        Object event = OrientFlightRecorder.beginStatement();
+
+        if (log == null && statistics == null && tracer == null && event == null) {
+            return action.get();
+        }
+
+        OrientTracer.Operation span = tracer == null ? null : tracer.start(operation, dbf.db().getName(), OrientStatementStatistics.fingerprint(sql));
+        long start = System.nanoTime();
+        RET result;
+
+        if (span != null && fetchPlan != null) {
+            span.setFetchPlan(fetchPlan);
+        }
+
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            if (statistics != null) {
+                statistics.recordError(sql, System.nanoTime() - start);
+            }
+
+            OrientFlightRecorder.commitStatement(event, sql, -1, true);
+
+            if (span != null) {
+                span.end(e);
+            }
+
+            throw e;
+        }
+
+        long elapsed = System.nanoTime() - start;
+        int rows = result instanceof Collection ? ((Collection<?>) result).size() : result instanceof Number ? ((Number) result).intValue() : -1;
+
+        OrientFlightRecorder.commitStatement(event, sql, rows, false);
+
+        if (span != null) {
+            span.setRows(rows);
+            span.end(null);
+        }
+
+        if (statistics != null) {
+            statistics.record(sql, rows, elapsed);
+        }
+
+        if (log != null && log.isSlow(elapsed)) {
+            log.log(dbf.db(), sql, args, rows, elapsed);
+        }
+
+        return result;
+    }
+
+    /**
+     * Runs the given load or save, tracing it if a tracer is set.
+     *
+     * @param operation the operation, i.e. load or save
+     * @param fetchPlan the fetch plan, {@literal null} if none
+     * @param action the action
+     * @return the loaded or saved entity
+     */
+    private <RET> RET traced(String operation, String fetchPlan, Supplier<RET> action) {
+        OrientTracer tracer = this.tracer;
+
+        if (tracer == null) {
+            return action.get();
+        }
+
+        OrientTracer.Operation span = tracer.start(operation, dbf.db().getName(), null);
+        RET result;
+
+        if (fetchPlan != null) {
+            span.setFetchPlan(fetchPlan);
+        }
+
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            span.end(e);
+            throw e;
+        }
+
+        span.setRows(result == null ? 0 : 1);
+        span.end(null);
+
+        return result;
     }
 
     public boolean equals(Object other) {
@@ -670,4 +1409,49 @@ public abstract class AbstractOrientOperations<T> implements OrientOperations<T>
 	public OrientConverter getConverter() {
 		return this.orientConverter;
 	}
+
+    /**
+     * The key of a query, its text with its limit, fetch plan, detach mode and arguments.
+     */
+    private static final class QueryKey {
+
+        private final String text;
+
+        private final int limit;
+
+        private final String fetchPlan;
+
+        private final DetachMode detachMode;
+
+        private final Object[] args;
+
+        QueryKey(OSQLQuery<?> query, DetachMode detachMode, Object[] args) {
+            this.text = query.getText();
+            this.limit = query.getLimit();
+            this.fetchPlan = query.getFetchPlan();
+            this.detachMode = detachMode;
+            this.args = args;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (!(obj instanceof QueryKey)) {
+                return false;
+            }
+
+            QueryKey other = (QueryKey) obj;
+
+            return text.equals(other.text) && limit == other.limit && ObjectUtils.nullSafeEquals(fetchPlan, other.fetchPlan) 
+                    && detachMode == other.detachMode && Arrays.deepEquals(args, other.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * text.hashCode() + Arrays.deepHashCode(args);
+        }
+    }
 }
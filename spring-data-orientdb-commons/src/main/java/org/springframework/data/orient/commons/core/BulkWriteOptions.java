@@ -0,0 +1,148 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options of a bulk write executed with {@link OrientOperations#bulkSave(Iterable, BulkWriteOptions)}.
+ */
+public final class BulkWriteOptions {
+
+    /** The default number of entities written per chunk. */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /** The number of entities written and committed together. */
+    private final int chunkSize;
+
+    /** Whether to write every chunk in its own transaction. */
+    private final boolean transactional;
+
+    /** Whether to declare the massive insert intent. */
+    private final boolean massiveInsert;
+
+    /** The clusters to write to, empty for the default cluster of the class. */
+    private final List<String> clusters;
+
+    /** The number of database sessions writing concurrently. */
+    private final int parallelism;
+
+    private BulkWriteOptions(int chunkSize, boolean transactional, boolean massiveInsert, List<String> clusters, int parallelism) {
+        Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero!");
+        Assert.notNull(clusters, "Clusters must not be null!");
+        Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero!");
+
+        this.chunkSize = chunkSize;
+        this.transactional = transactional;
+        this.massiveInsert = massiveInsert;
+        this.clusters = Collections.unmodifiableList(new ArrayList<>(clusters));
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates the default options: chunks of {@value #DEFAULT_CHUNK_SIZE} entities, each committed in its own
+     * transaction, with the massive insert intent declared, written by the calling thread.
+     *
+     * @return the options
+     */
+    public static BulkWriteOptions defaults() {
+        return new BulkWriteOptions(DEFAULT_CHUNK_SIZE, true, true, Collections.<String> emptyList(), 1);
+    }
+
+    /**
+     * Returns a copy of these options writing chunks of the given size.
+     *
+     * @param chunkSize the chunk size
+     * @return the options
+     */
+    public BulkWriteOptions withChunkSize(int chunkSize) {
+        return new BulkWriteOptions(chunkSize, transactional, massiveInsert, clusters, parallelism);
+    }
+
+    /**
+     * Returns a copy of these options writing to the given cluster.
+     *
+     * @param cluster the cluster name
+     * @return the options
+     */
+    public BulkWriteOptions withCluster(String cluster) {
+        Assert.hasText(cluster, "Cluster must not be empty!");
+
+        return withClusters(Collections.singletonList(cluster));
+    }
+
+    /**
+     * Returns a copy of these options writing to the given clusters. The clusters are assigned round robin to the
+     * chunks, or to the workers of a parallel write.
+     *
+     * @param clusters the cluster names
+     * @return the options
+     */
+    public BulkWriteOptions withClusters(List<String> clusters) {
+        return new BulkWriteOptions(chunkSize, transactional, massiveInsert, clusters, parallelism);
+    }
+
+    /**
+     * Returns a copy of these options writing the chunks concurrently on the given number of database sessions taken
+     * from the pool. Every session writes to its own cluster if there are enough clusters, so the writers don't
+     * contend for the same cluster. The order in which the chunks are written is not defined.
+     *
+     * @param parallelism the number of concurrent sessions
+     * @return the options
+     */
+    public BulkWriteOptions withParallelism(int parallelism) {
+        return new BulkWriteOptions(chunkSize, transactional, massiveInsert, clusters, parallelism);
+    }
+
+    /**
+     * Returns a copy of these options writing every entity directly instead of collecting the chunks in transactions.
+     * This avoids building the transaction log in memory, but a failing chunk may be written in part.
+     *
+     * @return the options
+     */
+    public BulkWriteOptions withoutTransaction() {
+        return new BulkWriteOptions(chunkSize, false, massiveInsert, clusters, parallelism);
+    }
+
+    /**
+     * Returns a copy of these options not declaring the massive insert intent, so that validation, security checks
+     * and record hooks stay enabled.
+     *
+     * @return the options
+     */
+    public BulkWriteOptions withoutMassiveInsert() {
+        return new BulkWriteOptions(chunkSize, transactional, false, clusters, parallelism);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public boolean isTransactional() {
+        return transactional;
+    }
+
+    public boolean isMassiveInsert() {
+        return massiveInsert;
+    }
+
+    public List<String> getClusters() {
+        return clusters;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public boolean isParallel() {
+        return parallelism > 1;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkWriteOptions [chunkSize=" + chunkSize + ", transactional=" + transactional + ", massiveInsert="
+                + massiveInsert + ", clusters=" + clusters + ", parallelism=" + parallelism + "]";
+    }
+}
@@ -0,0 +1,108 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The outcome of a bulk write: the number of written entities, the throughput and the chunks that failed.
+ */
+public final class BulkWriteResult {
+
+    /** The number of written entities. */
+    private final long written;
+
+    /** The elapsed time in nanoseconds. */
+    private final long elapsedNanos;
+
+    /** The failed chunks. */
+    private final List<FailedChunk> failedChunks;
+
+    /**
+     * Instantiates a new {@link BulkWriteResult}.
+     *
+     * @param written the number of written entities
+     * @param elapsedNanos the elapsed time in nanoseconds
+     * @param failedChunks the failed chunks
+     */
+    public BulkWriteResult(long written, long elapsedNanos, List<FailedChunk> failedChunks) {
+        this.written = written;
+        this.elapsedNanos = elapsedNanos;
+        this.failedChunks = Collections.unmodifiableList(new ArrayList<>(failedChunks));
+    }
+
+    public long getWritten() {
+        return written;
+    }
+
+    public long getElapsed(TimeUnit unit) {
+        return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the throughput.
+     *
+     * @return the written entities per second
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : written * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    public List<FailedChunk> getFailedChunks() {
+        return failedChunks;
+    }
+
+    /**
+     * Checks if all chunks were written.
+     *
+     * @return true, if no chunk failed
+     */
+    public boolean isSuccessful() {
+        return failedChunks.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "BulkWriteResult [written=" + written + ", elapsedMillis=" + getElapsed(TimeUnit.MILLISECONDS)
+                + ", throughput=" + Math.round(getThroughput()) + "/s, failedChunks=" + failedChunks.size() + "]";
+    }
+
+    /**
+     * A chunk that could not be written.
+     */
+    public static final class FailedChunk {
+
+        /** The index of the chunk, starting at zero. */
+        private final int index;
+
+        /** The number of entities of the chunk. */
+        private final int size;
+
+        /** The cause of the failure. */
+        private final RuntimeException cause;
+
+        public FailedChunk(int index, int size, RuntimeException cause) {
+            this.index = index;
+            this.size = size;
+            this.cause = cause;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public RuntimeException getCause() {
+            return cause;
+        }
+
+        @Override
+        public String toString() {
+            return "FailedChunk [index=" + index + ", size=" + size + ", cause=" + cause + "]";
+        }
+    }
+}
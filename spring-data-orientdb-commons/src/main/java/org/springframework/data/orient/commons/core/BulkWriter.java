@@ -0,0 +1,296 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.orient.commons.core.BulkWriteResult.FailedChunk;
+import org.springframework.util.Assert;
+
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
+
+/**
+ * Writes entities in chunks as described by {@link BulkWriteOptions}.
+ * <p>
+ * With a parallelism of one the chunks are written by the calling thread on its database. Otherwise the calling thread
+ * only splits the input into chunks and hands them to worker threads through a bounded queue. Every worker acquires
+ * its own database from the pool and writes to its own cluster, so the workers don't contend for the cluster locks.
+ *
+ * @param <T> the type of the entities
+ */
+class BulkWriter<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkWriter.class);
+
+    /** The number of chunks queued per worker before the input is throttled. */
+    private static final int QUEUED_CHUNKS_PER_WORKER = 2;
+
+    /** The database factory. */
+    private final OrientDatabaseFactory<T> dbf;
+
+    /** The options. */
+    private final BulkWriteOptions options;
+
+    /**
+     * Instantiates a new {@link BulkWriter}.
+     *
+     * @param dbf the database factory
+     * @param options the options
+     */
+    BulkWriter(OrientDatabaseFactory<T> dbf, BulkWriteOptions options) {
+        Assert.isTrue(options.getParallelism() < dbf.getMaxPoolSize(), "Parallelism must be less than the max pool size!");
+
+        this.dbf = dbf;
+        this.options = options;
+    }
+
+    /**
+     * Writes the given entities.
+     *
+     * @param entities the entities
+     * @return the result
+     */
+    BulkWriteResult write(Iterable<? extends T> entities) {
+        long start = System.nanoTime();
+        List<FailedChunk> failedChunks = Collections.synchronizedList(new ArrayList<>());
+
+        long written = options.isParallel() ? writeParallel(entities, failedChunks) : writeSerial(entities, failedChunks);
+
+        return new BulkWriteResult(written, System.nanoTime() - start, failedChunks);
+    }
+
+    private long writeSerial(Iterable<? extends T> entities, List<FailedChunk> failedChunks) {
+        ODatabase<T> db = dbf.db();
+        long written = 0;
+
+        beginIntent(db);
+
+        try {
+            int index = 0;
+            List<T> chunk = new ArrayList<>(options.getChunkSize());
+
+            for (T entity : entities) {
+                chunk.add(entity);
+
+                if (chunk.size() == options.getChunkSize()) {
+                    written += writeChunk(db, new Chunk<>(index, chunk), getCluster(index), failedChunks);
+                    chunk = new ArrayList<>(options.getChunkSize());
+                    index++;
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                written += writeChunk(db, new Chunk<>(index, chunk), getCluster(index), failedChunks);
+            }
+        } finally {
+            endIntent(db);
+        }
+
+        return written;
+    }
+
+    private long writeParallel(Iterable<? extends T> entities, List<FailedChunk> failedChunks) {
+        int workers = options.getParallelism();
+        BlockingQueue<Chunk<T>> queue = new ArrayBlockingQueue<>(workers * QUEUED_CHUNKS_PER_WORKER);
+        ExecutorService executor = Executors.newFixedThreadPool(workers, new WorkerThreadFactory());
+
+        try {
+            List<Future<Long>> futures = new ArrayList<>(workers);
+
+            for (int i = 0; i < workers; i++) {
+                String cluster = getCluster(i);
+                futures.add(executor.submit(() -> runWorker(queue, cluster, failedChunks)));
+            }
+
+            try {
+                produce(entities, queue);
+            } finally {
+                for (int i = 0; i < workers; i++) {
+                    put(queue, Chunk.<T> last());
+                }
+            }
+
+            long written = 0;
+
+            for (Future<Long> future : futures) {
+                written += future.get();
+            }
+
+            return written;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the bulk write workers!", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Bulk write worker failed!", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void produce(Iterable<? extends T> entities, BlockingQueue<Chunk<T>> queue) {
+        int index = 0;
+        List<T> chunk = new ArrayList<>(options.getChunkSize());
+
+        for (T entity : entities) {
+            chunk.add(entity);
+
+            if (chunk.size() == options.getChunkSize()) {
+                put(queue, new Chunk<>(index++, chunk));
+                chunk = new ArrayList<>(options.getChunkSize());
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            put(queue, new Chunk<>(index, chunk));
+        }
+    }
+
+    private long runWorker(BlockingQueue<Chunk<T>> queue, String cluster, List<FailedChunk> failedChunks) throws InterruptedException {
+        ODatabase<T> db = null;
+        RuntimeException openFailure = null;
+        long written = 0;
+
+        try {
+            db = dbf.openDatabase();
+            db.activateOnCurrentThread();
+            beginIntent(db);
+        } catch (RuntimeException e) {
+            log.error("Bulk write worker could not open the database", e);
+            openFailure = e;
+        }
+
+        try {
+            // keep draining the queue on failure, so the producer is never blocked
+            for (Chunk<T> chunk = queue.take(); !chunk.isLast(); chunk = queue.take()) {
+                if (openFailure != null) {
+                    failedChunks.add(new FailedChunk(chunk.index, chunk.entities.size(), openFailure));
+                } else {
+                    written += writeChunk(db, chunk, cluster, failedChunks);
+                }
+            }
+        } finally {
+            if (db != null) {
+                endIntent(db);
+                db.close();
+                ODatabaseRecordThreadLocal.instance().remove();
+            }
+        }
+
+        return written;
+    }
+
+    private int writeChunk(ODatabase<T> db, Chunk<T> chunk, String cluster, List<FailedChunk> failedChunks) {
+        try {
+            if (options.isTransactional()) {
+                db.begin();
+            }
+
+            for (T entity : chunk.entities) {
+                if (cluster == null) {
+                    db.save(entity);
+                } else {
+                    db.save(entity, cluster);
+                }
+            }
+
+            if (options.isTransactional()) {
+                db.commit();
+            }
+
+            return chunk.entities.size();
+        } catch (RuntimeException e) {
+            if (options.isTransactional()) {
+                db.rollback();
+            }
+
+            log.warn("Bulk write of chunk {} failed", chunk.index, e);
+            failedChunks.add(new FailedChunk(chunk.index, chunk.entities.size(), e));
+
+            return 0;
+        }
+    }
+
+    /**
+     * Gets the cluster of the given chunk or worker, the clusters are assigned round robin.
+     */
+    private String getCluster(int index) {
+        List<String> clusters = options.getClusters();
+
+        return clusters.isEmpty() ? null : clusters.get(index % clusters.size());
+    }
+
+    private void beginIntent(ODatabase<T> db) {
+        if (options.isMassiveInsert()) {
+            db.declareIntent(new OIntentMassiveInsert());
+        }
+    }
+
+    private void endIntent(ODatabase<T> db) {
+        if (options.isMassiveInsert()) {
+            db.declareIntent(null);
+        }
+    }
+
+    private static <T> void put(BlockingQueue<Chunk<T>> queue, Chunk<T> chunk) {
+        try {
+            queue.put(chunk);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing a bulk write chunk!", e);
+        }
+    }
+
+    /**
+     * A chunk of entities with its position in the input.
+     */
+    private static final class Chunk<T> {
+
+        private final int index;
+
+        private final List<T> entities;
+
+        Chunk(int index, List<T> entities) {
+            this.index = index;
+            this.entities = entities;
+        }
+
+        static <T> Chunk<T> last() {
+            return new Chunk<>(-1, null);
+        }
+
+        boolean isLast() {
+            return entities == null;
+        }
+    }
+
+    /**
+     * Creates named daemon threads for the workers.
+     */
+    private static final class WorkerThreadFactory implements java.util.concurrent.ThreadFactory {
+
+        private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+
+        private final int pool = POOL_COUNTER.incrementAndGet();
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "orient-bulk-writer-" + pool + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package org.springframework.data.orient.commons.core;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import com.orientechnologies.orient.core.id.ORID;
+
+/**
+ * Copies the graph of a detached entity: the entities it refers to, its collections, maps and arrays are copied too,
+ * so callers sharing a result share none of its mutable instances. An instance referred to several times in the graph
+ * is copied once, which keeps cycles and shared references intact. Simple values, record ids, other JDK types and
+ * objects without a default constructor are immutable or not entities, they are shared.
+ * <p>
+ * A final field keeps the instance the default constructor assigned to it, so its collection, map, array or entity is
+ * filled with the copied contents instead. A copy that cannot keep the contents of a final field is refused with an
+ * {@link IllegalStateException}.
+ */
+final class EntityCopier {
+
+    /** The copies by original instance. */
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+    private EntityCopier() {
+    }
+
+    /**
+     * Copies the given detached entity and the graph it refers to.
+     *
+     * @param entity the detached entity
+     * @return the copy
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T copy(T entity) {
+        return (T) new EntityCopier().copyValue(entity);
+    }
+
+    private Object copyValue(Object value) {
+        if (value == null || isShared(value.getClass())) {
+            return value;
+        }
+
+        Object copy = copies.get(value);
+
+        if (copy != null) {
+            return copy;
+        }
+
+        if (value instanceof Date) {
+            copy = ((Date) value).clone();
+            copies.put(value, copy);
+        } else if (value.getClass().isArray()) {
+            copy = copyArray(value);
+        } else if (value instanceof Collection) {
+            copy = copyCollection((Collection<?>) value);
+        } else if (value instanceof Map) {
+            copy = copyMap((Map<?, ?>) value);
+        } else if (hasDefaultConstructor(value.getClass())) {
+            copy = copyFields(value);
+        } else {
+            return value;
+        }
+
+        return copy;
+    }
+
+    private Object copyArray(Object array) {
+        int length = Array.getLength(array);
+        Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        copies.put(array, copy);
+
+        for (int i = 0; i < length; i++) {
+            Array.set(copy, i, copyValue(Array.get(array, i)));
+        }
+
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object copyCollection(Collection<?> collection) {
+        Collection<Object> copy = (Collection<Object>) newInstance(collection);
+
+        if (copy == null) {
+            if (collection instanceof SortedSet) {
+                copy = new TreeSet<>(((SortedSet<Object>) collection).comparator());
+            } else if (collection instanceof Set) {
+                copy = new LinkedHashSet<>(collection.size());
+            } else {
+                copy = new ArrayList<>(collection.size());
+            }
+        }
+
+        copies.put(collection, copy);
+
+        for (Object element : collection) {
+            copy.add(copyValue(element));
+        }
+
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object copyMap(Map<?, ?> map) {
+        Map<Object, Object> copy = (Map<Object, Object>) newInstance(map);
+
+        if (copy == null) {
+            copy = map instanceof SortedMap ? new TreeMap<>(((SortedMap<Object, Object>) map).comparator()) : new LinkedHashMap<>(map.size());
+        }
+
+        copies.put(map, copy);
+
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            copy.put(entry.getKey(), copyValue(entry.getValue()));
+        }
+
+        return copy;
+    }
+
+    private Object copyFields(Object entity) {
+        Object copy = BeanUtils.instantiateClass(entity.getClass());
+        copies.put(entity, copy);
+        copyFields(entity, copy);
+
+        return copy;
+    }
+
+    private void copyFields(Object entity, Object copy) {
+        ReflectionUtils.doWithFields(entity.getClass(), field -> {
+            ReflectionUtils.makeAccessible(field);
+
+            if (Modifier.isFinal(field.getModifiers())) {
+                copyFinalField(field, field.get(entity), field.get(copy));
+            } else {
+                field.set(copy, copyValue(field.get(entity)));
+            }
+        }, field -> !Modifier.isStatic(field.getModifiers()));
+    }
+
+    /**
+     * Fills the instance the constructor assigned to a final field of the copy with the copied contents of the value
+     * of the original. Immutable values are left as the constructor assigned them, so is an instance the constructor
+     * assigned to every entity.
+     *
+     * @param field the final field
+     * @param value the value of the original
+     * @param target the value of the copy
+     */
+    @SuppressWarnings("unchecked")
+    private void copyFinalField(Field field, Object value, Object target) {
+        if (value == null || value == target || isShared(value.getClass())) {
+            return;
+        }
+
+        if (target instanceof Collection && value instanceof Collection) {
+            Collection<Object> collection = (Collection<Object>) target;
+            copies.put(value, collection);
+
+            try {
+                collection.clear();
+
+                for (Object element : (Collection<?>) value) {
+                    collection.add(copyValue(element));
+                }
+            } catch (UnsupportedOperationException e) {
+                throw notCopyable(field, e);
+            }
+        } else if (target instanceof Map && value instanceof Map) {
+            Map<Object, Object> map = (Map<Object, Object>) target;
+            copies.put(value, map);
+
+            try {
+                map.clear();
+
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    map.put(entry.getKey(), copyValue(entry.getValue()));
+                }
+            } catch (UnsupportedOperationException e) {
+                throw notCopyable(field, e);
+            }
+        } else if (target instanceof Date && value instanceof Date) {
+            ((Date) target).setTime(((Date) value).getTime());
+        } else if (target != null && target.getClass().isArray() && target.getClass() == value.getClass()
+                && Array.getLength(target) == Array.getLength(value)) {
+            copies.put(value, target);
+
+            for (int i = 0; i < Array.getLength(value); i++) {
+                Array.set(target, i, copyValue(Array.get(value, i)));
+            }
+        } else if (target != null && target.getClass() == value.getClass() && hasDefaultConstructor(value.getClass())) {
+            copies.put(value, target);
+            copyFields(value, target);
+        } else {
+            throw notCopyable(field, null);
+        }
+    }
+
+    private IllegalStateException notCopyable(Field field, Exception cause) {
+        return new IllegalStateException(String.format("Cannot copy the final field %s, the instance its constructor assigns cannot hold the value! "
+                + "Make the field non-final or assign it a modifiable instance.", field), cause);
+    }
+
+    /**
+     * Creates an empty instance of the class of the given collection or map if it is a JDK class with a default
+     * constructor, e.g. a {@link java.util.LinkedList}, so the copy still fits the field it is assigned to. The
+     * collections of the database or unmodifiable ones are replaced by the nearest standard one.
+     *
+     * @param value the collection or map
+     * @return the empty instance, {@literal null} if the class is not one of those
+     */
+    private Object newInstance(Object value) {
+        Class<?> type = value.getClass();
+
+        if (type.getName().startsWith("java.util.") && Modifier.isPublic(type.getModifiers()) && ClassUtils.hasConstructor(type)) {
+            return BeanUtils.instantiateClass(type);
+        }
+
+        return null;
+    }
+
+    private boolean hasDefaultConstructor(Class<?> type) {
+        try {
+            type.getDeclaredConstructor();
+            return !Modifier.isAbstract(type.getModifiers());
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private boolean isShared(Class<?> type) {
+        if (type.isPrimitive() || type.isEnum() || ORID.class.isAssignableFrom(type)) {
+            return true;
+        }
+
+        if (BeanUtils.isSimpleValueType(type)) {
+            return !Date.class.isAssignableFrom(type);
+        }
+
+        return type.getName().startsWith("java.") && !type.isArray() && !Collection.class.isAssignableFrom(type)
+                && !Map.class.isAssignableFrom(type) && !Date.class.isAssignableFrom(type);
+    }
+}
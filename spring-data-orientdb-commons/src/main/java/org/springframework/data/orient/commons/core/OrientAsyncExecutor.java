@@ -0,0 +1,216 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.util.Assert;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+
+/**
+ * Runs database work asynchronously on a bounded executor, e.g. the query methods returning a
+ * {@link CompletableFuture}.
+ * <p>
+ * Every task acquires its own pooled session on the executor thread and releases it when it is done, so the number of
+ * sessions in use is bounded by the number of executor threads. Independent queries can be fanned out with
+ * {@link #submitAll(List)} and joined with {@link #all(List)}.
+ */
+public class OrientAsyncExecutor implements DisposableBean {
+
+    /** The executor. */
+    private final Executor executor;
+
+    /** Whether the executor was created by this instance. */
+    private final boolean ownExecutor;
+
+    /** The decorator of the tasks, {@literal null} if they run as submitted. */
+    private volatile TaskDecorator taskDecorator;
+
+    /**
+     * Instantiates a new {@link OrientAsyncExecutor} with a fixed number of threads. The pool should have more
+     * connections than the executor has threads.
+     *
+     * @param poolSize the number of threads
+     */
+    public OrientAsyncExecutor(int poolSize) {
+        this(Executors.newFixedThreadPool(poolSize, new AsyncThreadFactory()), true);
+    }
+
+    /**
+     * Instantiates a new {@link OrientAsyncExecutor} on the given executor, e.g. one running every task on a virtual
+     * thread. The executor must be dedicated to database work, since the session bound to the thread is closed after
+     * every task, and it is not shut down by this instance.
+     *
+     * @param executor the executor
+     */
+    public OrientAsyncExecutor(Executor executor) {
+        this(executor, false);
+    }
+
+    private OrientAsyncExecutor(Executor executor, boolean ownExecutor) {
+        Assert.notNull(executor, "Executor must not be null!");
+
+        this.executor = executor;
+        this.ownExecutor = ownExecutor;
+    }
+
+    /**
+     * Runs the given action asynchronously.
+     *
+     * @param action the action
+     * @param <R> the type of the result
+     * @return the future result
+     */
+    public <R> CompletableFuture<R> submit(Supplier<R> action) {
+        Assert.notNull(action, "Action must not be null!");
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return action.get();
+            } finally {
+                releaseDatabase();
+            }
+        }, this::execute);
+    }
+
+    /**
+     * Sets the decorator of the submitted tasks, e.g. to propagate the trace context of the submitting thread.
+     *
+     * @param taskDecorator the task decorator, {@literal null} to run the tasks as submitted
+     */
+    public void setTaskDecorator(TaskDecorator taskDecorator) {
+        this.taskDecorator = taskDecorator;
+    }
+
+    private void execute(Runnable task) {
+        TaskDecorator decorator = taskDecorator;
+
+        executor.execute(decorator == null ? task : decorator.decorate(task));
+    }
+
+    /**
+     * Runs the given independent actions concurrently.
+     *
+     * @param actions the actions
+     * @param <R> the type of the results
+     * @return the future results in the order of the actions
+     */
+    public <R> CompletableFuture<List<R>> submitAll(List<? extends Supplier<? extends R>> actions) {
+        List<CompletableFuture<? extends R>> futures = new ArrayList<>(actions.size());
+
+        for (Supplier<? extends R> action : actions) {
+            futures.add(submit(action));
+        }
+
+        return all(futures);
+    }
+
+    /**
+     * Combines the given futures into one completing with all results, or with the first failure.
+     *
+     * @param futures the futures
+     * @param <R> the type of the results
+     * @return the future results in the order of the futures
+     */
+    public static <R> CompletableFuture<List<R>> all(List<? extends CompletableFuture<? extends R>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            List<R> results = new ArrayList<>(futures.size());
+
+            for (CompletableFuture<? extends R> future : futures) {
+                results.add(future.join());
+            }
+
+            return results;
+        });
+    }
+
+    /**
+     * Waits for the given future and returns its result. Unlike {@link CompletableFuture#join()} a failure is rethrown
+     * as is instead of wrapped, so callers see the same exceptions as for a synchronous call.
+     *
+     * @param future the future
+     * @param <R> the type of the result
+     * @return the result
+     */
+    public static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an asynchronous result!", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null ? e.getCause().getCause() : e.getCause();
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Closes the session the task left bound to the executor thread, returning it to the pool. A transaction left
+     * open by the task is rolled back.
+     */
+    private static void releaseDatabase() {
+        ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
+
+        if (db != null) {
+            if (!db.isClosed()) {
+                if (db.getTransaction().isActive()) {
+                    db.rollback();
+                }
+
+                // a pooled session is only returned to the pool by its owner, e.g. the object database wrapping it
+                db.getDatabaseOwner().close();
+            }
+
+            ODatabaseRecordThreadLocal.instance().remove();
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.beans.factory.DisposableBean#destroy()
+     */
+    @Override
+    public void destroy() {
+        if (ownExecutor) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    /**
+     * Creates named daemon threads.
+     */
+    private static final class AsyncThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+
+        private final int pool = POOL_COUNTER.incrementAndGet();
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "orient-async-" + pool + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.util.Assert;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+
+/**
+ * Coalesces concurrent single record loads into one query, e.g. the loads of the resolvers of a GraphQL response. The
+ * record ids requested within the window after the first one, or until the max batch size is reached, are loaded with
+ * one {@code select from [#x:y, ...]} on the {@link OrientAsyncExecutor} of the operations, and the future of every
+ * caller completes with its own entity, or with {@literal null} if the record does not exist.
+ * <p>
+ * The entities are loaded detached in a session of their own, so they do not include changes of the caller's
+ * transaction that are not committed yet.
+ */
+public class OrientBatchLoader implements DisposableBean {
+
+    /** The counter of the loaders, naming their threads. */
+    private static final AtomicInteger LOADER_COUNTER = new AtomicInteger();
+
+    /** The window in nanoseconds. */
+    private final long window;
+
+    /** The max number of record ids loaded by one query. */
+    private final int maxBatchSize;
+
+    /** The scheduler dispatching the batches once their window has passed. */
+    private final ScheduledExecutorService scheduler;
+
+    /** The open batches by operations. */
+    private final Map<OrientOperations<?>, Batch> batches = new HashMap<>();
+
+    /** The count of dispatched batches. */
+    private final AtomicLong batchCount = new AtomicLong();
+
+    /** The count of loads. */
+    private final AtomicLong loadCount = new AtomicLong();
+
+    /**
+     * Instantiates a new {@link OrientBatchLoader}.
+     *
+     * @param window the time the first load of a batch waits for others
+     * @param unit the unit of the window
+     * @param maxBatchSize the max number of record ids loaded by one query
+     */
+    public OrientBatchLoader(long window, TimeUnit unit, int maxBatchSize) {
+        Assert.isTrue(window >= 0, "Window must not be negative!");
+        Assert.notNull(unit, "Unit must not be null!");
+        Assert.isTrue(maxBatchSize > 0, "Max batch size must be greater than zero!");
+
+        this.window = unit.toNanos(window);
+        this.maxBatchSize = maxBatchSize;
+
+        int loader = LOADER_COUNTER.incrementAndGet();
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "orient-batch-" + loader);
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    /**
+     * Loads the record with the given id together with the records other callers request within the window.
+     *
+     * @param operations the operations loading the records
+     * @param recordId the record id
+     * @param <T> the type of the entity
+     * @return the future detached entity, {@literal null} if the record does not exist
+     */
+    public <T> CompletableFuture<T> load(OrientOperations<T> operations, ORID recordId) {
+        Assert.notNull(operations, "Operations must not be null!");
+        Assert.notNull(recordId, "Record id must not be null!");
+
+        loadCount.incrementAndGet();
+
+        if (!recordId.isPersistent()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Batch full = null;
+
+        synchronized (batches) {
+            Batch batch = batches.get(operations);
+
+            if (batch == null) {
+                Batch created = new Batch(operations);
+
+                created.timer = scheduler.schedule(() -> flush(created), window, TimeUnit.NANOSECONDS);
+                batches.put(operations, created);
+                batch = created;
+            }
+
+            batch.add(recordId, future);
+
+            if (batch.futures.size() == maxBatchSize) {
+                batches.remove(operations);
+                batch.timer.cancel(false);
+                full = batch;
+            }
+        }
+
+        if (full != null) {
+            dispatch(full);
+        }
+
+        return future;
+    }
+
+    public long getWindow(TimeUnit unit) {
+        return unit.convert(window, TimeUnit.NANOSECONDS);
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.beans.factory.DisposableBean#destroy()
+     */
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * Dispatches the given batch once its window has passed, unless it was dispatched when it became full.
+     *
+     * @param batch the batch
+     */
+    private void flush(Batch batch) {
+        synchronized (batches) {
+            if (batches.get(batch.operations) != batch) {
+                return;
+            }
+
+            batches.remove(batch.operations);
+        }
+
+        dispatch(batch);
+    }
+
+    /**
+     * Loads the records of the given batch with one query and completes the futures of the callers.
+     *
+     * @param batch the batch
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void dispatch(Batch batch) {
+        batchCount.incrementAndGet();
+
+        OrientOperations<Object> operations = (OrientOperations<Object>) batch.operations;
+        List<ORID> recordIds = new ArrayList<>(batch.futures.keySet());
+
+        operations.getAsyncExecutor().submit(() -> {
+            List<Object> entities = operations.query(new OSQLSynchQuery("select from ?"), DetachMode.ALL, recordIds);
+            Map<ORID, Object> entitiesById = new HashMap<>(entities.size() * 2);
+
+            for (Object entity : entities) {
+                entitiesById.put(new ORecordId(operations.getRid(entity)), entity);
+            }
+
+            return entitiesById;
+        }).whenComplete((entitiesById, failure) -> {
+            for (Map.Entry<ORID, List<CompletableFuture<Object>>> entry : batch.futures.entrySet()) {
+                for (CompletableFuture<Object> future : entry.getValue()) {
+                    if (failure != null) {
+                        future.completeExceptionally(failure);
+                    } else {
+                        future.complete(entitiesById.get(entry.getKey()));
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * The record ids requested within one window with the futures of their callers.
+     */
+    private static final class Batch {
+
+        private final OrientOperations<?> operations;
+
+        private final Map<ORID, List<CompletableFuture<Object>>> futures = new LinkedHashMap<>();
+
+        private ScheduledFuture<?> timer;
+
+        Batch(OrientOperations<?> operations) {
+            this.operations = operations;
+        }
+
+        @SuppressWarnings("unchecked")
+        void add(ORID recordId, CompletableFuture<?> future) {
+            futures.computeIfAbsent(recordId, id -> new ArrayList<>(1)).add((CompletableFuture<Object>) future);
+        }
+    }
+}
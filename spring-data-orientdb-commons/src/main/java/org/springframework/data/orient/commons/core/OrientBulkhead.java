@@ -0,0 +1,200 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+/**
+ * Bounds the repository methods running at the same time, and so the sessions they take from the pool, so a slow
+ * database does not block every request thread in {@code openDatabase()}. A method beyond the max concurrent ones
+ * waits in a bounded queue for at most the max wait, and is rejected with an {@link OrientBulkheadFullException} when
+ * the queue is full or the wait timed out.
+ * <p>
+ * Bulkheads are registered on the operations by name. The repositories or methods annotated with
+ * {@link org.springframework.data.orient.commons.repository.annotation.Bulkhead} run in the named one, e.g. batch
+ * repositories throttled in a small bulkhead while the critical ones stay responsive, and the others in the
+ * {@link #DEFAULT} one if it is registered. The time spent waiting for a permit is tracked apart from the time spent
+ * running on the database.
+ */
+public class OrientBulkhead {
+
+    /** The name of the bulkhead of the repositories not naming one. */
+    public static final String DEFAULT = "default";
+
+    /** The name. */
+    private final String name;
+
+    /** The max number of methods running at the same time. */
+    private final int maxConcurrent;
+
+    /** The max number of methods waiting for a permit. */
+    private final int maxWaiting;
+
+    /** The max wait for a permit in nanoseconds. */
+    private final long maxWait;
+
+    /** The permits, handed out first come first served. */
+    private final Semaphore permits;
+
+    /** The number of methods waiting for a permit. */
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    /** The count of acquired permits. */
+    private final LongAdder acquireCount = new LongAdder();
+
+    /** The count of rejected methods. */
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /** The total time spent waiting for a permit in nanoseconds. */
+    private final LongAdder queueTime = new LongAdder();
+
+    /** The total time permits were held in nanoseconds. */
+    private final LongAdder executionTime = new LongAdder();
+
+    /**
+     * Instantiates a new {@link OrientBulkhead}.
+     *
+     * @param name the name
+     * @param maxConcurrent the max number of methods running at the same time
+     * @param maxWaiting the max number of methods waiting for a permit, 0 to reject them as soon as all permits are
+     *        taken
+     * @param maxWait the max wait for a permit
+     * @param unit the unit of the max wait
+     */
+    public OrientBulkhead(String name, int maxConcurrent, int maxWaiting, long maxWait, TimeUnit unit) {
+        Assert.hasText(name, "Name must not be empty!");
+        Assert.isTrue(maxConcurrent > 0, "Max concurrent must be greater than zero!");
+        Assert.isTrue(maxWaiting >= 0, "Max waiting must not be negative!");
+        Assert.isTrue(maxWait >= 0, "Max wait must not be negative!");
+        Assert.notNull(unit, "Unit must not be null!");
+
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaiting = maxWaiting;
+        this.maxWait = unit.toNanos(maxWait);
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Acquires a permit, waiting in the queue if all are taken.
+     *
+     * @return the time spent waiting in nanoseconds
+     * @throws OrientBulkheadFullException if the queue is full, the wait timed out or the thread was interrupted
+     */
+    public long acquire() {
+        long start = System.nanoTime();
+
+        // a timed try honors the fairness, unlike an untimed one
+        if (!tryAcquire(0)) {
+            if (waiting.incrementAndGet() > maxWaiting) {
+                waiting.decrementAndGet();
+                throw reject("Bulkhead '" + name + "' is full, " + maxConcurrent + " running and " + maxWaiting + " waiting");
+            }
+
+            try {
+                if (!tryAcquire(maxWait)) {
+                    throw reject("Bulkhead '" + name + "' has no permit available after " + TimeUnit.NANOSECONDS.toMillis(maxWait) + " ms");
+                }
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+
+        acquireCount.increment();
+        queueTime.add(elapsed);
+
+        return elapsed;
+    }
+
+    /**
+     * Releases a permit acquired by {@link #acquire()}.
+     *
+     * @param executionTime the time the permit was held in nanoseconds
+     */
+    public void release(long executionTime) {
+        this.executionTime.add(executionTime);
+        permits.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getMaxWaiting() {
+        return maxWaiting;
+    }
+
+    public long getMaxWait(TimeUnit unit) {
+        return unit.convert(maxWait, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the number of methods holding a permit.
+     *
+     * @return the active count
+     */
+    public int getActiveCount() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * Gets the number of methods waiting for a permit.
+     *
+     * @return the waiting count
+     */
+    public int getWaitingCount() {
+        return waiting.get();
+    }
+
+    public long getAcquireCount() {
+        return acquireCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Gets the total time spent waiting for a permit.
+     *
+     * @param unit the unit
+     * @return the queue time
+     */
+    public long getQueueTime(TimeUnit unit) {
+        return unit.convert(queueTime.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the total time permits were held, i.e. spent running on the database.
+     *
+     * @param unit the unit
+     * @return the execution time
+     */
+    public long getExecutionTime(TimeUnit unit) {
+        return unit.convert(executionTime.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    private boolean tryAcquire(long timeout) {
+        try {
+            return permits.tryAcquire(timeout, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("Interrupted while waiting for bulkhead '" + name + "'");
+        }
+    }
+
+    private OrientBulkheadFullException reject(String msg) {
+        rejectedCount.increment();
+
+        return new OrientBulkheadFullException(name, msg);
+    }
+}
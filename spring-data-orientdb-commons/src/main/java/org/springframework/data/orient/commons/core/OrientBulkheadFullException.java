@@ -0,0 +1,32 @@
+package org.springframework.data.orient.commons.core;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * Thrown when a repository method is rejected by its {@link OrientBulkhead}, either because its wait queue is full or
+ * because no session permit became available within its max wait. The method did not run, so it can be retried later
+ * or degraded by the caller.
+ */
+public class OrientBulkheadFullException extends TransientDataAccessResourceException {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The name of the rejecting bulkhead. */
+    private final String bulkhead;
+
+    /**
+     * Instantiates a new {@link OrientBulkheadFullException}.
+     *
+     * @param bulkhead the name of the rejecting bulkhead
+     * @param msg the detail message
+     */
+    public OrientBulkheadFullException(String bulkhead, String msg) {
+        super(msg);
+
+        this.bulkhead = bulkhead;
+    }
+
+    public String getBulkhead() {
+        return bulkhead;
+    }
+}
@@ -0,0 +1,195 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.Collection;
+
+import org.springframework.data.orient.commons.repository.DetachMode;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * The Flight Recorder events of the {@link OrientFlightRecorder}, only loaded if the JVM has Flight Recorder. An event
+ * is created and begun only while its type is enabled in a running recording, otherwise {@literal null} is returned
+ * without creating it.
+ */
+final class OrientEvents {
+
+    /** The type of the acquire events. */
+    private static final EventType ACQUIRE = EventType.getEventType(AcquireEvent.class);
+
+    /** The type of the statement events. */
+    private static final EventType STATEMENT = EventType.getEventType(StatementEvent.class);
+
+    /** The type of the transaction events. */
+    private static final EventType TRANSACTION = EventType.getEventType(TransactionEvent.class);
+
+    /** The type of the detach events. */
+    private static final EventType DETACH = EventType.getEventType(DetachEvent.class);
+
+    private OrientEvents() {
+    }
+
+    static Object beginAcquire() {
+        return ACQUIRE.isEnabled() ? begin(new AcquireEvent()) : null;
+    }
+
+    static void commitAcquire(Object begun, String url, boolean reopened, boolean timedOut, boolean failed) {
+        AcquireEvent event = (AcquireEvent) begun;
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.database = url;
+            event.reopened = reopened;
+            event.timedOut = timedOut;
+            event.failed = failed;
+            event.commit();
+        }
+    }
+
+    static Object beginStatement() {
+        return STATEMENT.isEnabled() ? begin(new StatementEvent()) : null;
+    }
+
+    static void commitStatement(Object begun, String sql, int rows, boolean failed) {
+        StatementEvent event = (StatementEvent) begun;
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.fingerprint = OrientStatementStatistics.fingerprint(sql);
+            event.rows = rows;
+            event.failed = failed;
+            event.caller = getCaller();
+            event.commit();
+        }
+    }
+
+    static Object beginTransaction() {
+        return TRANSACTION.isEnabled() ? begin(new TransactionEvent()) : null;
+    }
+
+    static void commitTransaction(Object begun, String operation, boolean failed) {
+        TransactionEvent event = (TransactionEvent) begun;
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.failed = failed;
+            event.commit();
+        }
+    }
+
+    static Object beginDetach() {
+        return DETACH.isEnabled() ? begin(new DetachEvent()) : null;
+    }
+
+    static void commitDetach(Object begun, DetachMode mode, Object result) {
+        DetachEvent event = (DetachEvent) begun;
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.mode = mode.name();
+            event.entities = result instanceof Collection ? ((Collection<?>) result).size() : result == null ? 0 : 1;
+            event.caller = getCaller();
+            event.commit();
+        }
+    }
+
+    private static Event begin(Event event) {
+        event.begin();
+
+        return event;
+    }
+
+    private static String getCaller() {
+        OrientInvocation invocation = OrientInvocation.current();
+
+        return invocation == null ? null
+                : invocation.getRepositoryInterface().getSimpleName() + "." + invocation.getMethod().getName();
+    }
+
+    @Name("org.springframework.data.orient.Acquire")
+    @Label("OrientDB Session Acquire")
+    @Description("A session acquired from the pool, e.g. replacing the closed session bound to the thread")
+    @Category({"Spring Data", "OrientDB"})
+    @Enabled(false)
+    @Threshold("10 ms")
+    static final class AcquireEvent extends Event {
+
+        @Label("Database")
+        String database;
+
+        @Label("Re-opened")
+        boolean reopened;
+
+        @Label("Timed Out")
+        @Description("Whether the pool was exhausted")
+        boolean timedOut;
+
+        @Label("Failed")
+        boolean failed;
+    }
+
+    @Name("org.springframework.data.orient.Statement")
+    @Label("OrientDB Statement")
+    @Description("A query, count or command run through the operations")
+    @Category({"Spring Data", "OrientDB"})
+    @Enabled(false)
+    @Threshold("20 ms")
+    static final class StatementEvent extends Event {
+
+        @Label("Fingerprint")
+        @Description("The statement with its literals replaced by placeholders")
+        String fingerprint;
+
+        @Label("Rows")
+        @Description("The number of returned or changed rows, -1 if unknown")
+        int rows;
+
+        @Label("Failed")
+        boolean failed;
+
+        @Label("Caller")
+        @Description("The repository method running the statement")
+        String caller;
+    }
+
+    @Name("org.springframework.data.orient.Transaction")
+    @Label("OrientDB Transaction")
+    @Description("A commit or rollback of a transaction")
+    @Category({"Spring Data", "OrientDB"})
+    @Enabled(false)
+    @Threshold("20 ms")
+    static final class TransactionEvent extends Event {
+
+        @Label("Operation")
+        String operation;
+
+        @Label("Failed")
+        boolean failed;
+    }
+
+    @Name("org.springframework.data.orient.Detach")
+    @Label("OrientDB Detach")
+    @Description("The detaching of the entities returned by a query")
+    @Category({"Spring Data", "OrientDB"})
+    @Enabled(false)
+    @Threshold("10 ms")
+    static final class DetachEvent extends Event {
+
+        @Label("Mode")
+        String mode;
+
+        @Label("Entities")
+        int entities;
+
+        @Label("Caller")
+        @Description("The repository method detaching the entities")
+        String caller;
+    }
+}
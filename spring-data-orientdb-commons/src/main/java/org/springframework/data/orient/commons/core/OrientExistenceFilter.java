@@ -0,0 +1,482 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.util.Assert;
+
+import com.orientechnologies.orient.core.command.OCommandExecutor;
+import com.orientechnologies.orient.core.command.OCommandRequestText;
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseListener;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.hook.ORecordHook;
+import com.orientechnologies.orient.core.hook.ORecordHookAbstract;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.OMetadataInternal;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+
+/**
+ * Bloom filter of the record ids of a class and its subclasses, and optionally of the values of its unique key
+ * fields, in front of the existence checks of {@link OrientOperations#exists(ORID)} and of the derived
+ * {@code existsBy} queries. An absent record or key is answered without touching the database, a present one is
+ * still checked against the database, so false positives only cost the check they would have cost anyway.
+ * <p>
+ * The filter is populated by scanning the class on first use and kept up to date by the record hook, which must see
+ * every record created: it must be registered on all sessions writing the class and other processes must not write
+ * it. Deleted records stay in the filter until it is populated again. {@link #reset()} empties the filter, so it is
+ * populated again on next use. Bulk writes bypass the hooks: between {@link #beginBulkWrite()} and
+ * {@link #endBulkWrite()} the filter answers no check and is not populated, afterwards it is populated again.
+ */
+public class OrientExistenceFilter extends ORecordHookAbstract {
+
+    /** The class name. */
+    private final String className;
+
+    /** The unique key fields. */
+    private final Set<String> keyFields;
+
+    /** The number of bits. */
+    private final long bitCount;
+
+    /** The number of hash functions. */
+    private final int hashCount;
+
+    /** The bits. */
+    private final AtomicLongArray bits;
+
+    /** The cluster ids of the class and its subclasses, {@literal null} until the filter is populated. */
+    private volatile int[] clusterIds;
+
+    /** The ids of the records created by the transaction of the current thread, only final once it is committed. */
+    private final ThreadLocal<List<ORID>> created = ThreadLocal.withInitial(ArrayList::new);
+
+    /** The number of bulk writes in progress. */
+    private final AtomicInteger bulkWrites = new AtomicInteger();
+
+    /** The listener adding the created records once their transaction is committed. */
+    private final ODatabaseListener listener = new TransactionListener();
+
+    /** The count of checks answered as absent without touching the database. */
+    private final AtomicLong negatives = new AtomicLong();
+
+    /** The count of checks the filter could not rule out. */
+    private final AtomicLong positives = new AtomicLong();
+
+    /**
+     * Instantiates a new {@link OrientExistenceFilter}.
+     *
+     * @param className the class name
+     * @param expectedInsertions the expected number of records
+     * @param falsePositiveRate the false positive rate at the expected number of records, e.g. {@code 0.01}
+     * @param keyFields the unique key fields whose values are added to the filter
+     */
+    public OrientExistenceFilter(String className, long expectedInsertions, double falsePositiveRate, String... keyFields) {
+        Assert.hasText(className, "Class name must not be empty!");
+        Assert.isTrue(expectedInsertions > 0, "Expected insertions must be greater than zero!");
+        Assert.isTrue(falsePositiveRate > 0 && falsePositiveRate < 1, "False positive rate must be between zero and one!");
+
+        // every key field value is one more insertion per record
+        long insertions = expectedInsertions * (1 + keyFields.length);
+        long bitCount = Math.max(64, (long) (-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+
+        Assert.isTrue(bitCount / 64 < Integer.MAX_VALUE, "Filter is too large!");
+
+        this.className = className;
+        this.keyFields = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(keyFields)));
+        this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        this.bitCount = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) this.bitCount / insertions * Math.log(2)));
+    }
+
+    /**
+     * Registers the filter on the given session unless it is registered already, so the records created through the
+     * session are added to the filter.
+     *
+     * @param db the session
+     */
+    public void register(ODatabase<?> db) {
+        if (!db.getHooks().containsKey(this)) {
+            db.registerHook(this);
+            db.registerListener(listener);
+        }
+    }
+
+    /**
+     * Adds the record ids and key field values of all records of the class to the filter.
+     *
+     * @param db the session scanning the class
+     */
+    public synchronized void populate(ODatabaseDocument db) {
+        if (isPopulated() || isBulkWriting()) {
+            return;
+        }
+
+        OClass oClass = ((OMetadataInternal) db.getMetadata()).getImmutableSchemaSnapshot().getClass(className);
+
+        if (oClass == null) {
+            throw new IllegalArgumentException("Class '" + className + "' not found in database");
+        }
+
+        StringBuilder sql = new StringBuilder("select @rid as rid");
+
+        for (String field : keyFields) {
+            sql.append(", `").append(field).append('`');
+        }
+
+        sql.append(" from `").append(className).append('`');
+
+        try (OResultSet result = db.query(sql.toString())) {
+            while (result.hasNext()) {
+                OResult row = result.next();
+
+                add(row.<ORID> getProperty("rid"));
+
+                for (String field : keyFields) {
+                    add(field, row.getProperty(field));
+                }
+            }
+        }
+
+        clusterIds = oClass.getPolymorphicClusterIds();
+    }
+
+    /**
+     * Empties the filter, so it is populated again on next use.
+     */
+    public synchronized void reset() {
+        clusterIds = null;
+
+        for (int i = 0; i < bits.length(); i++) {
+            bits.set(i, 0);
+        }
+    }
+
+    /**
+     * Empties the filter before a bulk write, which bypasses the hooks. Until the write ends the filter answers no
+     * check, so the records it already wrote are not reported absent.
+     */
+    public void beginBulkWrite() {
+        bulkWrites.incrementAndGet();
+        reset();
+    }
+
+    /**
+     * Empties the filter after a bulk write, so it is populated again with the records written on next use.
+     */
+    public void endBulkWrite() {
+        reset();
+        bulkWrites.decrementAndGet();
+    }
+
+    /**
+     * Checks if the filter was populated.
+     *
+     * @return true, if the filter answers checks
+     */
+    public boolean isPopulated() {
+        return clusterIds != null && !isBulkWriting();
+    }
+
+    /**
+     * Checks if a bulk write is in progress.
+     *
+     * @return true, if the filter answers no check
+     */
+    public boolean isBulkWriting() {
+        return bulkWrites.get() > 0;
+    }
+
+    /**
+     * Checks if the records of the given cluster are in the filter.
+     *
+     * @param clusterId the cluster id
+     * @return true, if the cluster belongs to the class or one of its subclasses and no bulk write is in progress
+     */
+    public boolean covers(int clusterId) {
+        int[] ids = clusterIds;
+
+        if (ids != null && !isBulkWriting()) {
+            for (int id : ids) {
+                if (id == clusterId) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if the given field is a key field of the filter.
+     *
+     * @param field the field
+     * @return true, if the values of the field are in the filter
+     */
+    public boolean isKeyField(String field) {
+        return keyFields.contains(field);
+    }
+
+    /**
+     * Checks if the record with the given id may exist. Until the filter is populated every record may exist.
+     *
+     * @param rid the record id
+     * @return false, if the record does not exist
+     */
+    public boolean mightContain(ORID rid) {
+        return mightContain(hash(rid));
+    }
+
+    /**
+     * Checks if a record with the given key field value may exist. Until the filter is populated every record may
+     * exist.
+     *
+     * @param field the key field
+     * @param value the value
+     * @return false, if no record has the value
+     */
+    public boolean mightContain(String field, Object value) {
+        Assert.isTrue(isKeyField(field), "Field '" + field + "' is not a key field of the filter!");
+
+        return mightContain(hash(field, value));
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public Set<String> getKeyFields() {
+        return keyFields;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    public long getNegativeCount() {
+        return negatives.get();
+    }
+
+    public long getPositiveCount() {
+        return positives.get();
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHookAbstract#onRecordAfterCreate(com.orientechnologies.orient.core.record.ORecord)
+     */
+    @Override
+    public void onRecordAfterCreate(ORecord record) {
+        addRecord(record);
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHookAbstract#onRecordAfterUpdate(com.orientechnologies.orient.core.record.ORecord)
+     */
+    @Override
+    public void onRecordAfterUpdate(ORecord record) {
+        addRecord(record);
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHook#getScopes()
+     */
+    @Override
+    public SCOPE[] getScopes() {
+        return new SCOPE[] { SCOPE.CREATE, SCOPE.UPDATE };
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHook#getDistributedExecutionMode()
+     */
+    @Override
+    public ORecordHook.DISTRIBUTED_EXECUTION_MODE getDistributedExecutionMode() {
+        return ORecordHook.DISTRIBUTED_EXECUTION_MODE.BOTH;
+    }
+
+    /**
+     * Adds the record id and key field values of the given record if it belongs to the class or one of its
+     * subclasses.
+     *
+     * @param record the record
+     */
+    private void addRecord(ORecord record) {
+        if (!(record instanceof ODocument)) {
+            return;
+        }
+
+        ODocument document = (ODocument) record;
+        OClass oClass = document.getSchemaClass();
+
+        if (oClass == null || !oClass.isSubClassOf(className)) {
+            return;
+        }
+
+        if (record.getIdentity().isPersistent()) {
+            add(record.getIdentity());
+        } else {
+            // the identity is updated in place once the transaction is committed
+            created.get().add(record.getIdentity());
+        }
+
+        for (String field : keyFields) {
+            add(field, document.field(field));
+        }
+    }
+
+    private void add(ORID rid) {
+        add(hash(rid));
+    }
+
+    private void add(String field, Object value) {
+        if (value != null) {
+            add(hash(field, value));
+        }
+    }
+
+    private void add(long hash) {
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hash, i);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+
+            long current;
+
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    private boolean mightContain(long hash) {
+        if (!isPopulated()) {
+            return true;
+        }
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hash, i);
+
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                negatives.incrementAndGet();
+                return false;
+            }
+        }
+
+        positives.incrementAndGet();
+
+        return true;
+    }
+
+    /**
+     * Gets the bit of the given hash function, derived from two halves of the hash by double hashing.
+     */
+    private long index(long hash, int i) {
+        long combined = hash + i * ((hash >>> 32) | 1);
+
+        return (combined & Long.MAX_VALUE) % bitCount;
+    }
+
+    private static long hash(ORID rid) {
+        return mix(rid.getClusterId() * 0x9E3779B97F4A7C15L + rid.getClusterPosition());
+    }
+
+    private static long hash(String field, Object value) {
+        // values are compared by their text, so e.g. an int and a long of the same value match
+        String text = field + '\u0000' + value;
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+
+    /**
+     * Adds the records created by a transaction once it is committed and drops them if it is rolled back. The methods
+     * keep the raw database parameters of {@link ODatabaseListener}, parameterized ones would not override them.
+     */
+    @SuppressWarnings("rawtypes")
+    private final class TransactionListener implements ODatabaseListener {
+
+        @Override
+        public void onAfterTxCommit(ODatabase database) {
+            List<ORID> rids = created.get();
+
+            for (ORID rid : rids) {
+                if (rid.isPersistent()) {
+                    add(rid);
+                }
+            }
+
+            rids.clear();
+        }
+
+        @Override
+        public void onAfterTxRollback(ODatabase database) {
+            created.get().clear();
+        }
+
+        @Override
+        public void onClose(ODatabase database) {
+            created.remove();
+        }
+
+        @Override
+        public void onCreate(ODatabase database) {
+        }
+
+        @Override
+        public void onDelete(ODatabase database) {
+        }
+
+        @Override
+        public void onOpen(ODatabase database) {
+        }
+
+        @Override
+        public void onBeforeTxBegin(ODatabase database) {
+        }
+
+        @Override
+        public void onBeforeTxRollback(ODatabase database) {
+        }
+
+        @Override
+        public void onBeforeTxCommit(ODatabase database) {
+        }
+
+        @Override
+        public void onBeforeCommand(OCommandRequestText command, OCommandExecutor executor) {
+        }
+
+        @Override
+        public void onAfterCommand(OCommandRequestText command, OCommandExecutor executor, Object result) {
+        }
+    }
+}
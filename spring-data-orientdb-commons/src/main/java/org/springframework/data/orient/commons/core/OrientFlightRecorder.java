@@ -0,0 +1,119 @@
+package org.springframework.data.orient.commons.core;
+
+import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Emits Java Flight Recorder events from the session pools, the statements, the transactions and the detaching of
+ * entities, so continuous recordings tie latency spikes to OrientDB operations:
+ * <ul>
+ * <li>{@code org.springframework.data.orient.Acquire}, a session acquired from the pool, e.g. re-opening a closed one,
+ * 10 ms threshold</li>
+ * <li>{@code org.springframework.data.orient.Statement}, a query, count or command with its fingerprint, rows and
+ * repository method, 20 ms threshold</li>
+ * <li>{@code org.springframework.data.orient.Transaction}, a commit or rollback, 20 ms threshold</li>
+ * <li>{@code org.springframework.data.orient.Detach}, the detaching of query results, 10 ms threshold</li>
+ * </ul>
+ * The events are disabled by default and enabled with their thresholds through the recording settings, e.g. a
+ * {@code .jfc} file. While an event is disabled, beginning it checks its cached event type and returns {@literal null}
+ * without creating the event, and committing {@literal null} does nothing, so the instrumented paths allocate nothing. On a JVM without Flight Recorder no event is emitted.
+ */
+public final class OrientFlightRecorder {
+
+    /** Whether the JVM has Flight Recorder. */
+    private static final boolean AVAILABLE = ClassUtils.isPresent("jdk.jfr.Event", OrientFlightRecorder.class.getClassLoader());
+
+    private OrientFlightRecorder() {
+    }
+
+    /**
+     * Begins an event of a session being acquired from the pool.
+     *
+     * @return the event or {@literal null} if it is disabled
+     */
+    public static Object beginAcquire() {
+        return AVAILABLE ? OrientEvents.beginAcquire() : null;
+    }
+
+    /**
+     * Commits the given event of a session being acquired if it exceeds its threshold.
+     *
+     * @param event the event, may be {@literal null}
+     * @param url the database url
+     * @param reopened whether the session bound to the thread was closed and is replaced
+     * @param timedOut whether the pool was exhausted
+     * @param failed whether no session could be acquired
+     */
+    public static void commitAcquire(Object event, String url, boolean reopened, boolean timedOut, boolean failed) {
+        if (event != null) {
+            OrientEvents.commitAcquire(event, url, reopened, timedOut, failed);
+        }
+    }
+
+    /**
+     * Begins an event of a statement.
+     *
+     * @return the event or {@literal null} if it is disabled
+     */
+    public static Object beginStatement() {
+        return AVAILABLE ? OrientEvents.beginStatement() : null;
+    }
+
+    /**
+     * Commits the given event of a statement if it exceeds its threshold, fingerprinting the statement only then.
+     *
+     * @param event the event, may be {@literal null}
+     * @param sql the statement
+     * @param rows the number of returned or changed rows, -1 if unknown
+     * @param failed whether the statement failed
+     */
+    public static void commitStatement(Object event, String sql, int rows, boolean failed) {
+        if (event != null) {
+            OrientEvents.commitStatement(event, sql, rows, failed);
+        }
+    }
+
+    /**
+     * Begins an event of a transaction commit or rollback.
+     *
+     * @return the event or {@literal null} if it is disabled
+     */
+    public static Object beginTransaction() {
+        return AVAILABLE ? OrientEvents.beginTransaction() : null;
+    }
+
+    /**
+     * Commits the given event of a transaction commit or rollback if it exceeds its threshold.
+     *
+     * @param event the event, may be {@literal null}
+     * @param operation commit or rollback
+     * @param failed whether the operation failed
+     */
+    public static void commitTransaction(Object event, String operation, boolean failed) {
+        if (event != null) {
+            OrientEvents.commitTransaction(event, operation, failed);
+        }
+    }
+
+    /**
+     * Begins an event of the detaching of query results.
+     *
+     * @return the event or {@literal null} if it is disabled
+     */
+    public static Object beginDetach() {
+        return AVAILABLE ? OrientEvents.beginDetach() : null;
+    }
+
+    /**
+     * Commits the given event of the detaching of query results if it exceeds its threshold.
+     *
+     * @param event the event, may be {@literal null}
+     * @param mode the detach mode
+     * @param result the detached result
+     */
+    public static void commitDetach(Object event, DetachMode mode, Object result) {
+        if (event != null) {
+            OrientEvents.commitDetach(event, mode, result);
+        }
+    }
+}
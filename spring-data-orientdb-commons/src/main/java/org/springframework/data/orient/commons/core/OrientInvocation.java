@@ -0,0 +1,294 @@
+package org.springframework.data.orient.commons.core;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.data.orient.commons.repository.Window;
+
+/**
+ * The statistics of a repository method invocation passed to the {@link OrientInvocationListener}. The invocation is
+ * bound to the calling thread while the method runs, so the query executions and the operations can record the type
+ * of the execution and the time spent detaching entities.
+ */
+public class OrientInvocation {
+
+    /** The invocation of the current thread. */
+    private static final ThreadLocal<OrientInvocation> CURRENT = new ThreadLocal<>();
+
+    /** The repository interface. */
+    private final Class<?> repositoryInterface;
+
+    /** The invoked method. */
+    private final Method method;
+
+    /** The start in nanoseconds. */
+    private final long start;
+
+    /** The invocation of the thread this one is nested in, e.g. of a default method. */
+    private final OrientInvocation outer;
+
+    /** The type of the execution, e.g. collection or paged. */
+    private volatile String executionType;
+
+    /** The time spent detaching entities in nanoseconds. */
+    private volatile long detachTime;
+
+    /** The detach mode of the last detached result, {@literal null} if nothing was detached. */
+    private volatile DetachMode detachMode;
+
+    /** The name of the bulkhead the invocation ran in, {@literal null} if it ran in none. */
+    private volatile String bulkhead;
+
+    /** The time spent waiting for a bulkhead permit in nanoseconds. */
+    private volatile long queueTime;
+
+    /** The attributes of the listeners, e.g. a tracing span. */
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>(4);
+
+    /** The duration in nanoseconds, -1 while running. */
+    private volatile long duration = -1;
+
+    /** The number of returned rows, -1 if the result is not made of rows. */
+    private volatile int resultCount = -1;
+
+    /** The failure, if any. */
+    private volatile Throwable failure;
+
+    private OrientInvocation(Class<?> repositoryInterface, Method method, OrientInvocation outer) {
+        this.repositoryInterface = repositoryInterface;
+        this.method = method;
+        this.outer = outer;
+        this.executionType = getDefaultExecutionType(method);
+        this.start = System.nanoTime();
+    }
+
+    /**
+     * Starts an invocation of the given method and binds it to the current thread.
+     *
+     * @param repositoryInterface the repository interface
+     * @param method the method
+     * @return the invocation
+     */
+    public static OrientInvocation start(Class<?> repositoryInterface, Method method) {
+        OrientInvocation invocation = new OrientInvocation(repositoryInterface, method, CURRENT.get());
+        CURRENT.set(invocation);
+
+        return invocation;
+    }
+
+    /**
+     * Gets the invocation of the current thread.
+     *
+     * @return the invocation or {@literal null} if the thread runs no recorded repository method
+     */
+    public static OrientInvocation current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Records the type of the query execution of the invocation of the current thread, if any.
+     *
+     * @param executionType the execution type
+     */
+    public static void recordExecution(String executionType) {
+        OrientInvocation invocation = CURRENT.get();
+
+        if (invocation != null) {
+            invocation.executionType = executionType;
+        }
+    }
+
+    /**
+     * Adds time spent detaching entities to the invocation of the current thread, if any.
+     *
+     * @param detachMode the detach mode
+     * @param nanos the time in nanoseconds
+     */
+    public static void recordDetach(DetachMode detachMode, long nanos) {
+        OrientInvocation invocation = CURRENT.get();
+
+        if (invocation != null) {
+            invocation.detachMode = detachMode;
+            invocation.detachTime += nanos;
+        }
+    }
+
+    /**
+     * Records the time the invocation of the current thread, if any, waited for a permit of the given bulkhead before
+     * running.
+     *
+     * @param bulkhead the name of the bulkhead
+     * @param nanos the time in nanoseconds
+     */
+    public static void recordQueue(String bulkhead, long nanos) {
+        OrientInvocation invocation = CURRENT.get();
+
+        if (invocation != null) {
+            invocation.bulkhead = bulkhead;
+            invocation.queueTime = nanos;
+        }
+    }
+
+    /**
+     * Unbinds the invocation from the current thread once the method returned, restoring the invocation it is nested
+     * in.
+     */
+    public void end() {
+        if (outer == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(outer);
+        }
+    }
+
+    /**
+     * Completes the invocation with the given result or failure.
+     *
+     * @param result the result
+     * @param failure the failure, {@literal null} if the method succeeded
+     */
+    public void complete(Object result, Throwable failure) {
+        this.duration = System.nanoTime() - start;
+        this.failure = failure;
+        this.resultCount = failure == null ? getResultCount(result) : -1;
+    }
+
+    public Class<?> getRepositoryInterface() {
+        return repositoryInterface;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public String getExecutionType() {
+        return executionType;
+    }
+
+    public long getDuration(TimeUnit unit) {
+        return unit.convert(duration, TimeUnit.NANOSECONDS);
+    }
+
+    public long getDetachTime(TimeUnit unit) {
+        return unit.convert(detachTime, TimeUnit.NANOSECONDS);
+    }
+
+    public String getBulkhead() {
+        return bulkhead;
+    }
+
+    public long getQueueTime(TimeUnit unit) {
+        return unit.convert(queueTime, TimeUnit.NANOSECONDS);
+    }
+
+    public DetachMode getDetachMode() {
+        return detachMode;
+    }
+
+    public int getResultCount() {
+        return resultCount;
+    }
+
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+    /**
+     * Gets an attribute a listener set on the invocation.
+     *
+     * @param name the name
+     * @return the value or {@literal null} if not set
+     */
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    /**
+     * Sets an attribute of a listener on the invocation, e.g. to pass state from
+     * {@link OrientInvocationListener#beforeInvocation(OrientInvocation)} to
+     * {@link OrientInvocationListener#afterInvocation(OrientInvocation)}.
+     *
+     * @param name the name
+     * @param value the value, {@literal null} to remove the attribute
+     */
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    /**
+     * Gets the number of rows of the given result.
+     *
+     * @param result the result
+     * @return the number of rows or -1 if the result is not made of rows, e.g. a count or a stream
+     */
+    private int getResultCount(Object result) {
+        if (result == null) {
+            return method.getReturnType() == void.class ? -1 : 0;
+        } else if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        } else if (result instanceof Slice) {
+            return ((Slice<?>) result).getNumberOfElements();
+        } else if (result instanceof Window) {
+            return ((Window<?>) result).size();
+        } else if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        } else if (result instanceof Number || result instanceof Boolean || result instanceof Iterable
+                || result instanceof Iterator || result instanceof Stream) {
+            return -1;
+        }
+
+        return 1;
+    }
+
+    /**
+     * Gets the execution type of the given method from its name and return type, for the methods not backed by a query
+     * execution, e.g. {@code save} or {@code findAll}.
+     *
+     * @param method the method
+     * @return the execution type
+     */
+    private static String getDefaultExecutionType(Method method) {
+        String name = method.getName();
+        Class<?> type = method.getReturnType();
+
+        if (name.startsWith("delete") || name.startsWith("remove")) {
+            return "delete";
+        } else if (name.startsWith("save")) {
+            return "save";
+        } else if (name.startsWith("count")) {
+            return "count";
+        } else if (name.startsWith("exists")) {
+            return "exists";
+        } else if (Page.class.isAssignableFrom(type)) {
+            return "paged";
+        } else if (Slice.class.isAssignableFrom(type)) {
+            return "sliced";
+        } else if (Stream.class.isAssignableFrom(type) || Iterator.class.isAssignableFrom(type)) {
+            return "stream";
+        } else if (Iterable.class.isAssignableFrom(type)) {
+            return "collection";
+        } else if (Future.class.isAssignableFrom(type)) {
+            return "async";
+        }
+
+        return "single";
+    }
+}
@@ -0,0 +1,32 @@
+package org.springframework.data.orient.commons.core;
+
+/**
+ * Listener notified of every finished repository method invocation, e.g. to record its latency and result size. It
+ * is called on the thread completing the invocation and must not throw.
+ */
+public interface OrientInvocationListener {
+
+    /**
+     * Called on the calling thread before the given invocation runs, e.g. to start a span.
+     *
+     * @param invocation the starting invocation
+     */
+    default void beforeInvocation(OrientInvocation invocation) {
+    }
+
+    /**
+     * Called on the calling thread once the method returned or threw, e.g. to close a scope opened by
+     * {@link #beforeInvocation(OrientInvocation)}. Asynchronous methods may not be complete yet.
+     *
+     * @param invocation the returned invocation
+     */
+    default void afterReturn(OrientInvocation invocation) {
+    }
+
+    /**
+     * Called once the given invocation returned, failed or, for asynchronous methods, completed its future.
+     *
+     * @param invocation the finished invocation
+     */
+    void afterInvocation(OrientInvocation invocation);
+}
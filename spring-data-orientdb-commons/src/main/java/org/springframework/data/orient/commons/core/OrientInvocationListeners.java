@@ -0,0 +1,71 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link OrientInvocationListener} notifying several listeners, e.g. metrics and tracing. The listeners are notified
+ * before the invocation in their order and after it in reverse order, so they nest like their scopes.
+ */
+public class OrientInvocationListeners implements OrientInvocationListener {
+
+    /** The listeners. */
+    private final List<OrientInvocationListener> listeners;
+
+    /**
+     * Instantiates a new {@link OrientInvocationListeners}.
+     *
+     * @param listeners the listeners
+     */
+    public OrientInvocationListeners(List<? extends OrientInvocationListener> listeners) {
+        Assert.notNull(listeners, "Listeners must not be null!");
+
+        this.listeners = new ArrayList<>(listeners);
+    }
+
+    /**
+     * Combines the given listeners.
+     *
+     * @param listeners the listeners
+     * @return the only listener, the combined listeners or {@literal null} if there are none
+     */
+    public static OrientInvocationListener of(List<? extends OrientInvocationListener> listeners) {
+        if (listeners.isEmpty()) {
+            return null;
+        }
+
+        return listeners.size() == 1 ? listeners.get(0) : new OrientInvocationListeners(listeners);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.core.OrientInvocationListener#beforeInvocation(org.springframework.data.orient.commons.core.OrientInvocation)
+     */
+    @Override
+    public void beforeInvocation(OrientInvocation invocation) {
+        for (OrientInvocationListener listener : listeners) {
+            listener.beforeInvocation(invocation);
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.core.OrientInvocationListener#afterReturn(org.springframework.data.orient.commons.core.OrientInvocation)
+     */
+    @Override
+    public void afterReturn(OrientInvocation invocation) {
+        for (int i = listeners.size() - 1; i >= 0; i--) {
+            listeners.get(i).afterReturn(invocation);
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.core.OrientInvocationListener#afterInvocation(org.springframework.data.orient.commons.core.OrientInvocation)
+     */
+    @Override
+    public void afterInvocation(OrientInvocation invocation) {
+        for (int i = listeners.size() - 1; i >= 0; i--) {
+            listeners.get(i).afterInvocation(invocation);
+        }
+    }
+}
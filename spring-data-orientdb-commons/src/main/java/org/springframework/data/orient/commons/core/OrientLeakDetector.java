@@ -0,0 +1,537 @@
+package org.springframework.data.orient.commons.core;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+
+import com.orientechnologies.orient.core.command.OCommandExecutor;
+import com.orientechnologies.orient.core.command.OCommandRequestText;
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseListener;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+
+/**
+ * Detects sessions acquired from the pool of a database factory and held longer than a threshold, e.g. opened with
+ * {@link OrientDatabaseFactory#openDatabase()} and never closed, or bound to a thread by {@code db()} outside a
+ * transaction. Such sessions never return to the pool and slowly drain it.
+ * <p>
+ * Every acquired session is tracked with its thread and age, and a sample of the acquisitions with the stack trace
+ * of their site. The held sessions are checked periodically: a session held past the threshold is logged once with
+ * its acquisition site and, if the action is {@link Action#CLOSE}, released by its thread on the next session that
+ * thread takes from the factory. The pools count the acquisitions per thread, so only the owning thread can return a
+ * session to the pool; the check only marks it.
+ * <p>
+ * A pooled session still reports as open once it returned to the pool, so its release is recorded by a listener of
+ * its close. The pools hand the session a thread holds to its nested acquisitions, so a session is tracked per thread
+ * with the site and age of its outermost acquisition and the depth of the nested ones, until it returns to the pool.
+ */
+public class OrientLeakDetector implements DisposableBean {
+
+    /** The logger. */
+    private static final Logger log = LoggerFactory.getLogger(OrientLeakDetector.class);
+
+    /** The counter of the detectors, naming their threads. */
+    private static final AtomicInteger DETECTOR_COUNTER = new AtomicInteger();
+
+    /** The min period of the checks in milliseconds. */
+    private static final long MIN_PERIOD = 1000;
+
+    /** The max number of stack frames of an acquisition site exposed by {@link HeldSession#getSite()}. */
+    private static final int MAX_SITE_FRAMES = 20;
+
+    /** The max number of closes unwinding the nested acquisitions of a released session. */
+    private static final int MAX_UNWIND = 1024;
+
+    /**
+     * What is done with a session held past the threshold.
+     */
+    public enum Action {
+
+        /** Logs a warning with the acquisition site. */
+        WARN,
+
+        /**
+         * Logs a warning and releases the session once its thread takes a session from the factory again, unwinding
+         * its nested acquisitions and unbinding it from the thread, so it returns to the pool.
+         */
+        CLOSE
+    }
+
+    /** The threshold in nanoseconds. */
+    private volatile long threshold;
+
+    /** The action taken on sessions held past the threshold. */
+    private final Action action;
+
+    /** The one in how many acquisitions recording their site. */
+    private final int sampleRate;
+
+    /** The held sessions. */
+    private final Map<SessionKey, Held> sessions = new ConcurrentHashMap<>();
+
+    /** The sessions held past the threshold waiting for their thread to release them. */
+    private final Set<Held> pendingReleases = ConcurrentHashMap.newKeySet();
+
+    /** The count of acquisitions, sampling their sites. */
+    private final AtomicLong acquireCount = new AtomicLong();
+
+    /** The count of sessions held past the threshold. */
+    private final AtomicLong leakCount = new AtomicLong();
+
+    /** The count of sessions closed as held past the threshold. */
+    private final AtomicLong closedCount = new AtomicLong();
+
+    /** The scheduler of the checks. */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Instantiates a new {@link OrientLeakDetector} checking the held sessions every half threshold, at most every
+     * second.
+     *
+     * @param threshold the time from which a held session is a leak
+     * @param unit the unit of the threshold
+     * @param sampleRate the one in how many acquisitions recording their site, 1 to record every site
+     * @param action the action taken on leaked sessions
+     */
+    public OrientLeakDetector(long threshold, TimeUnit unit, int sampleRate, Action action) {
+        Assert.isTrue(sampleRate > 0, "Sample rate must be greater than zero!");
+        Assert.notNull(action, "Action must not be null!");
+
+        setThreshold(threshold, unit);
+
+        this.sampleRate = sampleRate;
+        this.action = action;
+
+        int detector = DETECTOR_COUNTER.incrementAndGet();
+        long period = Math.max(unit.toMillis(threshold) / 2, MIN_PERIOD);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "orient-leak-" + detector);
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::check, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Tracks the given session acquired from the pool by the current thread.
+     *
+     * @param db the session
+     */
+    public void acquired(ODatabase<?> db) {
+        SessionKey key = new SessionKey(db);
+        Thread thread = Thread.currentThread();
+        Held held = sessions.get(key);
+
+        if (held != null && held.owner.get() == thread) {
+            // a nested acquisition of the session the thread holds, released with the outermost one
+            held.depth++;
+            return;
+        }
+
+        Throwable site = acquireCount.getAndIncrement() % sampleRate == 0 ? new Throwable("Session acquired here") : null;
+
+        sessions.put(key, new Held(key, db, thread, System.nanoTime(), site));
+
+        if (held == null) {
+            db.registerListener(new ReleaseListener(key));
+        } else {
+            // the session was not seen returning to the pool, its listener is still registered
+            pendingReleases.remove(held);
+        }
+    }
+
+    /**
+     * Releases the sessions of the current thread found held past the threshold if the action is
+     * {@link Action#CLOSE}: their nested acquisitions are unwound until they return to the pool and they are unbound
+     * from the thread. Called by the factory before the thread takes a session.
+     */
+    public void releaseLeaked() {
+        if (pendingReleases.isEmpty()) {
+            return;
+        }
+
+        Thread thread = Thread.currentThread();
+
+        for (Held held : pendingReleases) {
+            if (held.owner.get() == thread && pendingReleases.remove(held)) {
+                release(held);
+            }
+        }
+    }
+
+    /**
+     * Checks the held sessions, forgetting the collected ones and taking the action on the ones held past the
+     * threshold.
+     *
+     * @return the number of sessions found held past the threshold by this check
+     */
+    public synchronized int check() {
+        long now = System.nanoTime();
+        int leaks = 0;
+
+        for (Map.Entry<SessionKey, Held> entry : sessions.entrySet()) {
+            Held held = entry.getValue();
+            ODatabase<?> db = held.db.get();
+
+            if (db == null) {
+                sessions.remove(entry.getKey(), held);
+                pendingReleases.remove(held);
+            } else if (now - held.acquired >= threshold && !held.reported) {
+                held.reported = true;
+                leaks++;
+                leakCount.incrementAndGet();
+
+                report(db, held, now);
+            }
+        }
+
+        return leaks;
+    }
+
+    /**
+     * Gets the sessions acquired and not released yet, the oldest first.
+     *
+     * @return the held sessions
+     */
+    public List<HeldSession> getHeldSessions() {
+        long now = System.nanoTime();
+        List<HeldSession> result = new ArrayList<>();
+
+        for (Held held : sessions.values()) {
+            ODatabase<?> db = held.db.get();
+
+            if (db != null) {
+                result.add(new HeldSession(getSessionId(db), held.thread, held.depth, TimeUnit.NANOSECONDS.toMillis(now - held.acquired),
+                        getSite(held.site)));
+            }
+        }
+
+        result.sort(Comparator.comparingLong(HeldSession::getAge).reversed());
+
+        return result;
+    }
+
+    public long getThreshold(TimeUnit unit) {
+        return unit.convert(threshold, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Sets the time from which a held session is a leak, e.g. lowered while investigating.
+     *
+     * @param threshold the threshold
+     * @param unit the unit of the threshold
+     */
+    public void setThreshold(long threshold, TimeUnit unit) {
+        Assert.isTrue(threshold >= 0, "Threshold must not be negative!");
+        Assert.notNull(unit, "Unit must not be null!");
+
+        this.threshold = unit.toNanos(threshold);
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public long getLeakCount() {
+        return leakCount.get();
+    }
+
+    public long getClosedCount() {
+        return closedCount.get();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.beans.factory.DisposableBean#destroy()
+     */
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+        pendingReleases.clear();
+    }
+
+    /**
+     * Gets the id of the given session, its class and identity.
+     *
+     * @param db the session
+     * @return the id
+     */
+    public static String getSessionId(ODatabase<?> db) {
+        return db.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(db));
+    }
+
+    private void report(ODatabase<?> db, Held held, long now) {
+        long age = TimeUnit.NANOSECONDS.toMillis(now - held.acquired);
+
+        if (held.site == null) {
+            log.warn("Session {} held by thread {} for {} ms, acquisition site not sampled", getSessionId(db), held.thread, age);
+        } else {
+            log.warn("Session {} held by thread {} for {} ms", getSessionId(db), held.thread, age, held.site);
+        }
+
+        if (action == Action.CLOSE) {
+            // closing the session from this thread would only lower the acquisitions counted for this thread
+            pendingReleases.add(held);
+        }
+    }
+
+    /**
+     * Releases the given session held by the current thread.
+     *
+     * @param held the held session
+     */
+    private void release(Held held) {
+        ODatabase<?> db = held.db.get();
+
+        if (db == null) {
+            return;
+        }
+
+        try {
+            // the pool counts the nested acquisitions of the thread, every one of them is closed
+            for (int closes = 0; sessions.get(held.key) == held && closes < MAX_UNWIND; closes++) {
+                db.close();
+            }
+
+            ODatabaseDocumentInternal bound = ODatabaseRecordThreadLocal.instance().getIfDefined();
+
+            if (bound != null && bound.getDatabaseOwner() == db) {
+                ODatabaseRecordThreadLocal.instance().remove();
+            }
+
+            if (sessions.get(held.key) != held) {
+                closedCount.incrementAndGet();
+            } else {
+                log.warn("Failed to release leaked session {}, it did not return to the pool", getSessionId(db));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to release leaked session {}", getSessionId(db), e);
+        }
+    }
+
+    private static List<String> getSite(Throwable site) {
+        if (site == null) {
+            return Collections.emptyList();
+        }
+
+        return Arrays.stream(site.getStackTrace()).limit(MAX_SITE_FRAMES).map(StackTraceElement::toString).collect(Collectors.toList());
+    }
+
+    /**
+     * A session held by a thread.
+     */
+    public static final class HeldSession {
+
+        /** The id of the session. */
+        private final String sessionId;
+
+        /** The name of the acquiring thread. */
+        private final String thread;
+
+        /** The number of acquisitions of the session by its thread. */
+        private final int depth;
+
+        /** The age in milliseconds. */
+        private final long age;
+
+        /** The stack frames of the acquisition site, empty if not sampled. */
+        private final List<String> site;
+
+        HeldSession(String sessionId, String thread, int depth, long age, List<String> site) {
+            this.sessionId = sessionId;
+            this.thread = thread;
+            this.depth = depth;
+            this.age = age;
+            this.site = site;
+        }
+
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        /**
+         * Gets the number of acquisitions of the session by its thread seen by the detector, the outermost one and
+         * the nested ones.
+         *
+         * @return the depth
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * Gets the time since the session was acquired in milliseconds.
+         *
+         * @return the age
+         */
+        public long getAge() {
+            return age;
+        }
+
+        public List<String> getSite() {
+            return site;
+        }
+    }
+
+    /**
+     * The tracking of an acquired session.
+     */
+    private static final class Held {
+
+        private final SessionKey key;
+
+        private final WeakReference<ODatabase<?>> db;
+
+        private final WeakReference<Thread> owner;
+
+        private final String thread;
+
+        private final long acquired;
+
+        private final Throwable site;
+
+        /** The number of acquisitions by the owner, only changed by the owner. */
+        private volatile int depth = 1;
+
+        private volatile boolean reported;
+
+        Held(SessionKey key, ODatabase<?> db, Thread owner, long acquired, Throwable site) {
+            this.key = key;
+            this.db = new WeakReference<>(db);
+            this.owner = new WeakReference<>(owner);
+            this.thread = owner.getName();
+            this.acquired = acquired;
+            this.site = site;
+        }
+    }
+
+    /**
+     * Forgets a session once it returns to the pool, the pools notifying the close listeners on release only.
+     */
+    @SuppressWarnings("rawtypes")
+    private final class ReleaseListener implements ODatabaseListener {
+
+        private final SessionKey key;
+
+        ReleaseListener(SessionKey key) {
+            this.key = key;
+        }
+
+        @Override
+        public void onClose(ODatabase database) {
+            Held held = sessions.remove(key);
+
+            if (held != null) {
+                pendingReleases.remove(held);
+            }
+
+            try {
+                database.unregisterListener(this);
+            } catch (RuntimeException e) {
+                log.debug("Failed to unregister the release listener of session {}", getSessionId(database), e);
+            }
+        }
+
+        @Override
+        public void onCreate(ODatabase database) {
+        }
+
+        @Override
+        public void onDelete(ODatabase database) {
+        }
+
+        @Override
+        public void onOpen(ODatabase database) {
+        }
+
+        @Override
+        public void onBeforeTxBegin(ODatabase database) {
+        }
+
+        @Override
+        public void onBeforeTxRollback(ODatabase database) {
+        }
+
+        @Override
+        public void onAfterTxRollback(ODatabase database) {
+        }
+
+        @Override
+        public void onBeforeTxCommit(ODatabase database) {
+        }
+
+        @Override
+        public void onAfterTxCommit(ODatabase database) {
+        }
+
+        @Override
+        public void onBeforeCommand(OCommandRequestText command, OCommandExecutor executor) {
+        }
+
+        @Override
+        public void onAfterCommand(OCommandRequestText command, OCommandExecutor executor, Object result) {
+        }
+    }
+
+    /**
+     * The key of a session by identity, not keeping it from being collected.
+     */
+    private static final class SessionKey {
+
+        private final WeakReference<ODatabase<?>> db;
+
+        private final int hash;
+
+        SessionKey(ODatabase<?> db) {
+            this.db = new WeakReference<>(db);
+            this.hash = System.identityHashCode(db);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+
+            if (!(other instanceof SessionKey)) {
+                return false;
+            }
+
+            Object referent = db.get();
+
+            return referent != null && referent == ((SessionKey) other).db.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Binds the statistics of the session pool of a {@link AbstractOrientDatabaseFactory} and of the transactions of an
+ * {@link OrientTransactionManager} to a Micrometer {@link MeterRegistry}, so an exhausted pool shows as active
+ * sessions reaching the max, growing acquire times and acquire timeouts. All meters are tagged with the url of the
+ * database.
+ */
+public class OrientMetrics implements MeterBinder {
+
+    /** The database factory. */
+    private final AbstractOrientDatabaseFactory<?> factory;
+
+    /** The transaction manager, if any. */
+    private final OrientTransactionManager transactionManager;
+
+    /** The tags of all meters. */
+    private final Iterable<Tag> tags;
+
+    /**
+     * Instantiates a new {@link OrientMetrics}.
+     *
+     * @param factory the database factory
+     * @param transactionManager the transaction manager, {@literal null} to bind the session pool only
+     * @param tags the additional tags of all meters
+     */
+    public OrientMetrics(AbstractOrientDatabaseFactory<?> factory, OrientTransactionManager transactionManager, Iterable<Tag> tags) {
+        Assert.notNull(factory, "Factory must not be null!");
+
+        this.factory = factory;
+        this.transactionManager = transactionManager;
+        this.tags = Tags.concat(tags, "database", String.valueOf(factory.getUrl()));
+    }
+
+    /* (non-Javadoc)
+     * @see io.micrometer.core.instrument.binder.MeterBinder#bindTo(io.micrometer.core.instrument.MeterRegistry)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("orientdb.sessions", factory, AbstractOrientDatabaseFactory::getSessionCount)
+            .description("Sessions created by the pool").tags(tags).register(registry);
+        Gauge.builder("orientdb.sessions.active", factory, AbstractOrientDatabaseFactory::getActiveSessionCount)
+            .description("Sessions acquired from the pool").tags(tags).register(registry);
+        Gauge.builder("orientdb.sessions.idle", factory, AbstractOrientDatabaseFactory::getIdleSessionCount)
+            .description("Sessions waiting in the pool").tags(tags).register(registry);
+        Gauge.builder("orientdb.sessions.max", factory, AbstractOrientDatabaseFactory::getMaxPoolSize)
+            .description("Max sessions of the pool").tags(tags).register(registry);
+
+        FunctionTimer.builder("orientdb.sessions.acquire", factory, AbstractOrientDatabaseFactory::getAcquireCount,
+                f -> f.getAcquireTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+            .description("Time waited for sessions from the pool").tags(tags).register(registry);
+        FunctionCounter.builder("orientdb.sessions.timeouts", factory, AbstractOrientDatabaseFactory::getAcquireTimeoutCount)
+            .description("Sessions not acquired because the pool was exhausted").tags(tags).register(registry);
+        FunctionCounter.builder("orientdb.sessions.reopened", factory, AbstractOrientDatabaseFactory::getReopenCount)
+            .description("Closed sessions of a thread re-opened").tags(tags).register(registry);
+
+        if (transactionManager == null) {
+            return;
+        }
+
+        FunctionTimer.builder("orientdb.transactions", transactionManager, OrientTransactionManager::getBeginCount,
+                m -> m.getBeginTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+            .description("Transactions begun").tags(tags).tag("operation", "begin").register(registry);
+        FunctionTimer.builder("orientdb.transactions", transactionManager, OrientTransactionManager::getCommitCount,
+                m -> m.getCommitTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+            .description("Transactions committed").tags(tags).tag("operation", "commit").register(registry);
+        FunctionTimer.builder("orientdb.transactions", transactionManager, OrientTransactionManager::getRollbackCount,
+                m -> m.getRollbackTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+            .description("Transactions rolled back").tags(tags).tag("operation", "rollback").register(registry);
+    }
+}
@@ -0,0 +1,284 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.hook.ORecordHook;
+import com.orientechnologies.orient.core.hook.ORecordHookAbstract;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+/**
+ * Application wide cache of the record ids found by natural keys, e.g. the e-mail of a user, shared by all pooled
+ * sessions in front of the query methods annotated with
+ * {@link org.springframework.data.orient.commons.repository.annotation.NearCache}. The entity is then loaded by its
+ * record id, through the {@link OrientRecordCache} if one is set. The cache is bounded by its number of keys and
+ * evicts the least recently used keys first.
+ * <p>
+ * A key is dropped when one of its fields is updated or its record is deleted through a session the cache is
+ * registered on. Since changes from other sessions are missed, callers check the loaded entity still matches the key
+ * before using it.
+ */
+public class OrientNearCache extends ORecordHookAbstract {
+
+    /** The max number of cached keys. */
+    private final int maxSize;
+
+    /** The record ids by key in access order. */
+    private final LinkedHashMap<Object, Entry> keys = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** The keys by record id. */
+    private final Map<ORID, Set<Object>> records = new HashMap<>();
+
+    /** The hit count. */
+    private final AtomicLong hits = new AtomicLong();
+
+    /** The miss count. */
+    private final AtomicLong misses = new AtomicLong();
+
+    /** The eviction count. */
+    private final AtomicLong evictions = new AtomicLong();
+
+    /** The count of keys invalidated by changes. */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Instantiates a new {@link OrientNearCache}.
+     *
+     * @param maxSize the max number of cached keys
+     */
+    public OrientNearCache(int maxSize) {
+        Assert.isTrue(maxSize > 0, "Max size must be greater than zero!");
+
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Registers the cache on the given session unless it is registered already, so the changes made through the
+     * session invalidate the cached keys.
+     *
+     * @param db the session
+     */
+    public void register(ODatabase<?> db) {
+        if (!db.getHooks().containsKey(this)) {
+            db.registerHook(this);
+        }
+    }
+
+    /**
+     * Gets the record id cached for the given key.
+     *
+     * @param key the key
+     * @return the record id or {@literal null} on a miss
+     */
+    public ORID get(Object key) {
+        Entry entry;
+
+        synchronized (keys) {
+            entry = keys.get(key);
+        }
+
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        hits.incrementAndGet();
+
+        return entry.rid;
+    }
+
+    /**
+     * Caches the record id for the given key, evicting the least recently used keys beyond the max size.
+     *
+     * @param key the key
+     * @param rid the persistent record id
+     * @param fields the fields of the key
+     */
+    public void put(Object key, ORID rid, Collection<String> fields) {
+        Assert.notNull(key, "Key must not be null!");
+
+        if (!rid.isPersistent()) {
+            return;
+        }
+
+        synchronized (keys) {
+            remove(key);
+
+            keys.put(key, new Entry(rid, new HashSet<>(fields)));
+            records.computeIfAbsent(rid, id -> new HashSet<>()).add(key);
+
+            Iterator<Map.Entry<Object, Entry>> iterator = keys.entrySet().iterator();
+
+            while (keys.size() > maxSize && iterator.hasNext()) {
+                Map.Entry<Object, Entry> eldest = iterator.next();
+                iterator.remove();
+                unlink(eldest.getKey(), eldest.getValue().rid);
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Removes the keys of the given record.
+     *
+     * @param rid the record id
+     */
+    public void invalidate(ORID rid) {
+        invalidate(rid, null);
+    }
+
+    /**
+     * Removes the keys of the given record with any of the given fields.
+     *
+     * @param rid the record id
+     * @param fields the changed fields, {@literal null} to remove all keys of the record
+     */
+    public void invalidate(ORID rid, Collection<String> fields) {
+        synchronized (keys) {
+            Set<Object> recordKeys = records.get(rid);
+
+            if (recordKeys == null) {
+                return;
+            }
+
+            for (Object key : new HashSet<>(recordKeys)) {
+                Entry entry = keys.get(key);
+
+                if (entry != null && (fields == null || !Collections.disjoint(entry.fields, fields))) {
+                    remove(key);
+                    invalidations.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the given key.
+     *
+     * @param key the key
+     */
+    public void evict(Object key) {
+        synchronized (keys) {
+            remove(key);
+        }
+    }
+
+    /**
+     * Removes all keys.
+     */
+    public void clear() {
+        synchronized (keys) {
+            keys.clear();
+            records.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (keys) {
+            return keys.size();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public long getInvalidationCount() {
+        return invalidations.get();
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHookAbstract#onRecordBeforeUpdate(com.orientechnologies.orient.core.record.ORecord)
+     */
+    @Override
+    public RESULT onRecordBeforeUpdate(ORecord record) {
+        // the changed fields are only known before the update is written
+        if (record instanceof ODocument) {
+            invalidate(record.getIdentity(), Arrays.asList(((ODocument) record).getDirtyFields()));
+        } else {
+            invalidate(record.getIdentity());
+        }
+
+        return RESULT.RECORD_NOT_CHANGED;
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHookAbstract#onRecordAfterDelete(com.orientechnologies.orient.core.record.ORecord)
+     */
+    @Override
+    public void onRecordAfterDelete(ORecord record) {
+        invalidate(record.getIdentity());
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHook#getScopes()
+     */
+    @Override
+    public SCOPE[] getScopes() {
+        return new SCOPE[] { SCOPE.UPDATE, SCOPE.DELETE };
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHook#getDistributedExecutionMode()
+     */
+    @Override
+    public ORecordHook.DISTRIBUTED_EXECUTION_MODE getDistributedExecutionMode() {
+        return ORecordHook.DISTRIBUTED_EXECUTION_MODE.BOTH;
+    }
+
+    private void remove(Object key) {
+        Entry entry = keys.remove(key);
+
+        if (entry != null) {
+            unlink(key, entry.rid);
+        }
+    }
+
+    private void unlink(Object key, ORID rid) {
+        Set<Object> recordKeys = records.get(rid);
+
+        if (recordKeys != null && recordKeys.remove(key) && recordKeys.isEmpty()) {
+            records.remove(rid);
+        }
+    }
+
+    /**
+     * A cached record id with the fields of its key.
+     */
+    private static final class Entry {
+
+        private final ORID rid;
+
+        private final Set<String> fields;
+
+        Entry(ORID rid, Set<String> fields) {
+            this.rid = rid;
+            this.fields = fields;
+        }
+    }
+}
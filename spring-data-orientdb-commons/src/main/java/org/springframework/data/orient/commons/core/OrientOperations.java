@@ -8,9 +8,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.springframework.data.orient.commons.core.convert.OrientConverter;
+import org.springframework.data.orient.commons.repository.CountMode;
 import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.data.util.CloseableIterator;
 
 import com.orientechnologies.orient.core.cache.OLocalRecordCache;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
@@ -28,6 +32,7 @@ import com.orientechnologies.orient.core.metadata.security.OSecurityUser;
 import com.orientechnologies.orient.core.metadata.security.OUser;
 import com.orientechnologies.orient.core.query.OQuery;
 import com.orientechnologies.orient.core.sql.OCommandSQL;
+import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.query.OSQLQuery;
 import com.orientechnologies.orient.core.storage.ORecordCallback;
 import com.orientechnologies.orient.core.storage.ORecordMetadata;
@@ -124,6 +129,24 @@ public interface OrientOperations<T> {
     T newInstance();
     
     T load(ORID recordId);
+
+    /**
+     * Checks if the record with the given id exists, reading its metadata only. Records of a class with a populated
+     * {@link OrientExistenceFilter} the filter rules out are not looked up at all.
+     *
+     * @param recordId the record id
+     * @return true, if the record exists
+     */
+    boolean exists(ORID recordId);
+
+    /**
+     * Loads the record with the given id detached in a session of its own. If a {@link OrientBatchLoader} is set, the
+     * record is loaded together with the records other callers request at the same time.
+     *
+     * @param recordId the record id
+     * @return the future entity, {@literal null} if the record does not exist
+     */
+    CompletableFuture<T> loadAsync(ORID recordId);
     
     T load(String recordId);
 
@@ -147,10 +170,136 @@ public interface OrientOperations<T> {
 
     <S extends T> S save(S entity, ODatabase.OPERATION_MODE mode, boolean forceCreate, ORecordCallback<? extends Number> recordCallback, ORecordCallback<Integer> recordUpdatedCallback);
 
+    /**
+     * Saves the given entities in chunks. Every chunk is committed on its own, so memory use is bounded by the chunk
+     * size rather than by the number of entities. A failing chunk is rolled back and reported in the result while
+     * the following chunks are still written. Must not be called within a running transaction.
+     * <p>
+     * With a parallelism greater than one the chunks are written concurrently by worker sessions taken from the pool,
+     * each with its own transactions and its own cluster. A {@code Stream} can be passed as {@code stream::iterator}.
+     *
+     * @param entities the entities
+     * @param options the options
+     * @return the result
+     */
+    BulkWriteResult bulkSave(Iterable<? extends T> entities, BulkWriteOptions options);
+
+    /**
+     * Gets the executor running the asynchronous work, e.g. the query methods returning a
+     * {@link java.util.concurrent.CompletableFuture}.
+     *
+     * @return the async executor
+     */
+    OrientAsyncExecutor getAsyncExecutor();
+
+    /**
+     * Gets the cache of the results of the query methods annotated with
+     * {@link org.springframework.data.orient.commons.repository.annotation.ResultCache}.
+     *
+     * @return the query cache or {@literal null} if results are not cached
+     */
+    OrientQueryCache getQueryCache();
+
+    /**
+     * Gets the cache of the record ids found by the query methods annotated with
+     * {@link org.springframework.data.orient.commons.repository.annotation.NearCache}.
+     *
+     * @return the near cache or {@literal null} if natural keys are not cached
+     */
+    OrientNearCache getNearCache();
+
+    /**
+     * Gets the existence filter of the given class, populating it on first use.
+     *
+     * @param className the class name
+     * @return the existence filter or {@literal null} if the class has none
+     */
+    OrientExistenceFilter getExistenceFilter(String className);
+
+    /**
+     * Gets the loader coalescing the concurrent calls of {@link #loadAsync(ORID)}.
+     *
+     * @return the batch loader or {@literal null} if every record is loaded on its own
+     */
+    OrientBatchLoader getBatchLoader();
+
+    /**
+     * Gets the deduplication of identical queries running at the same time.
+     *
+     * @return the single flight or {@literal null} if every query runs on its own
+     */
+    OrientSingleFlight getSingleFlight();
+
+    /**
+     * Gets the listener notified of the repository method invocations.
+     *
+     * @return the invocation listener or {@literal null} if invocations are not recorded
+     */
+    OrientInvocationListener getInvocationListener();
+
+    /**
+     * Gets the log of the slow statements.
+     *
+     * @return the slow query log or {@literal null} if slow statements are not logged
+     */
+    OrientSlowQueryLog getSlowQueryLog();
+
+    /**
+     * Gets the statistics of the statements by fingerprint.
+     *
+     * @return the statement statistics or {@literal null} if statements are not aggregated
+     */
+    OrientStatementStatistics getStatementStatistics();
+
+    /**
+     * Gets the tracer of the operations.
+     *
+     * @return the tracer or {@literal null} if operations are not traced
+     */
+    OrientTracer getTracer();
+
+    /**
+     * Gets the bulkhead of the given name, bounding the concurrent invocations of repository methods.
+     *
+     * @param name the name
+     * @return the bulkhead or {@literal null} if none has the name
+     */
+    OrientBulkhead getBulkhead(String name);
+
+    /**
+     * Counts the records of the given class and its subclasses from the cluster metadata, without running a query.
+     *
+     * @param className the class name
+     * @return the count
+     */
     long countClass(String className);
 
+    /**
+     * Counts the records of the given class and its subclasses from the cluster metadata, without running a query.
+     *
+     * @param clazz the class
+     * @return the count
+     */
     long countClass(Class<?> clazz);
 
+    /**
+     * Counts the records of the given class and its subclasses from the cluster metadata in the given mode.
+     *
+     * @param className the class name
+     * @param mode the count mode
+     * @return the count
+     */
+    long countClass(String className, CountMode mode);
+
+    /**
+     * Counts the records of the given class and its subclasses from the cluster metadata in the given mode.
+     *
+     * @param clazz the class
+     * @param mode the count mode
+     * @return the count
+     */
+    long countClass(Class<?> clazz, CountMode mode);
+
     long count(OSQLQuery<?> query, Object... args);
 
     long countClusterElements(String clusterName);
@@ -225,6 +374,15 @@ public interface OrientOperations<T> {
      */
     boolean existsClass(String className);
 
+    /**
+     * Checks if a unique index of the class covers the given fields, so they identify at most one record of it.
+     *
+     * @param className simple class name (clazz.getSimpleName())
+     * @param fields the fields
+     * @return true, if a unique index of the class is defined on some of the fields
+     */
+    boolean isUniquelyIndexed(String className, Collection<String> fields);
+
     /**
      * Find field annotated with {@link com.orientechnologies.orient.core.annotation.OId}
      * in entity and return it's value.
@@ -246,12 +404,48 @@ public interface OrientOperations<T> {
 
     <RET> RET detachAll(RET entity);
 
+    /**
+     * Copies the given detached entity, so callers sharing a result do not share its instances. The entities,
+     * collections, maps and arrays it refers to are copied too, the immutable values are shared. The contents of a
+     * final field are copied into the instance the constructor assigned to it.
+     *
+     * @param entity the detached entity
+     * @return the copy
+     * @throws IllegalStateException if the instance the constructor assigned to a final field cannot hold its contents
+     */
+    <RET> RET copy(RET entity);
+
     <RET extends List<?>> RET query(OQuery<?> query, Object... args);
 
     <RET extends List<?>> RET query(OQuery<?> query, DetachMode detachMode, Object... args);
 
     <RET> RET queryForObject(OSQLQuery<?> query, Object... args);
 
+    /**
+     * Executes the given query lazily. Records are fetched, converted and detached one at a time while the returned
+     * iterator is consumed, so the result is never held in memory as a whole. The iterator holds the session of the
+     * current thread until it is closed, so it can be consumed once the transaction it was created in ended, and must
+     * be closed afterwards. Fetch plans are not applied.
+     *
+     * @param query the query
+     * @param detachMode the detach mode applied to every entity
+     * @param args the query arguments
+     * @return the iterator over the entities
+     */
+    <RET> CloseableIterator<RET> stream(OSQLQuery<?> query, DetachMode detachMode, Object... args);
+
+    /**
+     * Executes the given query lazily and maps every result row with the given mapper instead of loading entities,
+     * e.g. for queries selecting only some fields. The iterator holds the session until it is closed. Fetch plans are
+     * not applied.
+     *
+     * @param query the query
+     * @param mapper the mapper of the result rows
+     * @param args the query arguments
+     * @return the iterator over the mapped rows
+     */
+    <RET> CloseableIterator<RET> stream(OSQLQuery<?> query, Function<OResult, RET> mapper, Object... args);
+
     <RET> RET queryForObject(OSQLQuery<?> query, DetachMode detachMode, Object... args);
 
     <RET extends OCommandRequest> RET command(OCommandRequest command);
@@ -0,0 +1,328 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.util.Assert;
+
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.hook.ORecordHook;
+import com.orientechnologies.orient.core.hook.ORecordHookAbstract;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+/**
+ * Application wide cache of query results, shared by all pooled sessions. Every result is cached together with the
+ * names of the classes and clusters it was read from, and is dropped as soon as a record of one of them is created,
+ * updated or deleted through a session the cache is registered on, or when its time to live has passed. The cache is
+ * bounded by its number of results and evicts the least recently used results first.
+ * <p>
+ * Changes the cache does not see, e.g. from other processes, from bulk writes or to classes a query reads without
+ * naming them as its source, are only picked up once the results expire, so the time to live bounds how stale a
+ * result may be. The cached results are shared by all callers and must not be modified.
+ */
+public class OrientQueryCache extends ORecordHookAbstract {
+
+    /** The placeholder of a cached {@literal null} result. */
+    private static final Object NULL = new Object();
+
+    /** The max number of cached results. */
+    private final int maxSize;
+
+    /** The cached results in access order. */
+    private final LinkedHashMap<Object, Entry> results = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** The generation, incremented by every change, so results read before a change are not cached after it. */
+    private final AtomicLong generation = new AtomicLong();
+
+    /** The hit count. */
+    private final AtomicLong hits = new AtomicLong();
+
+    /** The miss count, including the expired results. */
+    private final AtomicLong misses = new AtomicLong();
+
+    /** The count of results found expired. */
+    private final AtomicLong expirations = new AtomicLong();
+
+    /** The eviction count. */
+    private final AtomicLong evictions = new AtomicLong();
+
+    /** The count of results invalidated by changes. */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Instantiates a new {@link OrientQueryCache}.
+     *
+     * @param maxSize the max number of cached results
+     */
+    public OrientQueryCache(int maxSize) {
+        Assert.isTrue(maxSize > 0, "Max size must be greater than zero!");
+
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Registers the cache on the given session unless it is registered already, so the changes made through the
+     * session invalidate the cached results.
+     *
+     * @param db the session
+     */
+    public void register(ODatabase<?> db) {
+        if (!db.getHooks().containsKey(this)) {
+            db.registerHook(this);
+        }
+    }
+
+    /**
+     * Gets the cached result for the given key, or loads and caches it. A result loaded while a change happened is
+     * returned but not cached.
+     *
+     * @param key the key
+     * @param sources the names of the classes and clusters the result is read from
+     * @param ttl the time to live of the result in milliseconds
+     * @param loader the loader of the result
+     * @return the result
+     */
+    public Object get(Object key, Collection<String> sources, long ttl, Supplier<?> loader) {
+        Assert.notNull(key, "Key must not be null!");
+        Assert.isTrue(ttl > 0, "Time to live must be greater than zero!");
+
+        synchronized (results) {
+            Entry entry = results.get(key);
+
+            if (entry != null) {
+                if (System.nanoTime() - entry.expires < 0) {
+                    hits.incrementAndGet();
+                    return entry.value == NULL ? null : entry.value;
+                }
+
+                results.remove(key);
+                expirations.incrementAndGet();
+            }
+        }
+
+        misses.incrementAndGet();
+
+        long loadedGeneration = generation.get();
+        Object value = loader.get();
+
+        Set<String> names = new HashSet<>();
+
+        for (String source : sources) {
+            names.add(source.toLowerCase(Locale.ENGLISH));
+        }
+
+        Entry entry = new Entry(value == null ? NULL : value, names, System.nanoTime() + ttl * 1000000L);
+
+        synchronized (results) {
+            if (generation.get() == loadedGeneration) {
+                results.put(key, entry);
+
+                Iterator<Entry> iterator = results.values().iterator();
+
+                while (results.size() > maxSize && iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                    evictions.incrementAndGet();
+                }
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Removes the results read from any of the given classes or clusters.
+     *
+     * @param sources the names of the classes and clusters
+     */
+    public void invalidate(Collection<String> sources) {
+        Set<String> names = new HashSet<>();
+
+        for (String source : sources) {
+            names.add(source.toLowerCase(Locale.ENGLISH));
+        }
+
+        synchronized (results) {
+            generation.incrementAndGet();
+
+            Iterator<Entry> iterator = results.values().iterator();
+
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+
+                if (!Collections.disjoint(entry.sources, names)) {
+                    iterator.remove();
+                    invalidations.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all results.
+     */
+    public void clear() {
+        synchronized (results) {
+            generation.incrementAndGet();
+            results.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (results) {
+            return results.size();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getExpirationCount() {
+        return expirations.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public long getInvalidationCount() {
+        return invalidations.get();
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHookAbstract#onRecordAfterCreate(com.orientechnologies.orient.core.record.ORecord)
+     */
+    @Override
+    public void onRecordAfterCreate(ORecord record) {
+        invalidate(record);
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHookAbstract#onRecordAfterUpdate(com.orientechnologies.orient.core.record.ORecord)
+     */
+    @Override
+    public void onRecordAfterUpdate(ORecord record) {
+        invalidate(record);
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHookAbstract#onRecordAfterDelete(com.orientechnologies.orient.core.record.ORecord)
+     */
+    @Override
+    public void onRecordAfterDelete(ORecord record) {
+        invalidate(record);
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHookAbstract#onRecordFinalizeCreation(com.orientechnologies.orient.core.record.ORecord)
+     */
+    @Override
+    public void onRecordFinalizeCreation(ORecord record) {
+        invalidate(record);
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHookAbstract#onRecordFinalizeUpdate(com.orientechnologies.orient.core.record.ORecord)
+     */
+    @Override
+    public void onRecordFinalizeUpdate(ORecord record) {
+        invalidate(record);
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHookAbstract#onRecordFinalizeDeletion(com.orientechnologies.orient.core.record.ORecord)
+     */
+    @Override
+    public void onRecordFinalizeDeletion(ORecord record) {
+        invalidate(record);
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHook#getScopes()
+     */
+    @Override
+    public SCOPE[] getScopes() {
+        return new SCOPE[] { SCOPE.CREATE, SCOPE.UPDATE, SCOPE.DELETE };
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHook#getDistributedExecutionMode()
+     */
+    @Override
+    public ORecordHook.DISTRIBUTED_EXECUTION_MODE getDistributedExecutionMode() {
+        return ORecordHook.DISTRIBUTED_EXECUTION_MODE.BOTH;
+    }
+
+    /**
+     * Removes the results read from the class, the superclasses or the cluster of the given record. The results are
+     * removed when the change is made and again once it is committed, so no result read in between stays cached.
+     *
+     * @param record the changed record
+     */
+    private void invalidate(ORecord record) {
+        Set<String> names = new HashSet<>();
+
+        if (record instanceof ODocument) {
+            OClass oClass = ((ODocument) record).getSchemaClass();
+
+            if (oClass != null) {
+                names.add(oClass.getName());
+
+                for (OClass superClass : oClass.getAllSuperClasses()) {
+                    names.add(superClass.getName());
+                }
+            }
+        }
+
+        ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().getIfDefined();
+        int clusterId = record.getIdentity().getClusterId();
+
+        if (db != null && clusterId >= 0) {
+            String clusterName = db.getClusterNameById(clusterId);
+
+            if (clusterName != null) {
+                names.add(clusterName);
+            }
+        }
+
+        invalidate(names);
+    }
+
+    /**
+     * A cached result with its sources and expiry.
+     */
+    private static final class Entry {
+
+        private final Object value;
+
+        private final Set<String> sources;
+
+        private final long expires;
+
+        Entry(Object value, Set<String> sources, long expires) {
+            this.value = value;
+            this.sources = sources;
+            this.expires = expires;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+import org.springframework.util.Assert;
+
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.hook.ORecordHook;
+import com.orientechnologies.orient.core.hook.ORecordHookAbstract;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ORecord;
+
+/**
+ * Application wide cache of records by record id, shared by all pooled sessions in front of
+ * {@link AbstractOrientOperations#load(ORID)}. The cache is bounded by the total weight of its records, by default
+ * their serialized size, and evicts the least recently used records first.
+ * <p>
+ * A cached record is only returned if its version is still the version of the stored record, so changes the cache
+ * missed, e.g. from other processes, are never served. Changes made through a session the cache is registered on
+ * invalidate the record right away. The cache stores and returns copies, callers never share a record instance.
+ */
+public class OrientRecordCache extends ORecordHookAbstract {
+
+    /** The max total weight of the cached records. */
+    private final long maxWeight;
+
+    /** The weigher of the records. */
+    private final ToIntFunction<ORecord> weigher;
+
+    /** The cached records in access order. */
+    private final LinkedHashMap<ORID, Entry> records = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** The total weight of the cached records. */
+    private long weight;
+
+    /** The hit count. */
+    private final AtomicLong hits = new AtomicLong();
+
+    /** The miss count, including the stale records. */
+    private final AtomicLong misses = new AtomicLong();
+
+    /** The count of records found with an outdated version. */
+    private final AtomicLong stale = new AtomicLong();
+
+    /** The eviction count. */
+    private final AtomicLong evictions = new AtomicLong();
+
+    /** The count of records invalidated by changes. */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Instantiates a new {@link OrientRecordCache} weighing the records by their serialized size.
+     *
+     * @param maxWeight the max total size of the cached records in bytes
+     */
+    public OrientRecordCache(long maxWeight) {
+        this(maxWeight, record -> Math.max(1, record.getSize()));
+    }
+
+    /**
+     * Instantiates a new {@link OrientRecordCache}.
+     *
+     * @param maxWeight the max total weight of the cached records
+     * @param weigher the weigher of the records
+     */
+    public OrientRecordCache(long maxWeight, ToIntFunction<ORecord> weigher) {
+        Assert.isTrue(maxWeight > 0, "Max weight must be greater than zero!");
+        Assert.notNull(weigher, "Weigher must not be null!");
+
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Registers the cache on the given session unless it is registered already, so the changes made through the
+     * session invalidate the cached records.
+     *
+     * @param db the session
+     */
+    public void register(ODatabase<?> db) {
+        if (!db.getHooks().containsKey(this)) {
+            db.registerHook(this);
+        }
+    }
+
+    /**
+     * Gets a copy of the cached record with the given id if it has the given version. A record with another version
+     * is removed.
+     *
+     * @param rid the record id
+     * @param version the version of the stored record
+     * @return the copy of the record or {@literal null} on a miss
+     */
+    public ORecord get(ORID rid, int version) {
+        ORecord record;
+
+        synchronized (records) {
+            Entry entry = records.get(rid);
+
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+
+            if (entry.record.getVersion() != version) {
+                remove(rid);
+                stale.incrementAndGet();
+                misses.incrementAndGet();
+                return null;
+            }
+
+            record = entry.record;
+        }
+
+        hits.incrementAndGet();
+
+        return record.copy();
+    }
+
+    /**
+     * Caches a copy of the given persistent record, evicting the least recently used records beyond the max weight.
+     *
+     * @param record the record
+     */
+    public void put(ORecord record) {
+        ORID rid = record.getIdentity();
+
+        if (!rid.isPersistent()) {
+            return;
+        }
+
+        ORecord copy = record.copy();
+        int recordWeight = weigher.applyAsInt(copy);
+
+        if (recordWeight > maxWeight) {
+            return;
+        }
+
+        synchronized (records) {
+            remove(rid);
+
+            records.put(rid, new Entry(copy, recordWeight));
+            weight += recordWeight;
+
+            Iterator<Entry> iterator = records.values().iterator();
+
+            while (weight > maxWeight && iterator.hasNext()) {
+                weight -= iterator.next().weight;
+                iterator.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Removes the record with the given id.
+     *
+     * @param rid the record id
+     */
+    public void invalidate(ORID rid) {
+        synchronized (records) {
+            if (remove(rid)) {
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Removes all records.
+     */
+    public void clear() {
+        synchronized (records) {
+            records.clear();
+            weight = 0;
+        }
+    }
+
+    public int size() {
+        synchronized (records) {
+            return records.size();
+        }
+    }
+
+    public long getWeight() {
+        synchronized (records) {
+            return weight;
+        }
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getStaleCount() {
+        return stale.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public long getInvalidationCount() {
+        return invalidations.get();
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHookAbstract#onRecordAfterUpdate(com.orientechnologies.orient.core.record.ORecord)
+     */
+    @Override
+    public void onRecordAfterUpdate(ORecord record) {
+        invalidate(record.getIdentity());
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHookAbstract#onRecordAfterDelete(com.orientechnologies.orient.core.record.ORecord)
+     */
+    @Override
+    public void onRecordAfterDelete(ORecord record) {
+        invalidate(record.getIdentity());
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHook#getScopes()
+     */
+    @Override
+    public SCOPE[] getScopes() {
+        return new SCOPE[] { SCOPE.UPDATE, SCOPE.DELETE };
+    }
+
+    /* (non-Javadoc)
+     * @see com.orientechnologies.orient.core.hook.ORecordHook#getDistributedExecutionMode()
+     */
+    @Override
+    public ORecordHook.DISTRIBUTED_EXECUTION_MODE getDistributedExecutionMode() {
+        return ORecordHook.DISTRIBUTED_EXECUTION_MODE.BOTH;
+    }
+
+    private boolean remove(ORID rid) {
+        Entry entry = records.remove(rid);
+
+        if (entry == null) {
+            return false;
+        }
+
+        weight -= entry.weight;
+
+        return true;
+    }
+
+    /**
+     * A cached record with its weight.
+     */
+    private static final class Entry {
+
+        private final ORecord record;
+
+        private final int weight;
+
+        Entry(ORecord record, int weight) {
+            this.record = record;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link OrientInvocationListener} recording the repository method invocations to a Micrometer {@link MeterRegistry},
+ * so slow or over-fetching methods show without an agent:
+ * <ul>
+ * <li>{@code orientdb.repository.invocations}, the latency by repository, method, execution type, outcome and
+ * exception</li>
+ * <li>{@code orientdb.repository.results}, the number of returned rows of the successful invocations</li>
+ * <li>{@code orientdb.repository.detach}, the time spent detaching the returned entities</li>
+ * <li>{@code orientdb.repository.queue}, the time spent waiting for a bulkhead permit before running, by
+ * bulkhead</li>
+ * </ul>
+ */
+public class OrientRepositoryMetrics implements OrientInvocationListener {
+
+    /** The registry. */
+    private final MeterRegistry registry;
+
+    /** The tags of all meters. */
+    private final Iterable<Tag> tags;
+
+    /**
+     * Instantiates a new {@link OrientRepositoryMetrics}.
+     *
+     * @param registry the registry
+     * @param tags the additional tags of all meters
+     */
+    public OrientRepositoryMetrics(MeterRegistry registry, Iterable<Tag> tags) {
+        Assert.notNull(registry, "Registry must not be null!");
+
+        this.registry = registry;
+        this.tags = tags;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.core.OrientInvocationListener#afterInvocation(org.springframework.data.orient.commons.core.OrientInvocation)
+     */
+    @Override
+    public void afterInvocation(OrientInvocation invocation) {
+        Tags methodTags = Tags.of(tags)
+            .and("repository", invocation.getRepositoryInterface().getSimpleName())
+            .and("method", invocation.getMethod().getName())
+            .and("execution", invocation.getExecutionType());
+        Throwable failure = invocation.getFailure();
+
+        Timer.builder("orientdb.repository.invocations")
+            .description("Repository method invocations")
+            .tags(methodTags)
+            .tag("outcome", failure == null ? "success" : "error")
+            .tag("exception", failure == null ? "none" : failure.getClass().getSimpleName())
+            .register(registry)
+            .record(invocation.getDuration(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+
+        if (invocation.getResultCount() >= 0) {
+            DistributionSummary.builder("orientdb.repository.results")
+                .description("Rows returned by repository methods")
+                .baseUnit("rows")
+                .tags(methodTags)
+                .register(registry)
+                .record(invocation.getResultCount());
+        }
+
+        long detachTime = invocation.getDetachTime(TimeUnit.NANOSECONDS);
+
+        if (detachTime > 0) {
+            Timer.builder("orientdb.repository.detach")
+                .description("Time repository methods spent detaching entities")
+                .tags(methodTags)
+                .register(registry)
+                .record(detachTime, TimeUnit.NANOSECONDS);
+        }
+
+        if (invocation.getBulkhead() != null) {
+            Timer.builder("orientdb.repository.queue")
+                .description("Time repository methods waited for a bulkhead permit")
+                .tags(methodTags)
+                .tag("bulkhead", invocation.getBulkhead())
+                .register(registry)
+                .record(invocation.getQueueTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.Assert;
+
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+
+/**
+ * {@link CloseableIterator} over an {@link OResultSet}. The result set pulls records from the storage on demand and
+ * every record is converted only when it is requested. The session of the result set is released once the iterator is
+ * closed, and the {@link CloseListener} notified of the rows read and the time spent fetching them.
+ *
+ * @param <T> the type of the converted records
+ */
+class OrientResultSetIterator<T> implements CloseableIterator<T> {
+
+    /** The result set. */
+    private final OResultSet resultSet;
+
+    /** The converter of the results. */
+    private final Function<OResult, T> converter;
+
+    /** The release of the session of the result set. */
+    private final Runnable release;
+
+    /** The listener notified once the result set is closed. */
+    private final CloseListener listener;
+
+    /** Whether the result set is closed. */
+    private boolean closed;
+
+    /** Whether fetching a record failed. */
+    private boolean failed;
+
+    /** The number of read rows. */
+    private int rows;
+
+    /** The time spent fetching the rows in nanoseconds. */
+    private long fetchTime;
+
+    /**
+     * Instantiates a new {@link OrientResultSetIterator}.
+     *
+     * @param resultSet the result set
+     * @param converter the converter of the results
+     * @param release the release of the session of the result set
+     * @param listener the listener notified once the result set is closed
+     */
+    OrientResultSetIterator(OResultSet resultSet, Function<OResult, T> converter, Runnable release, CloseListener listener) {
+        Assert.notNull(resultSet, "Result set must not be null!");
+        Assert.notNull(converter, "Converter must not be null!");
+        Assert.notNull(release, "Release must not be null!");
+        Assert.notNull(listener, "Listener must not be null!");
+
+        this.resultSet = resultSet;
+        this.converter = converter;
+        this.release = release;
+        this.listener = listener;
+    }
+
+    /* (non-Javadoc)
+     * @see java.util.Iterator#hasNext()
+     */
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+
+        if (!fetch(resultSet::hasNext)) {
+            close();
+            return false;
+        }
+
+        return true;
+    }
+
+    /* (non-Javadoc)
+     * @see java.util.Iterator#next()
+     */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        OResult result = fetch(resultSet::next);
+        rows++;
+
+        return converter.apply(result);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.util.CloseableIterator#close()
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+
+            try {
+                resultSet.close();
+            } finally {
+                try {
+                    release.run();
+                } finally {
+                    listener.closed(rows, fetchTime, failed);
+                }
+            }
+        }
+    }
+
+    private <R> R fetch(Supplier<R> action) {
+        long start = System.nanoTime();
+
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            failed = true;
+            throw e;
+        } finally {
+            fetchTime += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Listener notified once the result set of an {@link OrientResultSetIterator} is closed.
+     */
+    interface CloseListener {
+
+        /**
+         * Called once the result set is closed.
+         *
+         * @param rows the number of read rows
+         * @param fetchTime the time spent fetching the rows in nanoseconds
+         * @param failed whether fetching a row failed
+         */
+        void closed(int rows, long fetchTime, boolean failed);
+    }
+}
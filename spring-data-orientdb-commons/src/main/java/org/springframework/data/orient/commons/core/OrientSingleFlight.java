@@ -0,0 +1,103 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.springframework.util.Assert;
+
+/**
+ * Deduplicates identical queries running at the same time, e.g. the queries of all threads missing the same expired
+ * cache entry. The first caller of a key runs the query, the callers arriving while it runs wait for its result
+ * instead of running the query again and receive their own copy of it. Nothing is kept once the query is done, so a
+ * caller arriving after it runs the query again.
+ */
+public class OrientSingleFlight {
+
+    /** The running calls by key. */
+    private final ConcurrentMap<Object, Call> calls = new ConcurrentHashMap<>();
+
+    /** The count of executed calls. */
+    private final AtomicLong executions = new AtomicLong();
+
+    /** The count of calls sharing the result of an executed call. */
+    private final AtomicLong shared = new AtomicLong();
+
+    /**
+     * Runs the given action unless a call with the same key is running, in which case its result is awaited and copied.
+     * A failure of the running call is rethrown to all its callers. The caller running the action receives a copy as
+     * well if others shared the result, so no two callers share an instance.
+     *
+     * @param key the key
+     * @param action the action
+     * @param copier the copier of the result for the callers sharing it
+     * @param <R> the type of the result
+     * @return the result
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R execute(Object key, Supplier<R> action, UnaryOperator<R> copier) {
+        Assert.notNull(key, "Key must not be null!");
+
+        Call call = new Call();
+        // followers register atomically with the removal of the call, so none joins once the action returned
+        Call running = calls.compute(key, (k, current) -> {
+            if (current == null) {
+                return call;
+            }
+
+            current.waiters++;
+
+            return current;
+        });
+
+        if (running != call) {
+            shared.incrementAndGet();
+
+            R result = (R) OrientAsyncExecutor.join(running.result);
+
+            return result == null ? null : copier.apply(result);
+        }
+
+        executions.incrementAndGet();
+
+        R result;
+
+        try {
+            result = action.get();
+        } catch (RuntimeException | Error e) {
+            call.result.completeExceptionally(e);
+            calls.remove(key, call);
+            throw e;
+        }
+
+        call.result.complete(result);
+        calls.remove(key, call);
+
+        return result == null || call.waiters == 0 ? result : copier.apply(result);
+    }
+
+    public int getRunningCount() {
+        return calls.size();
+    }
+
+    public long getExecutionCount() {
+        return executions.get();
+    }
+
+    public long getSharedCount() {
+        return shared.get();
+    }
+
+    /**
+     * A running call with the number of callers waiting for its result.
+     */
+    private static final class Call {
+
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private int waiters;
+    }
+}
@@ -0,0 +1,187 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+
+/**
+ * Logs the statements run through the operations that take longer than a threshold, with their bound parameters
+ * redacted to their types, the repository method they were run for, the row count and the elapsed time. Optionally
+ * the first slow run of every query is explained, so the log shows whether it used an index or scanned its class.
+ * <p>
+ * The threshold can be changed at runtime, e.g. lowered while investigating.
+ */
+public class OrientSlowQueryLog {
+
+    /** The logger. */
+    private static final Logger log = LoggerFactory.getLogger(OrientSlowQueryLog.class);
+
+    /** The max number of distinct queries explained. */
+    private static final int MAX_EXPLAINED = 1000;
+
+    /** The threshold in nanoseconds. */
+    private volatile long threshold;
+
+    /** Whether slow queries are explained. */
+    private final boolean explain;
+
+    /** The queries explained already. */
+    private final Set<String> explained = ConcurrentHashMap.newKeySet();
+
+    /** The count of logged statements. */
+    private final AtomicLong slowCount = new AtomicLong();
+
+    /**
+     * Instantiates a new {@link OrientSlowQueryLog}.
+     *
+     * @param threshold the time from which a statement is logged
+     * @param unit the unit of the threshold
+     * @param explain whether the first slow run of every query is explained
+     */
+    public OrientSlowQueryLog(long threshold, TimeUnit unit, boolean explain) {
+        setThreshold(threshold, unit);
+
+        this.explain = explain;
+    }
+
+    /**
+     * Checks if a statement running for the given time is logged.
+     *
+     * @param elapsed the elapsed time in nanoseconds
+     * @return true, if the statement is slow
+     */
+    public boolean isSlow(long elapsed) {
+        return elapsed >= threshold;
+    }
+
+    /**
+     * Logs the given statement if it is slow.
+     *
+     * @param db the session that ran the statement, explaining it
+     * @param sql the statement
+     * @param args the bound parameters
+     * @param rows the number of returned or changed rows, -1 if unknown
+     * @param elapsed the elapsed time in nanoseconds
+     * @return true, if the statement was logged
+     */
+    public boolean log(ODatabase<?> db, String sql, Object[] args, int rows, long elapsed) {
+        if (!isSlow(elapsed)) {
+            return false;
+        }
+
+        slowCount.incrementAndGet();
+
+        OrientInvocation invocation = OrientInvocation.current();
+        String caller = invocation == null ? "none"
+                : invocation.getRepositoryInterface().getSimpleName() + "." + invocation.getMethod().getName();
+        String plan = explain && isQuery(sql) && explained.size() < MAX_EXPLAINED && explained.add(sql) ? explain(db, sql, args) : null;
+
+        if (plan == null) {
+            log.warn("Slow query took {} ms, {} rows, caller {}: {} with parameters {}", TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    rows, caller, sql, redact(args));
+        } else {
+            log.warn("Slow query took {} ms, {} rows, caller {}, access {}: {} with parameters {}\n{}", TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    rows, caller, getAccess(plan), sql, redact(args), plan);
+        }
+
+        return true;
+    }
+
+    public long getThreshold(TimeUnit unit) {
+        return unit.convert(threshold, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Sets the time from which a statement is logged.
+     *
+     * @param threshold the threshold
+     * @param unit the unit of the threshold
+     */
+    public void setThreshold(long threshold, TimeUnit unit) {
+        Assert.isTrue(threshold >= 0, "Threshold must not be negative!");
+        Assert.notNull(unit, "Unit must not be null!");
+
+        this.threshold = unit.toNanos(threshold);
+    }
+
+    public boolean isExplain() {
+        return explain;
+    }
+
+    public long getSlowCount() {
+        return slowCount.get();
+    }
+
+    /**
+     * Runs the given query again with {@code EXPLAIN}, which plans it without executing it.
+     *
+     * @param db the session
+     * @param sql the query
+     * @param args the bound parameters
+     * @return the plan
+     */
+    private String explain(ODatabase<?> db, String sql, Object[] args) {
+        try (OResultSet result = db.query("explain " + sql, args)) {
+            return result.getExecutionPlan().map(plan -> plan.prettyPrint(0, 2)).orElse("no plan");
+        } catch (RuntimeException e) {
+            return "no plan: " + e.getMessage();
+        }
+    }
+
+    private static boolean isQuery(String sql) {
+        String statement = sql.trim().toLowerCase(Locale.ROOT);
+
+        return statement.startsWith("select") || statement.startsWith("match") || statement.startsWith("traverse");
+    }
+
+    /**
+     * Gets how the given plan reads the records.
+     *
+     * @param plan the plan
+     * @return index, full scan or unknown
+     */
+    private static String getAccess(String plan) {
+        if (plan.contains("FETCH FROM INDEX")) {
+            return "index";
+        } else if (plan.contains("FETCH FROM CLASS") || plan.contains("FETCH FROM CLUSTER")) {
+            return "full scan";
+        }
+
+        return "unknown";
+    }
+
+    /**
+     * Renders the given parameters by their types only, so values like e-mails or tokens are not logged.
+     *
+     * @param args the parameters
+     * @return the redacted parameters
+     */
+    private static String redact(Object[] args) {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+
+        if (args != null) {
+            for (Object arg : args) {
+                if (arg == null) {
+                    joiner.add("null");
+                } else if (arg instanceof Collection) {
+                    joiner.add(arg.getClass().getSimpleName() + "(" + ((Collection<?>) arg).size() + ")");
+                } else {
+                    joiner.add(arg.getClass().getSimpleName());
+                }
+            }
+        }
+
+        return joiner.toString();
+    }
+}
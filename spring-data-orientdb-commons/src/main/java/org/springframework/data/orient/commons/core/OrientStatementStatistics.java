@@ -0,0 +1,379 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.springframework.util.Assert;
+
+/**
+ * Aggregates the statements run through the operations by fingerprint, their SQL with literals replaced by
+ * placeholders, in the spirit of {@code pg_stat_statements}. Every fingerprint tracks its calls, errors, returned rows
+ * and a latency histogram, so the statements costing the most time overall can be found rather than the single slow
+ * runs. Lazily executed queries are recorded once their iterator is closed, with the rows read and the time spent
+ * fetching them.
+ * <p>
+ * The counters are striped {@link LongAdder}s and the histograms lock-free log-linear buckets of microseconds with at
+ * most 6.25% error, in the manner of HdrHistogram. Once the max number of fingerprints is reached, new fingerprints
+ * are only counted as dropped.
+ */
+public class OrientStatementStatistics {
+
+    /** The string literals. */
+    private static final Pattern STRINGS = Pattern.compile("'(?:[^'\\\\]|\\\\.)*'|\"(?:[^\"\\\\]|\\\\.)*\"");
+
+    /** The number literals not part of a name, e.g. of a cluster or a record id. */
+    private static final Pattern NUMBERS = Pattern.compile("(?<![\\w#:.])-?\\d+(?:\\.\\d+)?(?![\\w:])");
+
+    /** The collections of placeholders. */
+    private static final Pattern COLLECTIONS = Pattern.compile("\\[\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\]");
+
+    /** The parenthesized lists of placeholders, e.g. of an {@code IN}. */
+    private static final Pattern LISTS = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+    /** The runs of whitespace. */
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /** The max number of tracked fingerprints. */
+    private final int maxStatements;
+
+    /** The statistics by fingerprint. */
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /** The count of runs of statements not tracked because the max number of fingerprints was reached. */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Instantiates a new {@link OrientStatementStatistics}.
+     *
+     * @param maxStatements the max number of tracked fingerprints
+     */
+    public OrientStatementStatistics(int maxStatements) {
+        Assert.isTrue(maxStatements > 0, "Max statements must be greater than zero!");
+
+        this.maxStatements = maxStatements;
+    }
+
+    /**
+     * Records a successful run of the given statement.
+     *
+     * @param sql the statement
+     * @param rows the number of returned or changed rows, -1 if unknown
+     * @param elapsed the elapsed time in nanoseconds
+     */
+    public void record(String sql, int rows, long elapsed) {
+        Entry entry = getEntry(sql);
+
+        if (entry != null) {
+            entry.record(elapsed);
+
+            if (rows > 0) {
+                entry.rows.add(rows);
+            }
+        }
+    }
+
+    /**
+     * Records a failed run of the given statement.
+     *
+     * @param sql the statement
+     * @param elapsed the elapsed time in nanoseconds
+     */
+    public void recordError(String sql, long elapsed) {
+        Entry entry = getEntry(sql);
+
+        if (entry != null) {
+            entry.record(elapsed);
+            entry.errors.increment();
+        }
+    }
+
+    /**
+     * Gets the statistics of the statements costing the most time overall.
+     *
+     * @param limit the max number of statements
+     * @return the statistics by descending total time
+     */
+    public List<Statement> getTopStatements(int limit) {
+        List<Statement> statements = getStatements();
+        statements.sort(Comparator.comparingDouble(Statement::getTotalTime).reversed());
+
+        return statements.size() > limit ? new ArrayList<>(statements.subList(0, limit)) : statements;
+    }
+
+    /**
+     * Gets the statistics of all tracked statements.
+     *
+     * @return the statistics
+     */
+    public List<Statement> getStatements() {
+        List<Statement> statements = new ArrayList<>(entries.size());
+
+        entries.forEach((fingerprint, entry) -> statements.add(entry.toStatement(fingerprint)));
+
+        return statements;
+    }
+
+    /**
+     * Removes all statistics.
+     */
+    public void reset() {
+        entries.clear();
+        dropped.set(0);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Normalizes the given statement to its fingerprint: string and number literals are replaced by placeholders,
+     * lists of placeholders collapsed to one and whitespace collapsed to single spaces.
+     *
+     * @param sql the statement
+     * @return the fingerprint
+     */
+    public static String fingerprint(String sql) {
+        String fingerprint = STRINGS.matcher(sql).replaceAll("?");
+        fingerprint = NUMBERS.matcher(fingerprint).replaceAll("?");
+        fingerprint = COLLECTIONS.matcher(fingerprint).replaceAll("[?]");
+        fingerprint = LISTS.matcher(fingerprint).replaceAll("(?)");
+
+        return WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+    }
+
+    private Entry getEntry(String sql) {
+        String fingerprint = fingerprint(sql);
+        Entry entry = entries.get(fingerprint);
+
+        if (entry == null) {
+            if (entries.size() >= maxStatements) {
+                dropped.incrementAndGet();
+                return null;
+            }
+
+            entry = entries.computeIfAbsent(fingerprint, key -> new Entry());
+        }
+
+        return entry;
+    }
+
+    /**
+     * The statistics of a fingerprint.
+     */
+    public static final class Statement {
+
+        /** The fingerprint. */
+        private final String fingerprint;
+
+        /** The number of runs. */
+        private final long calls;
+
+        /** The number of failed runs. */
+        private final long errors;
+
+        /** The number of returned or changed rows. */
+        private final long rows;
+
+        /** The total time in milliseconds. */
+        private final double totalTime;
+
+        /** The 95th percentile in milliseconds. */
+        private final double p95;
+
+        /** The 99th percentile in milliseconds. */
+        private final double p99;
+
+        /** The max time in milliseconds. */
+        private final double maxTime;
+
+        Statement(String fingerprint, long calls, long errors, long rows, double totalTime, double p95, double p99, double maxTime) {
+            this.fingerprint = fingerprint;
+            this.calls = calls;
+            this.errors = errors;
+            this.rows = rows;
+            this.totalTime = totalTime;
+            this.p95 = p95;
+            this.p99 = p99;
+            this.maxTime = maxTime;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        /**
+         * Gets the total time in milliseconds.
+         *
+         * @return the total time
+         */
+        public double getTotalTime() {
+            return totalTime;
+        }
+
+        /**
+         * Gets the mean time in milliseconds.
+         *
+         * @return the mean time
+         */
+        public double getMeanTime() {
+            return calls == 0 ? 0 : totalTime / calls;
+        }
+
+        /**
+         * Gets the 95th percentile of the time in milliseconds.
+         *
+         * @return the 95th percentile
+         */
+        public double getP95() {
+            return p95;
+        }
+
+        /**
+         * Gets the 99th percentile of the time in milliseconds.
+         *
+         * @return the 99th percentile
+         */
+        public double getP99() {
+            return p99;
+        }
+
+        /**
+         * Gets the max time in milliseconds, within the precision of the histogram.
+         *
+         * @return the max time
+         */
+        public double getMaxTime() {
+            return maxTime;
+        }
+
+        /* (non-Javadoc)
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString() {
+            return String.format("%s: %d calls, %.3f ms", fingerprint, calls, totalTime);
+        }
+    }
+
+    /**
+     * The counters and the latency histogram of a fingerprint.
+     */
+    private static final class Entry {
+
+        /** The sub-buckets per power of two, bounding the error to 1/16. */
+        private static final int SUB_BUCKETS = 16;
+
+        /** The highest power of two of the tracked microseconds, about 19 hours. */
+        private static final int MAX_EXPONENT = 36;
+
+        /** The number of runs. */
+        private final LongAdder calls = new LongAdder();
+
+        /** The number of failed runs. */
+        private final LongAdder errors = new LongAdder();
+
+        /** The number of returned or changed rows. */
+        private final LongAdder rows = new LongAdder();
+
+        /** The total time in nanoseconds. */
+        private final LongAdder totalTime = new LongAdder();
+
+        /** The counts of the runs by bucket of microseconds. */
+        private final AtomicLongArray buckets = new AtomicLongArray((MAX_EXPONENT - 2) * SUB_BUCKETS);
+
+        void record(long elapsed) {
+            calls.increment();
+            totalTime.add(elapsed);
+            buckets.incrementAndGet(index(TimeUnit.NANOSECONDS.toMicros(elapsed)));
+        }
+
+        Statement toStatement(String fingerprint) {
+            long[] counts = new long[buckets.length()];
+            long count = 0;
+
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets.get(i);
+                count += counts[i];
+            }
+
+            return new Statement(fingerprint, calls.sum(), errors.sum(), rows.sum(), totalTime.sum() / 1e6,
+                    percentile(counts, count, 0.95), percentile(counts, count, 0.99), percentile(counts, count, 1.0));
+        }
+
+        /**
+         * Gets the given percentile of the recorded times.
+         *
+         * @return the percentile in milliseconds
+         */
+        private static double percentile(long[] counts, long count, double percentile) {
+            long rank = (long) Math.ceil(count * percentile);
+            long seen = 0;
+
+            for (int i = 0; i < counts.length && count > 0; i++) {
+                seen += counts[i];
+
+                if (seen >= rank) {
+                    return value(i) / 1e3;
+                }
+            }
+
+            return 0;
+        }
+
+        /**
+         * Gets the bucket of the given microseconds: exact below 16, then 16 buckets per power of two.
+         */
+        private static int index(long micros) {
+            if (micros < SUB_BUCKETS) {
+                return (int) Math.max(micros, 0);
+            }
+
+            int exponent = Math.min(63 - Long.numberOfLeadingZeros(micros), MAX_EXPONENT - 1);
+            int subBucket = (int) Math.min(micros >>> (exponent - 4), 2 * SUB_BUCKETS - 1) - SUB_BUCKETS;
+
+            return (exponent - 3) * SUB_BUCKETS + subBucket;
+        }
+
+        /**
+         * Gets the microseconds in the middle of the given bucket.
+         */
+        private static double value(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+
+            int exponent = index / SUB_BUCKETS + 3;
+            long width = 1L << (exponent - 4);
+
+            return (SUB_BUCKETS + index % SUB_BUCKETS) * width + width / 2.0;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.springframework.data.orient.commons.core;
+
+/**
+ * Traces the queries, counts, commands, loads and saves run through the operations, e.g. as spans of a distributed
+ * trace. A span is started and ended on the calling thread.
+ */
+public interface OrientTracer {
+
+    /**
+     * Starts tracing the given operation.
+     *
+     * @param operation the operation, e.g. query, count, command, load or save
+     * @param database the database name
+     * @param statement the statement fingerprint, {@literal null} for a load or save
+     * @return the traced operation
+     */
+    Operation start(String operation, String database, String statement);
+
+    /**
+     * A traced operation, e.g. a started span.
+     */
+    interface Operation {
+
+        /**
+         * Sets the fetch plan of the operation.
+         *
+         * @param fetchPlan the fetch plan
+         */
+        void setFetchPlan(String fetchPlan);
+
+        /**
+         * Sets the number of returned or changed rows.
+         *
+         * @param rows the rows
+         */
+        void setRows(int rows);
+
+        /**
+         * Ends tracing the operation.
+         *
+         * @param failure the failure of the operation, {@literal null} if it succeeded
+         */
+        void end(Throwable failure);
+    }
+}
@@ -0,0 +1,208 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+
+/**
+ * Traces the repository method invocations and the statements, loads and saves of the operations as OpenTelemetry
+ * spans, so distributed traces show what a request did in OrientDB:
+ * <ul>
+ * <li>a span per repository method, e.g. {@code AccountRepository.findByActive}, with the execution type, the detach
+ * mode, the number of returned rows and the time waited for a bulkhead permit</li>
+ * <li>a client span per operation, e.g. {@code query mydb}, with the database name, the statement fingerprint, the
+ * fetch plan and the number of returned or changed rows</li>
+ * </ul>
+ * The spans are current while they run, so the spans of the statements are children of the span of the repository
+ * method. To keep the parent across the asynchronous query methods, the tasks of the {@link OrientAsyncExecutor} are
+ * decorated with {@link #wrap(Runnable)}.
+ */
+public class OrientTracing implements OrientTracer, OrientInvocationListener {
+
+    /** The name of the instrumentation. */
+    public static final String INSTRUMENTATION_NAME = "org.springframework.data.orient";
+
+    static final AttributeKey<String> DB_SYSTEM = AttributeKey.stringKey("db.system");
+
+    static final AttributeKey<String> DB_NAME = AttributeKey.stringKey("db.name");
+
+    static final AttributeKey<String> DB_OPERATION = AttributeKey.stringKey("db.operation");
+
+    static final AttributeKey<String> DB_STATEMENT = AttributeKey.stringKey("db.statement");
+
+    static final AttributeKey<String> CODE_NAMESPACE = AttributeKey.stringKey("code.namespace");
+
+    static final AttributeKey<String> CODE_FUNCTION = AttributeKey.stringKey("code.function");
+
+    static final AttributeKey<String> EXECUTION = AttributeKey.stringKey("orientdb.execution");
+
+    static final AttributeKey<String> FETCH_PLAN = AttributeKey.stringKey("orientdb.fetch_plan");
+
+    static final AttributeKey<String> DETACH_MODE = AttributeKey.stringKey("orientdb.detach_mode");
+
+    static final AttributeKey<Long> ROWS = AttributeKey.longKey("orientdb.rows");
+
+    static final AttributeKey<String> BULKHEAD = AttributeKey.stringKey("orientdb.bulkhead");
+
+    static final AttributeKey<Long> QUEUE_TIME = AttributeKey.longKey("orientdb.queue_time_ms");
+
+    /** The attribute of the span of an invocation. */
+    private static final String SPAN = OrientTracing.class.getName() + ".span";
+
+    /** The attribute of the scope of the span of an invocation. */
+    private static final String SCOPE = OrientTracing.class.getName() + ".scope";
+
+    /** The tracer. */
+    private final Tracer tracer;
+
+    /**
+     * Instantiates a new {@link OrientTracing}.
+     *
+     * @param openTelemetry the OpenTelemetry instance
+     */
+    public OrientTracing(OpenTelemetry openTelemetry) {
+        Assert.notNull(openTelemetry, "OpenTelemetry must not be null!");
+
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+    }
+
+    /**
+     * Wraps the given task to run in the trace context of the calling thread, e.g. as the
+     * {@link OrientAsyncExecutor#setTaskDecorator(org.springframework.core.task.TaskDecorator) task decorator} of the
+     * asynchronous executor.
+     *
+     * @param task the task
+     * @return the wrapped task
+     */
+    public Runnable wrap(Runnable task) {
+        return Context.current().wrap(task);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.core.OrientTracer#start(java.lang.String, java.lang.String, java.lang.String)
+     */
+    @Override
+    public OrientTracer.Operation start(String operation, String database, String statement) {
+        Span span = tracer.spanBuilder(operation + " " + database)
+            .setSpanKind(SpanKind.CLIENT)
+            .setAttribute(DB_SYSTEM, "orientdb")
+            .setAttribute(DB_NAME, database)
+            .setAttribute(DB_OPERATION, operation)
+            .startSpan();
+
+        if (statement != null) {
+            span.setAttribute(DB_STATEMENT, statement);
+        }
+
+        return new OperationSpan(span, span.makeCurrent());
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.core.OrientInvocationListener#beforeInvocation(org.springframework.data.orient.commons.core.OrientInvocation)
+     */
+    @Override
+    public void beforeInvocation(OrientInvocation invocation) {
+        Span span = tracer.spanBuilder(invocation.getRepositoryInterface().getSimpleName() + "." + invocation.getMethod().getName())
+            .setSpanKind(SpanKind.INTERNAL)
+            .setAttribute(DB_SYSTEM, "orientdb")
+            .setAttribute(CODE_NAMESPACE, invocation.getRepositoryInterface().getName())
+            .setAttribute(CODE_FUNCTION, invocation.getMethod().getName())
+            .startSpan();
+
+        invocation.setAttribute(SPAN, span);
+        invocation.setAttribute(SCOPE, span.makeCurrent());
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.core.OrientInvocationListener#afterReturn(org.springframework.data.orient.commons.core.OrientInvocation)
+     */
+    @Override
+    public void afterReturn(OrientInvocation invocation) {
+        Scope scope = (Scope) invocation.getAttribute(SCOPE);
+
+        if (scope != null) {
+            invocation.setAttribute(SCOPE, null);
+            scope.close();
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.core.OrientInvocationListener#afterInvocation(org.springframework.data.orient.commons.core.OrientInvocation)
+     */
+    @Override
+    public void afterInvocation(OrientInvocation invocation) {
+        Span span = (Span) invocation.getAttribute(SPAN);
+
+        if (span == null) {
+            return;
+        }
+
+        span.setAttribute(EXECUTION, invocation.getExecutionType());
+
+        if (invocation.getDetachMode() != null) {
+            span.setAttribute(DETACH_MODE, invocation.getDetachMode().name());
+        }
+
+        if (invocation.getResultCount() >= 0) {
+            span.setAttribute(ROWS, (long) invocation.getResultCount());
+        }
+
+        if (invocation.getBulkhead() != null) {
+            span.setAttribute(BULKHEAD, invocation.getBulkhead());
+            span.setAttribute(QUEUE_TIME, invocation.getQueueTime(TimeUnit.MILLISECONDS));
+        }
+
+        end(span, invocation.getFailure());
+    }
+
+    private static void end(Span span, Throwable failure) {
+        if (failure != null) {
+            span.recordException(failure);
+            span.setStatus(StatusCode.ERROR);
+        }
+
+        span.end();
+    }
+
+    /**
+     * The span of an operation, current until it ends.
+     */
+    private static final class OperationSpan implements OrientTracer.Operation {
+
+        private final Span span;
+
+        private final Scope scope;
+
+        OperationSpan(Span span, Scope scope) {
+            this.span = span;
+            this.scope = scope;
+        }
+
+        @Override
+        public void setFetchPlan(String fetchPlan) {
+            span.setAttribute(FETCH_PLAN, fetchPlan);
+        }
+
+        @Override
+        public void setRows(int rows) {
+            if (rows >= 0) {
+                span.setAttribute(ROWS, (long) rows);
+            }
+        }
+
+        @Override
+        public void end(Throwable failure) {
+            scope.close();
+            OrientTracing.end(span, failure);
+        }
+    }
+}
@@ -13,6 +13,9 @@ import org.springframework.transaction.support.DefaultTransactionStatus;
 import org.springframework.transaction.support.ResourceTransactionManager;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * {@link org.springframework.transaction.PlatformTransactionManager} implementation
  * for OrientDB.
@@ -29,6 +32,24 @@ public class OrientTransactionManager extends AbstractPlatformTransactionManager
     /** The database factory. */
     private OrientDatabaseFactory<?> dbf;
 
+    /** The count of begun transactions. */
+    private final AtomicLong beginCount = new AtomicLong();
+
+    /** The total time spent beginning transactions in nanoseconds. */
+    private final AtomicLong beginTime = new AtomicLong();
+
+    /** The count of committed transactions. */
+    private final AtomicLong commitCount = new AtomicLong();
+
+    /** The total time spent committing transactions in nanoseconds. */
+    private final AtomicLong commitTime = new AtomicLong();
+
+    /** The count of rolled back transactions. */
+    private final AtomicLong rollbackCount = new AtomicLong();
+
+    /** The total time spent rolling back transactions in nanoseconds. */
+    private final AtomicLong rollbackTime = new AtomicLong();
+
     /**
      * Instantiates a new {@link OrientTransactionManager}.
      *
@@ -72,6 +93,7 @@ public class OrientTransactionManager extends AbstractPlatformTransactionManager
     @Override
     protected void doBegin(Object transaction, TransactionDefinition definition) throws TransactionException {
         OrientTransaction tx = (OrientTransaction) transaction;
+        long start = System.nanoTime();
 
         ODatabase<?> db = tx.getDatabase();
         if (db == null || db.isClosed()) {
@@ -82,7 +104,11 @@ public class OrientTransactionManager extends AbstractPlatformTransactionManager
         
         log.debug("beginning transaction, db.hashCode() = {}", db.hashCode());
         
-        db.begin();
+        try {
+            db.begin();
+        } finally {
+            record(beginCount, beginTime, start);
+        }
     }
 
     /* (non-Javadoc)
@@ -95,7 +121,17 @@ public class OrientTransactionManager extends AbstractPlatformTransactionManager
         
         log.debug("committing transaction, db.hashCode() = {}", db.hashCode());
         
-        db.commit();
+        long start = System.nanoTime();
+        Object event = OrientFlightRecorder.beginTransaction();
+        boolean failed = true;
+
+        try {
+            db.commit();
+            failed = false;
+        } finally {
+            record(commitCount, commitTime, start);
+            OrientFlightRecorder.commitTransaction(event, "commit", failed);
+        }
     }
 
     /* (non-Javadoc)
@@ -108,7 +144,17 @@ public class OrientTransactionManager extends AbstractPlatformTransactionManager
         
         log.debug("rolling back transaction, db.hashCode() = {}", db.hashCode());
         
-        db.rollback();
+        long start = System.nanoTime();
+        Object event = OrientFlightRecorder.beginTransaction();
+        boolean failed = true;
+
+        try {
+            db.rollback();
+            failed = false;
+        } finally {
+            record(rollbackCount, rollbackTime, start);
+            OrientFlightRecorder.commitTransaction(event, "rollback", failed);
+        }
     }
     
     /* (non-Javadoc)
@@ -169,6 +215,30 @@ public class OrientTransactionManager extends AbstractPlatformTransactionManager
         return dbf;
     }
 
+    public long getBeginCount() {
+        return beginCount.get();
+    }
+
+    public long getBeginTime(TimeUnit unit) {
+        return unit.convert(beginTime.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getCommitCount() {
+        return commitCount.get();
+    }
+
+    public long getCommitTime(TimeUnit unit) {
+        return unit.convert(commitTime.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getRollbackCount() {
+        return rollbackCount.get();
+    }
+
+    public long getRollbackTime(TimeUnit unit) {
+        return unit.convert(rollbackTime.get(), TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Gets the database factory for the database managed by this transaction manager.
      *
@@ -186,4 +256,16 @@ public class OrientTransactionManager extends AbstractPlatformTransactionManager
     public void setDatabaseFactory(OrientDatabaseFactory<?> databaseFactory) {
         this.dbf = databaseFactory;
     }
+
+    /**
+     * Counts an operation on a transaction and adds the time it took since the given start.
+     *
+     * @param count the count of the operation
+     * @param time the total time of the operation
+     * @param start the start in nanoseconds
+     */
+    private static void record(AtomicLong count, AtomicLong time, long start) {
+        count.incrementAndGet();
+        time.addAndGet(System.nanoTime() - start);
+    }
 }
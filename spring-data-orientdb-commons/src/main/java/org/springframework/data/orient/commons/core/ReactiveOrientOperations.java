@@ -0,0 +1,85 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.function.Function;
+
+import org.springframework.data.orient.commons.repository.DetachMode;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.sql.query.OSQLQuery;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link OrientOperations}. Nothing happens until the returned publishers are subscribed, and
+ * the database is never accessed on the subscribing thread.
+ *
+ * @param <T> the type of the entities
+ */
+public interface ReactiveOrientOperations<T> {
+
+    /**
+     * Gets the blocking operations the reactive operations run on.
+     *
+     * @return the blocking operations
+     */
+    OrientOperations<T> getOperations();
+
+    /**
+     * Gets the detach mode applied to the emitted entities.
+     *
+     * @return the detach mode
+     */
+    DetachMode getDetachMode();
+
+    /**
+     * Detaches the given entity according to the detach mode. Must be called on the database scheduler, e.g. within
+     * {@link #execute(Function)}.
+     *
+     * @param entity the entity
+     * @param <RET> the type of the entity
+     * @return the detached entity
+     */
+    <RET> RET detach(RET entity);
+
+    /**
+     * Runs the given blocking action on the database scheduler. The result is emitted as returned by the action, so
+     * entities must be detached by the action itself.
+     *
+     * @param action the action
+     * @param <R> the type of the result
+     * @return the result or an empty {@link Mono} if the action returned {@literal null}
+     */
+    <R> Mono<R> execute(Function<OrientOperations<T>, R> action);
+
+    /**
+     * Executes the given query lazily. Records are fetched from the result set only as they are requested by the
+     * subscriber, so a slow subscriber never causes the whole result to be held in memory.
+     *
+     * @param query the query
+     * @param args the arguments
+     * @param <RET> the type of the results
+     * @return the results
+     */
+    <RET> Flux<RET> query(OSQLQuery<?> query, Object... args);
+
+    <RET> Mono<RET> queryForObject(OSQLQuery<?> query, Object... args);
+
+    Mono<Long> count(OSQLQuery<?> query, Object... args);
+
+    Mono<Long> countClass(Class<?> clazz);
+
+    Mono<Long> countClusterElements(String clusterName);
+
+    Mono<T> load(ORID recordId);
+
+    <S extends T> Mono<S> save(S entity);
+
+    <S extends T> Mono<S> save(S entity, String cluster);
+
+    Mono<Void> delete(ORID recordId);
+
+    Mono<Void> delete(T entity);
+
+    Mono<Long> command(String sql, Object... args);
+}
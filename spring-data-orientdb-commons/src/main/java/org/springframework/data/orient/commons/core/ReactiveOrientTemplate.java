@@ -0,0 +1,217 @@
+package org.springframework.data.orient.commons.core;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.Assert;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.sql.query.OSQLQuery;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Default implementation of {@link ReactiveOrientOperations}.
+ * <p>
+ * Every operation runs the blocking {@link OrientOperations} on a bounded {@link Scheduler}, so at most as many
+ * database sessions as the scheduler has threads are in use and event loop threads are never parked on the
+ * database. The scheduler should have fewer threads than the pool has connections. Entities are detached before they
+ * are emitted, since they are used away from the thread that loaded them, and records are loaded bypassing the local
+ * cache of the session, since a write may have happened on another scheduler thread.
+ *
+ * @param <T> the type of the entities
+ */
+public class ReactiveOrientTemplate<T> implements ReactiveOrientOperations<T>, DisposableBean {
+
+    /** The blocking operations. */
+    private final OrientOperations<T> operations;
+
+    /** The scheduler running the blocking operations. */
+    private final Scheduler scheduler;
+
+    /** Whether the scheduler was created by this template. */
+    private final boolean ownScheduler;
+
+    /** The detach mode applied to the emitted entities. */
+    private DetachMode detachMode = DetachMode.ALL;
+
+    /**
+     * Instantiates a new {@link ReactiveOrientTemplate} running at most the given number of operations at a time.
+     *
+     * @param operations the blocking operations
+     * @param maxConcurrency the number of scheduler threads
+     */
+    public ReactiveOrientTemplate(OrientOperations<T> operations, int maxConcurrency) {
+        this(operations, Schedulers.newParallel("orient-reactive", maxConcurrency), true);
+    }
+
+    /**
+     * Instantiates a new {@link ReactiveOrientTemplate} running on the given scheduler. The scheduler must be bounded
+     * and is not disposed by the template.
+     *
+     * @param operations the blocking operations
+     * @param scheduler the scheduler
+     */
+    public ReactiveOrientTemplate(OrientOperations<T> operations, Scheduler scheduler) {
+        this(operations, scheduler, false);
+    }
+
+    private ReactiveOrientTemplate(OrientOperations<T> operations, Scheduler scheduler, boolean ownScheduler) {
+        Assert.notNull(operations, "Operations must not be null!");
+        Assert.notNull(scheduler, "Scheduler must not be null!");
+
+        this.operations = operations;
+        this.scheduler = scheduler;
+        this.ownScheduler = ownScheduler;
+    }
+
+    @Override
+    public OrientOperations<T> getOperations() {
+        return operations;
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    @Override
+    public DetachMode getDetachMode() {
+        return detachMode;
+    }
+
+    public void setDetachMode(DetachMode detachMode) {
+        Assert.notNull(detachMode, "Detach mode must not be null!");
+        this.detachMode = detachMode;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.core.ReactiveOrientOperations#execute(java.util.function.Function)
+     */
+    @Override
+    public <R> Mono<R> execute(Function<OrientOperations<T>, R> action) {
+        return Mono.fromCallable(() -> action.apply(operations)).subscribeOn(scheduler);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.core.ReactiveOrientOperations#query(com.orientechnologies.orient.core.sql.query.OSQLQuery, java.lang.Object[])
+     */
+    @Override
+    public <RET> Flux<RET> query(OSQLQuery<?> query, Object... args) {
+        return Flux.defer(() -> {
+            // the iterator holds a session of the pool until it is closed, and the pool binds the session to the thread
+            // acquiring it, so it is opened, read and closed on a single worker, even if cancelled from another thread
+            Scheduler worker = Schedulers.single(scheduler);
+
+            return Flux.<RET, CloseableIterator<RET>> using(
+                    () -> open(worker, () -> operations.stream(query, detachMode, args)),
+                    iterator -> Flux.fromIterable(() -> iterator),
+                    iterator -> close(worker, iterator))
+                    .subscribeOn(worker)
+                    .cancelOn(worker);
+        });
+    }
+
+    private static <RET> CloseableIterator<RET> open(Scheduler worker, Supplier<CloseableIterator<RET>> stream) {
+        try {
+            return stream.get();
+        } catch (RuntimeException e) {
+            worker.dispose();
+            throw e;
+        }
+    }
+
+    private static void close(Scheduler worker, CloseableIterator<?> iterator) {
+        try {
+            iterator.close();
+        } finally {
+            worker.dispose();
+        }
+    }
+
+    @Override
+    public <RET> Mono<RET> queryForObject(OSQLQuery<?> query, Object... args) {
+        return execute(ops -> ops.<RET> queryForObject(query, detachMode, args));
+    }
+
+    @Override
+    public Mono<Long> count(OSQLQuery<?> query, Object... args) {
+        return execute(ops -> ops.count(query, args));
+    }
+
+    @Override
+    public Mono<Long> countClass(Class<?> clazz) {
+        return execute(ops -> ops.countClass(clazz));
+    }
+
+    @Override
+    public Mono<Long> countClusterElements(String clusterName) {
+        return execute(ops -> ops.countClusterElements(clusterName));
+    }
+
+    @Override
+    public Mono<T> load(ORID recordId) {
+        // subscriptions share the sessions of the scheduler threads, so their local caches may be stale
+        return execute(ops -> detach(ops.load(recordId, null, true)));
+    }
+
+    @Override
+    public <S extends T> Mono<S> save(S entity) {
+        return execute(ops -> detach(ops.save(entity)));
+    }
+
+    @Override
+    public <S extends T> Mono<S> save(S entity, String cluster) {
+        return execute(ops -> detach(ops.save(entity, cluster)));
+    }
+
+    @Override
+    public Mono<Void> delete(ORID recordId) {
+        return execute(ops -> ops.delete(recordId)).then();
+    }
+
+    @Override
+    public Mono<Void> delete(T entity) {
+        return execute(ops -> ops.delete(entity)).then();
+    }
+
+    @Override
+    public Mono<Long> command(String sql, Object... args) {
+        return execute(ops -> ops.<Number> command(sql, args)).map(Number::longValue);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.core.ReactiveOrientOperations#detach(java.lang.Object)
+     */
+    @Override
+    public <RET> RET detach(RET entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        switch (detachMode) {
+            case ENTITY:
+                return operations.detach(entity);
+            case ALL:
+                return operations.detachAll(entity);
+            case NONE:
+            default:
+                return entity;
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.beans.factory.DisposableBean#destroy()
+     */
+    @Override
+    public void destroy() {
+        if (ownScheduler) {
+            scheduler.dispose();
+        }
+    }
+}
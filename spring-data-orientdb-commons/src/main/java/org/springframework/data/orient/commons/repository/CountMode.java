@@ -0,0 +1,13 @@
+package org.springframework.data.orient.commons.repository;
+
+/**
+ * How the total of an unfiltered count is read from the class metadata.
+ */
+public enum CountMode {
+
+    /** The cluster counters adjusted by the changes of the current transaction. */
+    EXACT,
+
+    /** The cluster counters of the storage only, ignoring the changes of the current transaction. */
+    APPROXIMATE
+}
@@ -0,0 +1,98 @@
+package org.springframework.data.orient.commons.repository;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * Request for a {@link Window} of entities using keyset (seek) pagination.
+ * <p>
+ * Instead of skipping rows the query continues after the last seen sort key values and {@code @rid}, so every window
+ * costs the same regardless of how deep it is. The first window is requested with {@link #of(int)}, the following ones
+ * with {@link Window#nextPageable()}.
+ */
+public final class KeysetPageable {
+
+    /** The window size. */
+    private final int size;
+
+    /** The sort key values of the last seen entity, keyed by property path. */
+    private final Map<String, Object> keys;
+
+    /** The record id of the last seen entity. */
+    private final String rid;
+
+    /**
+     * Instantiates a new {@link KeysetPageable} continuing after the given position.
+     *
+     * @param size the window size
+     * @param keys the sort key values of the last seen entity
+     * @param rid the record id of the last seen entity, {@literal null} for the first window
+     */
+    public KeysetPageable(int size, Map<String, Object> keys, String rid) {
+        Assert.isTrue(size > 0, "Window size must be greater than zero!");
+        Assert.notNull(keys, "Keys must not be null!");
+
+        this.size = size;
+        this.keys = Collections.unmodifiableMap(new LinkedHashMap<>(keys));
+        this.rid = rid;
+    }
+
+    /**
+     * Creates a request for the first window of the given size.
+     *
+     * @param size the window size
+     * @return the keyset pageable
+     */
+    public static KeysetPageable of(int size) {
+        return new KeysetPageable(size, Collections.<String, Object> emptyMap(), null);
+    }
+
+    /**
+     * Checks if this is the request for the first window.
+     *
+     * @return true, if no position was seen yet
+     */
+    public boolean isInitial() {
+        return rid == null;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Map<String, Object> getKeys() {
+        return keys;
+    }
+
+    public String getRid() {
+        return rid;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        KeysetPageable that = (KeysetPageable) o;
+
+        if (size != that.size) return false;
+        if (!keys.equals(that.keys)) return false;
+        return rid != null ? rid.equals(that.rid) : that.rid == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = size;
+        result = 31 * result + keys.hashCode();
+        result = 31 * result + (rid != null ? rid.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetPageable [size=" + size + ", keys=" + keys + ", rid=" + rid + "]";
+    }
+}
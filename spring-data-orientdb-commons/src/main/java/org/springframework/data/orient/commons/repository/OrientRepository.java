@@ -1,10 +1,13 @@
 package org.springframework.data.orient.commons.repository;
 
 import org.springframework.data.domain.Sort;
+import org.springframework.data.orient.commons.core.BulkWriteOptions;
+import org.springframework.data.orient.commons.core.BulkWriteResult;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The Orient specific extension of {@link org.springframework.data.repository.Repository}.
@@ -25,6 +28,27 @@ public interface OrientRepository<T> extends PagingAndSortingRepository<T, Strin
      */
     <S extends T> S save(S entity, String cluster);
     
+    /**
+     * Saves the given entities in chunks, committing every chunk on its own instead of holding all of them in one
+     * transaction. Unlike {@link #saveAll(Iterable)} the saved entities are not returned, so ingesting millions of
+     * entities needs no more memory than a chunk. Must not be called within a running transaction.
+     *
+     * @param entities the entities
+     * @param options the bulk write options
+     * @return the number of saved entities, the throughput and the failed chunks
+     */
+    BulkWriteResult saveAll(Iterable<? extends T> entities, BulkWriteOptions options);
+    
+    /**
+     * Retrieves an entity by its id asynchronously, detached in a session of its own. If the operations have an
+     * {@link org.springframework.data.orient.commons.core.OrientBatchLoader}, concurrent calls are loaded with one
+     * query.
+     *
+     * @param id the id
+     * @return the future entity, {@literal null} if none was found
+     */
+    CompletableFuture<T> findByIdAsync(String id);
+
     /**
      * Returns the number of entities available with the given cluster.
      * 
@@ -90,6 +114,18 @@ public interface OrientRepository<T> extends PagingAndSortingRepository<T, Strin
     @Override
     List<T> findAll(Sort sort);
     
+    /**
+     * Returns a {@link Window} of entities ordered by the given {@link Sort} and the record id. Unlike
+     * {@link #findAll(org.springframework.data.domain.Pageable)} the next window continues after the keys of the last
+     * seen entity instead of skipping records, so deep windows are as fast as the first one when an index covers the
+     * sort properties.
+     *
+     * @param pageable the keyset pageable, {@link KeysetPageable#of(int)} for the first window
+     * @param sort the sort, the properties must not be null
+     * @return the window
+     */
+    Window<T> findAll(KeysetPageable pageable, Sort sort);
+    
     /* (non-Javadoc)
      * @see org.springframework.data.repository.CrudRepository#findAll(java.lang.Iterable)
      */
@@ -100,13 +136,35 @@ public interface OrientRepository<T> extends PagingAndSortingRepository<T, Strin
      * Deletes all entities managed by the repository for the given cluster.
      *
      * @param cluster the cluster name
+     * @return the number of deleted entities
      */
-    void deleteAll(String cluster);
+    long deleteAll(String cluster);
     
     /**
      * Deletes all entities with the given type managed by the repository.
      *
      * @param domainClass the domain class
+     * @return the number of deleted entities
+     */
+    long deleteAll(Class<? extends T> domainClass);
+    
+    /**
+     * Deletes all entities of the given {@link OrientSource} with a single {@code DELETE} command executed by the
+     * server, without loading the entities.
+     *
+     * @param source the source
+     * @return the number of deleted entities
+     */
+    long deleteAll(OrientSource source);
+    
+    /**
+     * Deletes all entities of the given {@link OrientSource} in chunks of the given size. Every chunk is deleted and
+     * committed in its own transaction, so the size of a transaction stays bounded for very large sources. A failure
+     * leaves the chunks committed before it deleted. Must not be called within a running transaction.
+     *
+     * @param source the source
+     * @param chunkSize the max number of entities deleted per transaction
+     * @return the number of deleted entities
      */
-    void deleteAll(Class<? extends T> domainClass);
+    long deleteAll(OrientSource source, int chunkSize);
 }
@@ -0,0 +1,66 @@
+package org.springframework.data.orient.commons.repository;
+
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The Orient specific extension of {@link ReactiveSortingRepository}. The blocking database access runs on the
+ * scheduler of the {@link org.springframework.data.orient.commons.core.ReactiveOrientOperations}, and the emitted
+ * entities are detached.
+ *
+ * @param <T> the generic type to handle
+ */
+@NoRepositoryBean
+public interface ReactiveOrientRepository<T> extends ReactiveSortingRepository<T, String> {
+
+    /**
+     * Saves a given entity to the given cluster.
+     *
+     * @param entity the entity
+     * @param cluster the cluster name
+     * @return the saved entity
+     */
+    <S extends T> Mono<S> save(S entity, String cluster);
+
+    /**
+     * Returns all entities in the given cluster.
+     *
+     * @param cluster the cluster name
+     * @return the entities
+     */
+    Flux<T> findAll(String cluster);
+
+    /**
+     * Returns all entities in the given source.
+     *
+     * @param source the source
+     * @return the entities
+     */
+    Flux<T> findAll(OrientSource source);
+
+    /**
+     * Returns the number of entities in the given cluster.
+     *
+     * @param cluster the cluster name
+     * @return the number of entities
+     */
+    Mono<Long> count(String cluster);
+
+    /**
+     * Deletes all entities in the given source with a single command.
+     *
+     * @param source the source
+     * @return the number of deleted entities
+     */
+    Mono<Long> deleteAll(OrientSource source);
+
+    /**
+     * Gets the domain class.
+     *
+     * @return the domain class
+     */
+    Class<T> getDomainClass();
+}
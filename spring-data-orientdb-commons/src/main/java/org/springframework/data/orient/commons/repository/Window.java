@@ -0,0 +1,68 @@
+package org.springframework.data.orient.commons.repository;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * A window of entities fetched with a {@link KeysetPageable}.
+ *
+ * @param <T> the type of the content
+ */
+public final class Window<T> {
+
+    /** The content. */
+    private final List<T> content;
+
+    /** The request for the next window or {@literal null} if this is the last one. */
+    private final KeysetPageable next;
+
+    /**
+     * Instantiates a new {@link Window}.
+     *
+     * @param content the content
+     * @param next the request for the next window, {@literal null} if this is the last one
+     */
+    public Window(List<T> content, KeysetPageable next) {
+        Assert.notNull(content, "Content must not be null!");
+
+        this.content = Collections.unmodifiableList(content);
+        this.next = next;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int size() {
+        return content.size();
+    }
+
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+
+    /**
+     * Checks if there is a window after this one.
+     *
+     * @return true, if there are more entities
+     */
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    /**
+     * Gets the request for the next window.
+     *
+     * @return the request or {@literal null} if this is the last window
+     */
+    public KeysetPageable nextPageable() {
+        return next;
+    }
+
+    @Override
+    public String toString() {
+        return "Window [size=" + content.size() + ", next=" + next + "]";
+    }
+}
@@ -0,0 +1,11 @@
+package org.springframework.data.orient.commons.repository.annotation;
+
+import java.lang.annotation.*;
+
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+public @interface Bulkhead {
+
+    String value();
+}
@@ -0,0 +1,17 @@
+package org.springframework.data.orient.commons.repository.annotation;
+
+import org.springframework.data.orient.commons.repository.CountMode;
+
+import java.lang.annotation.*;
+
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+public @interface Count {
+
+    /** The mode reading the count of queries without criteria from the cluster metadata. */
+    CountMode value() default CountMode.EXACT;
+
+    /** Whether a page counts on another pooled session while its content is fetched. */
+    boolean parallel() default false;
+}
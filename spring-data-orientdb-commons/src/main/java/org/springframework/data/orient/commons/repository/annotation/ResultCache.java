@@ -0,0 +1,16 @@
+package org.springframework.data.orient.commons.repository.annotation;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+public @interface ResultCache {
+
+    /** The time to live of the cached results. */
+    long ttl() default 60;
+
+    /** The unit of the time to live. */
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
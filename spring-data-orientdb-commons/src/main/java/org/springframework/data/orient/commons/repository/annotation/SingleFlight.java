@@ -0,0 +1,9 @@
+package org.springframework.data.orient.commons.repository.annotation;
+
+import java.lang.annotation.*;
+
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+public @interface SingleFlight {
+}
@@ -2,6 +2,7 @@ package org.springframework.data.orient.commons.repository.config;
 
 import org.springframework.data.orient.commons.repository.support.OrientRepositoryFactoryBean;
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
+import org.springframework.data.repository.core.RepositoryMetadata;
 
 /**
  * {@link org.springframework.data.repository.config.RepositoryConfigurationExtension} for OrientDB.
@@ -22,4 +23,13 @@ public class OrientRepositoryConfigExtension extends RepositoryConfigurationExte
 	public String getRepositoryFactoryBeanClassName() {
 		return OrientRepositoryFactoryBean.class.getName();
 	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#useRepositoryConfiguration(org.springframework.data.repository.core.RepositoryMetadata)
+	 */
+	@Override
+	protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+		// reactive repositories are registered by the ReactiveOrientRepositoryConfigExtension
+		return !metadata.isReactiveRepository();
+	}
 }
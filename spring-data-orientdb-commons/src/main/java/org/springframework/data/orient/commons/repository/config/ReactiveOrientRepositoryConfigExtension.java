@@ -0,0 +1,36 @@
+package org.springframework.data.orient.commons.repository.config;
+
+import org.springframework.data.orient.commons.repository.support.ReactiveOrientRepositoryFactoryBean;
+import org.springframework.data.repository.core.RepositoryMetadata;
+
+/**
+ * {@link org.springframework.data.repository.config.RepositoryConfigurationExtension} for reactive OrientDB
+ * repositories. Only reactive repository interfaces are picked up, the blocking ones are left to
+ * {@link OrientRepositoryConfigExtension}.
+ */
+public class ReactiveOrientRepositoryConfigExtension extends OrientRepositoryConfigExtension {
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#getModuleName()
+     */
+    @Override
+    public String getModuleName() {
+        return "Reactive Orient";
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.config.OrientRepositoryConfigExtension#getRepositoryFactoryBeanClassName()
+     */
+    @Override
+    public String getRepositoryFactoryBeanClassName() {
+        return ReactiveOrientRepositoryFactoryBean.class.getName();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#useRepositoryConfiguration(org.springframework.data.repository.core.RepositoryMetadata)
+     */
+    @Override
+    protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+        return metadata.isReactiveRepository();
+    }
+}
@@ -0,0 +1,29 @@
+package org.springframework.data.orient.commons.repository.config;
+
+import java.lang.annotation.Annotation;
+
+import org.springframework.data.repository.config.RepositoryBeanDefinitionRegistrarSupport;
+import org.springframework.data.repository.config.RepositoryConfigurationExtension;
+
+/**
+ * {@link org.springframework.context.annotation.ImportBeanDefinitionRegistrar} to enable
+ * {@link EnableReactiveOrientRepositories} annotation.
+ */
+public class ReactiveOrientRepositoryRegistrar extends RepositoryBeanDefinitionRegistrarSupport {
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryBeanDefinitionRegistrarSupport#getAnnotation()
+     */
+    @Override
+    protected Class<? extends Annotation> getAnnotation() {
+        return EnableReactiveOrientRepositories.class;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryBeanDefinitionRegistrarSupport#getExtension()
+     */
+    @Override
+    protected RepositoryConfigurationExtension getExtension() {
+        return new ReactiveOrientRepositoryConfigExtension();
+    }
+}
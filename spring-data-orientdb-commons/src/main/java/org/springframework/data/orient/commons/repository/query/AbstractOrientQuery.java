@@ -1,14 +1,31 @@
 package org.springframework.data.orient.commons.repository.query;
 
 import com.orientechnologies.orient.core.sql.query.OSQLQuery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.orient.commons.core.OrientInvocation;
 import org.springframework.data.orient.commons.core.OrientOperations;
+import org.springframework.data.orient.commons.repository.CountMode;
 import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.data.orient.commons.repository.OrientSource;
+import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.AsyncExecution;
+import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.CachingExecution;
 import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.CollectionExecution;
 import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.CountExecution;
+import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.ExistsExecution;
+import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.NaturalKeyExecution;
 import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.PagedExecution;
 import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.SingleEntityExecution;
+import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.SingleFlightExecution;
+import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.SlicedExecution;
+import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.StreamExecution;
 import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.DeleteExecution;
+import org.springframework.data.orient.commons.repository.query.OrientQueryExecution.WindowExecution;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * The base class to implement {@link org.springframework.data.repository.query.RepositoryQuery}s for OrientDB.
@@ -21,6 +38,9 @@ public abstract class AbstractOrientQuery implements RepositoryQuery {
     /** The object operations. */
     private final OrientOperations operations;
 
+    /** The type of the execution creating the result, resolved on the first execution. */
+    private volatile String executionType;
+
     /**
      * Instantiates a new {@link AbstractOrientQuery}.
      *
@@ -45,7 +65,18 @@ public abstract class AbstractOrientQuery implements RepositoryQuery {
      */
     @Override
     public Object execute(Object[] parameters) {
-        return doExecute(getExecution(), parameters);
+        OrientInvocation.recordExecution(getExecutionType());
+        
+        Object result = doExecute(getExecution(), parameters);
+        
+        if (method.isAsyncQuery() || getProjection(parameters) != null) {
+            return result;
+        }
+        
+        // projections that can not be selected field by field are created from the entities
+        ResultProcessor processor = method.getResultProcessor().withDynamicProjection(new OrientParametersParameterAccessor(method.getParameters(), parameters));
+        
+        return processor.getReturnedType().isProjecting() ? processor.processResult(result) : result;
     }
     
     /**
@@ -99,21 +130,153 @@ public abstract class AbstractOrientQuery implements RepositoryQuery {
     @SuppressWarnings("rawtypes")
     protected abstract OSQLQuery<?> doCreateCountQuery(Object[] values);
     
+    /**
+     * Gets the source whose records are counted when the query has no criteria, so the count can be read from the
+     * cluster metadata instead of running the count query.
+     *
+     * @param values the parameters for query
+     * @return the source or {@literal null} if the count query must be run
+     */
+    protected OrientSource getCountSource(Object[] values) {
+        return null;
+    }
+    
+    /**
+     * Gets the projection whose fields the created query selects instead of whole records.
+     *
+     * @param values the parameters for query
+     * @return the projection or {@literal null} if the query returns entities
+     */
+    OrientProjection getProjection(Object[] values) {
+        return null;
+    }
+    
+    /**
+     * Gets the natural key the created query finds its single entity by.
+     *
+     * @param values the parameters for query
+     * @return the values by field or {@literal null} if the query has no natural key
+     */
+    Map<String, Object> getNaturalKey(Object[] values) {
+        return null;
+    }
+    
+    /**
+     * Prepares the values to bind to the placeholders of the created queries.
+     *
+     * @param parameters the method parameters
+     * @param values the parameters values
+     * @return the values to bind
+     */
+    protected Object[] prepareParameters(OrientParameters parameters, Object[] values) {
+        int index = 0;
+        List<Object> params = new ArrayList<>();
+        
+        for (OrientParameter parameter : parameters) {
+            if (parameter.isBindable()) {
+                params.add(values[index]);
+            }
+            
+            ++index;
+        }
+        
+        return params.toArray();
+    }
+    
+    /**
+     * Gets the sort the created query is ordered by.
+     *
+     * @param accessor the parameter accessor
+     * @return the sort
+     */
+    protected Sort getSort(OrientParameterAccessor accessor) {
+        return accessor.getSort();
+    }
+    
     /**
      * Gets the execution for query.
      *
      * @return the execution
      */
     protected OrientQueryExecution getExecution() {
+        OrientQueryExecution execution = getResultExecution();
+        
+        if (method.isSingleFlight() && !(execution instanceof DeleteExecution)) {
+            execution = new SingleFlightExecution(operations, method.getParameters(), execution);
+        }
+        
+        if (method.isResultCached() && !(execution instanceof DeleteExecution)) {
+            execution = new CachingExecution(operations, method.getParameters(), execution, method.getResultCacheTtl());
+        }
+        
+        if (method.isNearCached()) {
+            execution = new NaturalKeyExecution(operations, method.getParameters(), execution);
+        }
+        
+        return method.isAsyncQuery() ? new AsyncExecution(operations, method.getParameters(), execution) : execution;
+    }
+    
+    /**
+     * Gets the type of the execution creating the result of the query, e.g. collection or paged, recorded for the
+     * {@link org.springframework.data.orient.commons.core.OrientInvocationListener}.
+     *
+     * @return the execution type
+     */
+    private String getExecutionType() {
+        String type = executionType;
+        
+        if (type == null) {
+            OrientQueryExecution execution = getResultExecution();
+            
+            if (execution instanceof WindowExecution) {
+                type = "window";
+            } else if (execution instanceof StreamExecution) {
+                type = "stream";
+            } else if (execution instanceof CollectionExecution) {
+                type = "collection";
+            } else if (execution instanceof ExistsExecution) {
+                type = "exists";
+            } else if (execution instanceof CountExecution) {
+                type = "count";
+            } else if (execution instanceof SlicedExecution) {
+                type = "sliced";
+            } else if (execution instanceof PagedExecution) {
+                type = "paged";
+            } else if (execution instanceof DeleteExecution) {
+                type = "delete";
+            } else {
+                type = "single";
+            }
+            
+            executionType = type;
+        }
+        
+        return type;
+    }
+    
+    /**
+     * Gets the execution creating the result of the query, regardless of whether it is returned asynchronously.
+     *
+     * @return the execution
+     */
+    private OrientQueryExecution getResultExecution() {
         final OrientParameters parameters = method.getParameters();
         
-        if (method.isCollectionQuery()) {
+        if (method.isWindowQuery()) {
+            return new WindowExecution(operations, parameters);
+        } else if (method.isStreamQuery() || method.isIteratorQuery()) {
+            return new StreamExecution(operations, parameters, method.isStreamQuery());
+        } else if (method.isCollectionQuery()) {
             return new CollectionExecution(operations, parameters);
+        } else if (isExistsQuery()) {
+            return new ExistsExecution(operations, parameters);
         } else if (isCountQuery()) {
             return new CountExecution(operations, parameters);
+        } else if (method.isSliceQuery()) {
+            return new SlicedExecution(operations, parameters);
         } else if (method.isPageQuery()) {
             return new PagedExecution(operations, parameters);
-        } else if (method.isQueryForEntity()) {
+        } else if (method.isQueryForEntity() || isProjectionQuery()) {
             return new SingleEntityExecution(operations, parameters);
         }  else if (method.getName().startsWith("deleteBy")) {
             //using deleteBy prefix in method name since method object does not 
@@ -124,6 +287,15 @@ public abstract class AbstractOrientQuery implements RepositoryQuery {
         throw new IllegalArgumentException();
     }
     
+    /**
+     * Checks if the query returns a single projection of the entity rather than the entity itself.
+     *
+     * @return true, if the method returns a projection
+     */
+    private boolean isProjectionQuery() {
+        return method.getResultProcessor().getReturnedType().isProjecting() || method.getParameters().hasDynamicProjection();
+    }
+    
     /**
      * Checks if is count query.
      *
@@ -131,6 +303,15 @@ public abstract class AbstractOrientQuery implements RepositoryQuery {
      */
     protected abstract boolean isCountQuery();
     
+    /**
+     * Checks if is exists query.
+     *
+     * @return true, if is exists query
+     */
+    protected boolean isExistsQuery() {
+        return false;
+    }
+    
     @SuppressWarnings("rawtypes")
     private OSQLQuery<?> applyFetchPlan(OSQLQuery query) {
         String fetchPlan = method.getFetchPlan();
@@ -145,4 +326,12 @@ public abstract class AbstractOrientQuery implements RepositoryQuery {
     protected DetachMode getDetachMode() {
         return method.getDetachMode();
     }
+
+    protected CountMode getCountMode() {
+        return method.getCountMode();
+    }
+
+    protected boolean isParallelCount() {
+        return method.isParallelCount();
+    }
 }
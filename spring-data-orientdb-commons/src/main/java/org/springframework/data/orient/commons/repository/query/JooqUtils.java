@@ -18,11 +18,18 @@ import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 
 public final class JooqUtils {
 
+    /** The shared context, only used to render queries and never modified. */
+    private static final DSLContext CONTEXT = createContext();
+
     private JooqUtils() throws InstantiationException {
         throw new InstantiationException("This class is not for instantiation");
     }
 
     public static DSLContext context() {
+        return CONTEXT;
+    }
+
+    private static DSLContext createContext() {
     	Settings settings = new Settings();
     	settings.setRenderSchema(false);
     	settings.setRenderCatalog(false);
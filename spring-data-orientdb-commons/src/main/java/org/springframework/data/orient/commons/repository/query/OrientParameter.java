@@ -1,6 +1,7 @@
 package org.springframework.data.orient.commons.repository.query;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.data.orient.commons.repository.KeysetPageable;
 import org.springframework.data.orient.commons.repository.OrientCluster;
 import org.springframework.data.orient.commons.repository.OrientSource;
 import org.springframework.data.repository.query.Parameter;
@@ -10,7 +11,7 @@ import java.util.List;
 
 public class OrientParameter extends Parameter {
  
-    static final List<Class<?>> ORIENT_TYPES = Arrays.asList(OrientSource.class, OrientCluster.class);
+    static final List<Class<?>> ORIENT_TYPES = Arrays.asList(OrientSource.class, OrientCluster.class, KeysetPageable.class);
     
     static final List<Class<?>> ORIENT_SOURCE_TYPES = Arrays.asList(OrientSource.class, OrientCluster.class);
     
@@ -36,4 +37,13 @@ public class OrientParameter extends Parameter {
     boolean isSource() {
         return OrientSource.class.isAssignableFrom(getType());
     }
+    
+    /**
+     * Checks if the parameter is the keyset pageable.
+     *
+     * @return true, if it's keyset pageable
+     */
+    boolean isKeyset() {
+        return KeysetPageable.class.isAssignableFrom(getType());
+    }
 }
@@ -1,9 +1,17 @@
 package org.springframework.data.orient.commons.repository.query;
 
+import org.springframework.data.orient.commons.repository.KeysetPageable;
 import org.springframework.data.orient.commons.repository.OrientSource;
 import org.springframework.data.repository.query.ParameterAccessor;
 
 public interface OrientParameterAccessor extends ParameterAccessor {
 
     OrientSource getSource();
+
+    /**
+     * Gets the {@link KeysetPageable} of the method invocation.
+     *
+     * @return the keyset pageable or {@literal null} if the method has no such parameter
+     */
+    KeysetPageable getKeysetPageable();
 }
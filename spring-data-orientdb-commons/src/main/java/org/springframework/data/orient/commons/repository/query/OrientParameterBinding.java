@@ -0,0 +1,56 @@
+package org.springframework.data.orient.commons.repository.query;
+
+/**
+ * Describes how a bindable method parameter is turned into the value of a positional placeholder
+ * of a compiled {@link OrientQueryTemplate}.
+ */
+public enum OrientParameterBinding {
+
+    /** The value is bound as is. */
+    PLAIN {
+        @Override
+        public Object prepare(Object value) {
+            return value;
+        }
+    },
+
+    /** The value is bound as a string, e.g. for {@code LIKE} patterns. */
+    STRING {
+        @Override
+        public Object prepare(Object value) {
+            return value == null ? null : value.toString();
+        }
+    },
+
+    /** The value is bound as a {@code LIKE} pattern matching strings starting with it. */
+    STARTING_WITH {
+        @Override
+        public Object prepare(Object value) {
+            return value == null ? null : value + "%";
+        }
+    },
+
+    /** The value is bound as a {@code LIKE} pattern matching strings ending with it. */
+    ENDING_WITH {
+        @Override
+        public Object prepare(Object value) {
+            return value == null ? null : "%" + value;
+        }
+    },
+
+    /** The value is bound as a {@code LIKE} pattern matching strings containing it. */
+    CONTAINING {
+        @Override
+        public Object prepare(Object value) {
+            return value == null ? null : "%" + value + "%";
+        }
+    };
+
+    /**
+     * Prepares the given parameter value for binding.
+     *
+     * @param value the parameter value
+     * @return the value to bind
+     */
+    public abstract Object prepare(Object value);
+}
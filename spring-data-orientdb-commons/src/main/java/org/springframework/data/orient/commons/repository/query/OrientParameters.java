@@ -1,6 +1,7 @@
 package org.springframework.data.orient.commons.repository.query;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.data.orient.commons.repository.KeysetPageable;
 import org.springframework.data.orient.commons.repository.OrientSource;
 import org.springframework.data.repository.query.Parameters;
 
@@ -14,6 +15,7 @@ import java.util.function.Consumer;
 public class OrientParameters extends Parameters<OrientParameters, OrientParameter> {
 
     private final int sourceIndex;
+    private final int keysetIndex;
     private final List<OrientParameter> originals; // parent's parameters attribute is not accessible
 
     private OrientParameters(List<OrientParameter> originals) {
@@ -22,13 +24,16 @@ public class OrientParameters extends Parameters<OrientParameters, OrientParamet
         this.originals = originals;
 
         int clusterIndexTemp = -1;
+        int keysetIndexTemp = -1;
 
         for (int i = 0; i < originals.size(); i++) {
             OrientParameter original = originals.get(i);
             clusterIndexTemp = original.isSource() ? i : -1;
+            keysetIndexTemp = original.isKeyset() ? i : keysetIndexTemp;
         }
 
         sourceIndex = clusterIndexTemp;
+        keysetIndex = keysetIndexTemp;
     }
 
     public OrientParameters(Method method) {
@@ -39,6 +44,7 @@ public class OrientParameters extends Parameters<OrientParameters, OrientParamet
         List<Class<?>> types = Arrays.asList(method.getParameterTypes());
 
         sourceIndex = types.indexOf(OrientSource.class);
+        keysetIndex = types.indexOf(KeysetPageable.class);
     }
 
     /* (non-Javadoc)
@@ -65,6 +71,14 @@ public class OrientParameters extends Parameters<OrientParameters, OrientParamet
         return sourceIndex != -1;
     }
 
+    public int getKeysetIndex() {
+        return keysetIndex;
+    }
+
+    public boolean hasKeysetParameter() {
+        return keysetIndex != -1;
+    }
+
     @Override
     public void forEach(Consumer<? super OrientParameter> action) {
         originals.forEach(action);
@@ -1,5 +1,6 @@
 package org.springframework.data.orient.commons.repository.query;
 
+import org.springframework.data.orient.commons.repository.KeysetPageable;
 import org.springframework.data.orient.commons.repository.OrientSource;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 
@@ -27,4 +28,16 @@ public class OrientParametersParameterAccessor extends ParametersParameterAccess
         
         return (OrientSource) values[parameters.getSourceIndex()];
     }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.query.OrientParameterAccessor#getKeysetPageable()
+     */
+    @Override
+    public KeysetPageable getKeysetPageable() {
+        if (!parameters.hasKeysetParameter()) {
+            return null;
+        }
+        
+        return (KeysetPageable) values[parameters.getKeysetIndex()];
+    }
 }
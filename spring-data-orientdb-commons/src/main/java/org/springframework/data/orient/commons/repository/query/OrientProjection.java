@@ -0,0 +1,108 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.model.PreferredConstructorDiscoverer;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A closed projection of a derived query. Only its input properties are selected, and every result row is mapped
+ * straight into the projection: interfaces are backed by the map of the selected fields, DTO classes are created
+ * through their preferred constructor. No entity is loaded.
+ * <p>
+ * The constructor parameters of a DTO are matched to the selected properties by name, so the DTO must be compiled
+ * with {@code -parameters} or with debug information.
+ */
+final class OrientProjection {
+
+    /** The returned type. */
+    private final ReturnedType type;
+
+    /** The factory creating interface projections. */
+    private final ProjectionFactory factory;
+
+    /** The selected fields. */
+    private final List<String> fields;
+
+    /** The constructor of a DTO projection or {@literal null} for interfaces. */
+    private final PreferredConstructor<?, ?> constructor;
+
+    /** The conversion service converting the selected values to the constructor parameters. */
+    private final ConversionService conversionService = DefaultConversionService.getSharedInstance();
+
+    /**
+     * Instantiates a new {@link OrientProjection}.
+     *
+     * @param type the returned type
+     * @param factory the projection factory
+     */
+    OrientProjection(ReturnedType type, ProjectionFactory factory) {
+        Assert.isTrue(type.isProjecting(), "Returned type must be a projection!");
+        Assert.notEmpty(type.getInputProperties(), "Projection must have input properties!");
+
+        this.type = type;
+        this.factory = factory;
+        this.fields = Collections.unmodifiableList(new ArrayList<>(type.getInputProperties()));
+        this.constructor = type.getReturnedType().isInterface() ? null : PreferredConstructorDiscoverer.discover(type.getReturnedType());
+
+        Assert.isTrue(type.getReturnedType().isInterface() || constructor != null, "DTO projection must have a constructor!");
+
+        if (constructor != null && (fields.contains(null) || getParameters().stream().anyMatch(parameter -> parameter.getName() == null))) {
+            throw new IllegalStateException(String.format("The constructor parameter names of DTO projection %s are not available! "
+                    + "Compile it with -parameters or with debug information, so its parameters can be matched to the selected properties.",
+                    type.getReturnedType().getName()));
+        }
+    }
+
+    /**
+     * Gets the fields to select.
+     *
+     * @return the fields
+     */
+    List<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Maps the given result row into the projection.
+     *
+     * @param result the result row
+     * @return the projection
+     */
+    Object map(OResult result) {
+        if (constructor == null) {
+            Map<String, Object> values = new LinkedHashMap<>();
+
+            for (String field : fields) {
+                values.put(field, result.getProperty(field));
+            }
+
+            return factory.createProjection(type.getReturnedType(), values);
+        }
+
+        List<Object> args = new ArrayList<>();
+
+        for (Parameter<Object, ?> parameter : getParameters()) {
+            args.add(conversionService.convert(result.getProperty(parameter.getName()), parameter.getType().getType()));
+        }
+
+        return BeanUtils.instantiateClass(constructor.getConstructor(), args.toArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Parameter<Object, ?>> getParameters() {
+        return (List<Parameter<Object, ?>>) (List<?>) constructor.getParameters();
+    }
+}
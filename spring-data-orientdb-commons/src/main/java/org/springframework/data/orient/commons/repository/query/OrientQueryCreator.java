@@ -6,11 +6,11 @@ import org.jooq.impl.DSL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.annotation.AnnotationUtils;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.orient.commons.repository.DefaultSource;
+import org.springframework.data.orient.commons.repository.KeysetPageable;
 import org.springframework.data.orient.commons.repository.OrientSource;
 import org.springframework.data.orient.commons.repository.annotation.Cluster;
 import org.springframework.data.orient.commons.repository.annotation.Source;
@@ -25,7 +25,18 @@ import java.util.Iterator;
 import java.util.List;
 
 import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.param;
 
+/**
+ * Creates OrientDB SQL for a {@link PartTree}. Parameter values are never rendered into the query; every value is
+ * represented by a positional placeholder whose {@link OrientParameterBinding} is available through
+ * {@link #getBindings()}, so that the created query can be cached and reused for any arguments.
+ * <p>
+ * For a method with a {@link KeysetPageable} the query is ordered by the keys and the record id and, when continuing
+ * after a position, restricted by {@link QueryUtils#toKeysetCondition(Sort, KeysetPageable)}. Its placeholders follow the ones of the
+ * criteria and are not part of the bindings.
+ */
 public class OrientQueryCreator extends AbstractQueryCreator<String, Condition> {
     
     private static final Logger logger = LoggerFactory.getLogger(OrientQueryCreator.class);
@@ -42,11 +53,24 @@ public class OrientQueryCreator extends AbstractQueryCreator<String, Condition>
         
     private final Class<?> domainClass;
     
+    /** The fields to select, all of the record if empty. */
+    private final List<String> fields;
+    
+    private final List<OrientParameterBinding> bindings = new ArrayList<>();
+    
     public OrientQueryCreator(PartTree tree, OrientQueryMethod method, OrientParameterAccessor parameters) {
-        this(tree, method, parameters, ParamType.NAMED);
+        this(tree, method, parameters, ParamType.INDEXED);
+    }
+
+    public OrientQueryCreator(PartTree tree, OrientQueryMethod method, OrientParameterAccessor parameters, List<String> fields) {
+        this(tree, method, parameters, ParamType.INDEXED, fields);
     }
 
     public OrientQueryCreator(PartTree tree, OrientQueryMethod method, OrientParameterAccessor parameters, ParamType paramType) {
+        this(tree, method, parameters, paramType, Collections.<String> emptyList());
+    }
+
+    public OrientQueryCreator(PartTree tree, OrientQueryMethod method, OrientParameterAccessor parameters, ParamType paramType, List<String> fields) {
         super(tree, parameters);
         
         this.method = method;
@@ -55,6 +79,7 @@ public class OrientQueryCreator extends AbstractQueryCreator<String, Condition>
         this.accessor = parameters;
         this.paramType = paramType;
         this.domainClass = method.getEntityInformation().getJavaType();
+        this.fields = fields;
     }
     
     @Override
@@ -75,31 +100,33 @@ public class OrientQueryCreator extends AbstractQueryCreator<String, Condition>
     public boolean isCountQuery() {
         return tree.isCountProjection();
     }
+    
+    /**
+     * Gets the bindings for the placeholders of the created query in order of appearance.
+     *
+     * @return the bindings
+     */
+    public List<OrientParameterBinding> getBindings() {
+        return bindings;
+    }
 
     @Override
     protected String complete(Condition criteria, Sort sort) {
-        Pageable pageable = accessor.getPageable();
-        
         SelectSelectStep<? extends Record> selectStep;
         
         if (isCountQuery()) {
             selectStep = context.selectCount();
         } else if (tree.isDistinct()) {
-            selectStep = context.selectDistinct();
+            selectStep = context.selectDistinct(toFields());
         } else {
-            selectStep = context.select();
+            selectStep = context.select(toFields());
         }
 
-        SelectConditionStep<? extends Record> conditionStep = selectStep.from(QueryUtils.toSource(getSource())).where(criteria);        
-
-        SelectLimitStep<? extends Record> limitStep = orderByIfRequired(conditionStep, pageable, sort);
+        SelectConditionStep<? extends Record> conditionStep = selectStep.from(QueryUtils.toSource(getSource())).where(keysetIfRequired(criteria, sort));        
 
-        Query query = limitIfPageable(limitStep, pageable, sort);
+        Query query = orderByIfRequired(conditionStep, sort);
 
-        //TODO: Fix it!! 
-        //String queryString = query.getSQL(paramType);
-        //Use inline parameters for paged queries
-        String queryString = query.getSQL(ParamType.INLINED);
+        String queryString = query.getSQL(paramType);
         logger.debug(queryString);
         
         return queryString;
@@ -111,29 +138,57 @@ public class OrientQueryCreator extends AbstractQueryCreator<String, Condition>
         
         switch (part.getType()) {
             case AFTER: 
-            case GREATER_THAN: return field.gt(iterator.next());
-            case GREATER_THAN_EQUAL: return field.ge(iterator.next());
+            case GREATER_THAN: return field.gt(bind(iterator, OrientParameterBinding.PLAIN));
+            case GREATER_THAN_EQUAL: return field.ge(bind(iterator, OrientParameterBinding.PLAIN));
             case BEFORE:
-            case LESS_THAN: return field.lt(iterator.next());
-            case LESS_THAN_EQUAL: return field.le(iterator.next());
-            case BETWEEN: return field.between(iterator.next(), iterator.next());
+            case LESS_THAN: return field.lt(bind(iterator, OrientParameterBinding.PLAIN));
+            case LESS_THAN_EQUAL: return field.le(bind(iterator, OrientParameterBinding.PLAIN));
+            case BETWEEN: return field.between(bind(iterator, OrientParameterBinding.PLAIN), bind(iterator, OrientParameterBinding.PLAIN));
             case IS_NULL: return field.isNull();
             case IS_NOT_NULL: return field.isNotNull();
-            case IN: return field.in(toList(iterator));
-            case NOT_IN: return field.notIn(toList(iterator));
+            case IN: return DSL.condition("{0} in {1}", field, bind(iterator, OrientParameterBinding.PLAIN));
+            case NOT_IN: return DSL.condition("{0} in {1}", field, bind(iterator, OrientParameterBinding.PLAIN)).not();
             case LIKE: return lowerIfIgnoreCase(part, field, iterator);
             case NOT_LIKE: return lowerIfIgnoreCase(part, field, iterator).not();
-            case STARTING_WITH: return field.startsWith(iterator.next());
-            case ENDING_WITH: return field.endsWith(iterator.next());
-            case CONTAINING: return field.contains(iterator.next());
-            case SIMPLE_PROPERTY: return field.eq(iterator.next());
-            case NEGATING_SIMPLE_PROPERTY: return field.ne(iterator.next());
-            case TRUE: return field.eq(true);
-            case FALSE: return field.eq(false);
+            case STARTING_WITH: return field.like(bindString(iterator, OrientParameterBinding.STARTING_WITH));
+            case ENDING_WITH: return field.like(bindString(iterator, OrientParameterBinding.ENDING_WITH));
+            case CONTAINING: return field.like(bindString(iterator, OrientParameterBinding.CONTAINING));
+            case SIMPLE_PROPERTY: return field.eq(bind(iterator, OrientParameterBinding.PLAIN));
+            case NEGATING_SIMPLE_PROPERTY: return field.ne(bind(iterator, OrientParameterBinding.PLAIN));
+            case TRUE: return field.eq(inline(true));
+            case FALSE: return field.eq(inline(false));
             default: throw new IllegalArgumentException("Unsupported keyword!");
         }
     }
     
+    /**
+     * Consumes the next parameter and creates a placeholder for it.
+     *
+     * @param iterator the parameters iterator
+     * @param binding the binding of the parameter value
+     * @return the placeholder
+     */
+    protected Field<Object> bind(Iterator<Object> iterator, OrientParameterBinding binding) {
+        iterator.next();
+        bindings.add(binding);
+        
+        return param();
+    }
+    
+    /**
+     * Consumes the next parameter and creates a string placeholder for it.
+     *
+     * @param iterator the parameters iterator
+     * @param binding the binding of the parameter value
+     * @return the placeholder
+     */
+    protected Field<String> bindString(Iterator<Object> iterator, OrientParameterBinding binding) {
+        iterator.next();
+        bindings.add(binding);
+        
+        return param(String.class);
+    }
+    
     protected OrientSource getSource() {
         OrientSource orientSource = accessor.getSource();
         
@@ -154,28 +209,25 @@ public class OrientQueryCreator extends AbstractQueryCreator<String, Condition>
         return new DefaultSource(domainClass);
     }
     
+    private List<Field<Object>> toFields() {
+        List<Field<Object>> result = new ArrayList<>();
+        
+        for (String name : fields) {
+            result.add(field(name));
+        }
+        
+        return result;
+    }
+    
     @SuppressWarnings("incomplete-switch")
     private Condition lowerIfIgnoreCase(Part part, Field<Object> field, Iterator<Object> iterator) {
         switch (part.shouldIgnoreCase()) {
             case ALWAYS:
-            case WHEN_POSSIBLE: return field.likeIgnoreCase(iterator.next().toString());
+            case WHEN_POSSIBLE: return field.likeIgnoreCase(bindString(iterator, OrientParameterBinding.STRING));
             default: break;
         }
         
-        return field.like(iterator.next().toString());
-    }
-    
-    private static List<Object> toList(Iterator<Object> iterator) {
-        if (iterator == null || !iterator.hasNext()) {
-            return Collections.emptyList();
-        }
-        
-        List<Object> list = new ArrayList<>();
-        while (iterator.hasNext()) {
-            list.add(iterator.next());
-        }
-        
-        return list;
+        return field.like(bindString(iterator, OrientParameterBinding.STRING));
     }
     
     private List<SortField<?>> toOrders(Sort sort) {
@@ -188,24 +240,26 @@ public class OrientQueryCreator extends AbstractQueryCreator<String, Condition>
         return orders;
     }
     
-    private SelectLimitStep<? extends Record> orderByIfRequired(SelectConditionStep<? extends Record> conditionStep, Pageable pageable, Sort sort) {
-        if (isCountQuery()) {
+    private Query orderByIfRequired(SelectConditionStep<? extends Record> conditionStep, Sort sort) {
+        if (isCountQuery() || sort == null) {
             return conditionStep;
-        } if (sort == null) {
-            return pageable == null ? conditionStep : conditionStep.and(field("@rid").gt(pageable.getOffset()));
+        } else if (accessor.getKeysetPageable() != null) {
+            return conditionStep.orderBy(QueryUtils.toKeysetOrders(sort));
         } else {
             return conditionStep.orderBy(toOrders(sort));
         }
     }
     
-    private Query limitIfPageable(SelectLimitStep<? extends Record> limitStep, Pageable pageable, Sort sort) {
-        if (pageable == null || !pageable.isPaged() || isCountQuery()) {
-            return limitStep;
-        } else if (sort == null) {
-            return limitStep.limit(pageable.getPageSize());
-        } else {
-            return limitStep.limit(pageable.getPageSize()).offset(Math.toIntExact(pageable.getOffset()));
+    private Condition keysetIfRequired(Condition criteria, Sort sort) {
+        KeysetPageable pageable = accessor.getKeysetPageable();
+        
+        if (isCountQuery() || pageable == null || pageable.isInitial()) {
+            return criteria;
         }
+        
+        Condition keyset = QueryUtils.toKeysetCondition(sort, pageable);
+        
+        return criteria == null ? keyset : criteria.and(keyset);
     }
     
     private <A extends Annotation> A findAnnotation(Class<A> annotationType) {
@@ -1,13 +1,42 @@
 package org.springframework.data.orient.commons.repository.query;
 
-import org.springframework.data.domain.PageImpl;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.query.OSQLQuery;
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.orient.commons.core.OrientAsyncExecutor;
+import org.springframework.data.orient.commons.core.OrientExistenceFilter;
+import org.springframework.data.orient.commons.core.OrientNearCache;
 import org.springframework.data.orient.commons.core.OrientOperations;
+import org.springframework.data.orient.commons.core.OrientQueryCache;
+import org.springframework.data.orient.commons.core.OrientSingleFlight;
 import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.data.orient.commons.repository.KeysetPageable;
+import org.springframework.data.orient.commons.repository.OrientSource;
+import org.springframework.data.orient.commons.repository.SourceType;
+import org.springframework.data.orient.commons.repository.Window;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.data.util.StreamUtils;
+import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Set of classes to contain query execution strategies. 
@@ -49,6 +78,101 @@ public abstract class OrientQueryExecution {
      */
     protected abstract Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values);
     
+    /**
+     * Counts the entities of the given query, reading the count from the cluster metadata if the query has no criteria.
+     *
+     * @param query the orient query
+     * @param values the parameters values
+     * @param countQuery the count query to run otherwise
+     * @return the count
+     */
+    protected long count(AbstractOrientQuery query, Object[] values, OSQLQuery<?> countQuery) {
+        OrientSource source = query.getCountSource(values);
+        
+        if (source == null) {
+            return operations.count(countQuery, query.prepareParameters(parameters, values));
+        }
+        
+        return source.getSourceType() == SourceType.CLUSTER ? operations.countClusterElements(source.getName()) : operations.countClass(source.getName(), query.getCountMode());
+    }
+    
+    /**
+     * Executes the query to return its entities, or its projections if it selects the fields of a projection.
+     *
+     * @param query the orient query
+     * @param mode the detach mode of the entities
+     * @param values the parameters values
+     * @return the entities or projections
+     */
+    protected List<Object> query(AbstractOrientQuery query, DetachMode mode, Object[] values) {
+        OrientProjection projection = query.getProjection(values);
+        
+        if (projection == null) {
+            return operations.query(query.createQuery(values), mode, query.prepareParameters(parameters, values));
+        }
+        
+        List<Object> result = new ArrayList<>();
+        
+        try (CloseableIterator<Object> iterator = stream(query, projection, values)) {
+            iterator.forEachRemaining(result::add);
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Executes the query lazily to return its entities, or its projections if it selects the fields of a projection.
+     *
+     * @param query the orient query
+     * @param mode the detach mode of the entities
+     * @param values the parameters values
+     * @return the iterator over the entities or projections
+     */
+    protected CloseableIterator<Object> stream(AbstractOrientQuery query, DetachMode mode, Object[] values) {
+        OrientProjection projection = query.getProjection(values);
+        
+        if (projection == null) {
+            return operations.stream(query.createQuery(values), mode, query.prepareParameters(parameters, values));
+        }
+        
+        return stream(query, projection, values);
+    }
+    
+    /**
+     * Copies the detached entities of the given result, keeping its shape, so every caller of a shared result receives
+     * its own entities.
+     *
+     * @param query the orient query
+     * @param result the result
+     * @return the copy
+     */
+    @SuppressWarnings("unchecked")
+    protected Object copy(AbstractOrientQuery query, Object result) {
+        Class<?> domainClass = query.getQueryMethod().getEntityInformation().getJavaType();
+        Function<Object, Object> copier = element -> domainClass.isInstance(element) ? operations.copy(element) : element;
+        
+        if (result instanceof List) {
+            return ((List<Object>) result).stream().map(copier).collect(Collectors.toList());
+        } else if (result instanceof Slice) {
+            return ((Slice<Object>) result).map(copier);
+        } else if (result instanceof Window) {
+            Window<Object> window = (Window<Object>) result;
+            
+            return new Window<>(window.getContent().stream().map(copier).collect(Collectors.toList()), window.nextPageable());
+        } else if (result instanceof Optional) {
+            return ((Optional<Object>) result).map(copier);
+        }
+        
+        return copier.apply(result);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private CloseableIterator<Object> stream(AbstractOrientQuery query, OrientProjection projection, Object[] values) {
+        Function<OResult, Object> mapper = projection::map;
+        
+        return operations.stream(query.createQuery(values), mapper, query.prepareParameters(parameters, values));
+    }
+    
     /**
      * Executes the query to return a simple collection of entities.
      * 
@@ -71,7 +195,314 @@ public abstract class OrientQueryExecution {
         @Override
         @SuppressWarnings("unchecked")
         protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
-            return operations.query(query.createQuery(values), mode, prepareParameters(parameters, values));
+            return query(query, mode, values);
+        }
+    }
+
+    /**
+     * Executes the query lazily to return a {@link java.util.stream.Stream} or a {@link CloseableIterator} of entities.
+     * The entities are fetched and detached one at a time as the consumer pulls them.
+     */
+    static class StreamExecution extends OrientQueryExecution {
+
+        /** Whether to return a stream rather than an iterator. */
+        private final boolean stream;
+
+        /**
+         * Instantiates a new {@link StreamExecution}.
+         *
+         * @param template the template
+         * @param parameters the parameters
+         * @param stream whether to return a stream rather than an iterator
+         */
+        public StreamExecution(OrientOperations template, OrientParameters parameters, boolean stream) {
+            super(template, parameters);
+            this.stream = stream;
+        }
+
+        /* (non-Javadoc)
+         * @see org.springframework.data.orient.commons.repository.query.OrientQueryExecution#doExecute(org.springframework.data.orient.commons.repository.query.AbstractOrientQuery, org.springframework.data.orient.commons.repository.DetachMode, java.lang.Object[])
+         */
+        @Override
+        protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
+            CloseableIterator<Object> iterator = stream(query, mode, values);
+
+            return stream ? StreamUtils.createStreamFromIterator(iterator) : iterator;
+        }
+    }
+
+    /**
+     * Executes the query on the async executor of the operations to return a
+     * {@link java.util.concurrent.CompletableFuture} of the result created by another execution.
+     */
+    static class AsyncExecution extends OrientQueryExecution {
+
+        /** The execution creating the result. */
+        private final OrientQueryExecution execution;
+
+        /**
+         * Instantiates a new {@link AsyncExecution}.
+         *
+         * @param template the template
+         * @param parameters the parameters
+         * @param execution the execution creating the result
+         */
+        public AsyncExecution(OrientOperations template, OrientParameters parameters, OrientQueryExecution execution) {
+            super(template, parameters);
+            this.execution = execution;
+        }
+
+        /* (non-Javadoc)
+         * @see org.springframework.data.orient.commons.repository.query.OrientQueryExecution#doExecute(org.springframework.data.orient.commons.repository.query.AbstractOrientQuery, org.springframework.data.orient.commons.repository.DetachMode, java.lang.Object[])
+         */
+        @Override
+        protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
+            return operations.getAsyncExecutor().submit(() -> execution.execute(query, mode, values));
+        }
+    }
+
+    /**
+     * Caches the result created by another execution in the {@link OrientQueryCache} of the operations, keyed by the
+     * query and its parameter values. The entities are cached detached, {@link DetachMode#NONE} detaching them with
+     * {@link DetachMode#ALL}, so they can be shared by all sessions, and every invocation receives its own copies of
+     * them. Queries running in a transaction with pending changes bypass the cache, as their results may include
+     * changes no other session can see.
+     */
+    static class CachingExecution extends OrientQueryExecution {
+
+        /** The execution creating the result. */
+        private final OrientQueryExecution execution;
+
+        /** The time to live of the cached results in milliseconds. */
+        private final long ttl;
+
+        /**
+         * Instantiates a new {@link CachingExecution}.
+         *
+         * @param template the template
+         * @param parameters the parameters
+         * @param execution the execution creating the result
+         * @param ttl the time to live of the cached results in milliseconds
+         */
+        public CachingExecution(OrientOperations template, OrientParameters parameters, OrientQueryExecution execution, long ttl) {
+            super(template, parameters);
+            this.execution = execution;
+            this.ttl = ttl;
+        }
+
+        /* (non-Javadoc)
+         * @see org.springframework.data.orient.commons.repository.query.OrientQueryExecution#doExecute(org.springframework.data.orient.commons.repository.query.AbstractOrientQuery, org.springframework.data.orient.commons.repository.DetachMode, java.lang.Object[])
+         */
+        @Override
+        protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
+            OrientQueryCache cache = operations.getQueryCache();
+            
+            if (cache == null || operations.getTransaction().getEntryCount() > 0) {
+                return execution.execute(query, mode, values);
+            }
+            
+            DetachMode detachMode = mode == DetachMode.NONE ? DetachMode.ALL : mode;
+            
+            Object result = cache.get(new CacheKey(query, values), getSources(query, values), ttl, () -> share(execution.execute(query, detachMode, values)));
+            
+            // the cached entities stay untouched, every invocation receives its own copies of them
+            return copy(query, result);
+        }
+        
+        /**
+         * Gets the names of the class and the cluster the query reads from.
+         *
+         * @param query the orient query
+         * @param values the parameters values
+         * @return the names
+         */
+        private List<String> getSources(AbstractOrientQuery query, Object[] values) {
+            List<String> sources = new ArrayList<>();
+            sources.add(query.getQueryMethod().getEntityInformation().getJavaType().getSimpleName());
+            
+            OrientSource source = new OrientParametersParameterAccessor(parameters, values).getSource();
+            
+            if (source != null) {
+                sources.add(source.getName());
+            }
+            
+            return sources;
+        }
+        
+        private Object share(Object result) {
+            return result instanceof List ? Collections.unmodifiableList((List<?>) result) : result;
+        }
+    }
+
+    /**
+     * Finds a single entity by its natural key through the {@link OrientNearCache} of the operations. The record id
+     * cached for the key is loaded, through the record cache if one is set, and only used while the entity still
+     * matches the key, otherwise the query is run again. Queries running in a transaction with pending changes bypass
+     * the cache.
+     */
+    static class NaturalKeyExecution extends OrientQueryExecution {
+
+        /** The execution running the query. */
+        private final OrientQueryExecution execution;
+
+        /** The conversion service converting the key values to the property types. */
+        private final ConversionService conversionService = DefaultConversionService.getSharedInstance();
+
+        /**
+         * Instantiates a new {@link NaturalKeyExecution}.
+         *
+         * @param template the template
+         * @param parameters the parameters
+         * @param execution the execution running the query
+         */
+        public NaturalKeyExecution(OrientOperations template, OrientParameters parameters, OrientQueryExecution execution) {
+            super(template, parameters);
+            this.execution = execution;
+        }
+
+        /* (non-Javadoc)
+         * @see org.springframework.data.orient.commons.repository.query.OrientQueryExecution#doExecute(org.springframework.data.orient.commons.repository.query.AbstractOrientQuery, org.springframework.data.orient.commons.repository.DetachMode, java.lang.Object[])
+         */
+        @Override
+        protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
+            OrientNearCache cache = operations.getNearCache();
+            
+            if (cache == null || operations.getTransaction().getEntryCount() > 0) {
+                return execution.execute(query, mode, values);
+            }
+            
+            Map<String, Object> naturalKey = query.getNaturalKey(values);
+            CacheKey key = new CacheKey(query, naturalKey.values().toArray());
+            ORID rid = cache.get(key);
+            
+            if (rid != null) {
+                Object entity = operations.load(rid);
+                
+                if (entity != null && matches(entity, naturalKey)) {
+                    return detach(entity, mode);
+                }
+                
+                cache.evict(key);
+            }
+            
+            Object result = execution.execute(query, mode, values);
+            String id = result == null ? null : operations.getRid(result);
+            
+            if (id != null) {
+                cache.put(key, new ORecordId(id), naturalKey.keySet());
+            }
+            
+            return result;
+        }
+        
+        /**
+         * Checks the entity still has the values of the natural key, since changes made through other sessions do not
+         * invalidate the cache.
+         *
+         * @param entity the entity
+         * @param naturalKey the values by field
+         * @return true, if the entity matches
+         */
+        private boolean matches(Object entity, Map<String, Object> naturalKey) {
+            PropertyAccessor accessor = entity instanceof ODocument ? null : PropertyAccessorFactory.forBeanPropertyAccess(entity);
+            
+            for (Map.Entry<String, Object> field : naturalKey.entrySet()) {
+                Object actual = accessor == null ? ((ODocument) entity).field(field.getKey()) : accessor.getPropertyValue(field.getKey());
+                Object expected = field.getValue();
+                
+                if (actual != null && expected != null && conversionService.canConvert(expected.getClass(), actual.getClass())) {
+                    expected = conversionService.convert(expected, actual.getClass());
+                }
+                
+                if (!ObjectUtils.nullSafeEquals(actual, expected)) {
+                    return false;
+                }
+            }
+            
+            return true;
+        }
+        
+        private Object detach(Object entity, DetachMode mode) {
+            switch (mode) {
+                case ENTITY:
+                    return operations.detach(entity);
+                case ALL:
+                    return operations.detachAll(entity);
+                case NONE:
+                default:
+                    return entity;
+            }
+        }
+    }
+
+    /**
+     * Shares the execution of identical invocations running at the same time through the {@link OrientSingleFlight} of
+     * the operations, keyed by the query and its parameter values. The entities are detached, {@link DetachMode#NONE}
+     * detaching them with {@link DetachMode#ALL}, and every invocation receives its own copies of them. Queries running
+     * in a transaction with pending changes run on their own, as their results may include changes no other session
+     * can see.
+     */
+    static class SingleFlightExecution extends OrientQueryExecution {
+
+        /** The execution creating the result. */
+        private final OrientQueryExecution execution;
+
+        /**
+         * Instantiates a new {@link SingleFlightExecution}.
+         *
+         * @param template the template
+         * @param parameters the parameters
+         * @param execution the execution creating the result
+         */
+        public SingleFlightExecution(OrientOperations template, OrientParameters parameters, OrientQueryExecution execution) {
+            super(template, parameters);
+            this.execution = execution;
+        }
+
+        /* (non-Javadoc)
+         * @see org.springframework.data.orient.commons.repository.query.OrientQueryExecution#doExecute(org.springframework.data.orient.commons.repository.query.AbstractOrientQuery, org.springframework.data.orient.commons.repository.DetachMode, java.lang.Object[])
+         */
+        @Override
+        protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
+            OrientSingleFlight flight = operations.getSingleFlight();
+            
+            if (flight == null || operations.getTransaction().getEntryCount() > 0) {
+                return execution.execute(query, mode, values);
+            }
+            
+            DetachMode detachMode = mode == DetachMode.NONE ? DetachMode.ALL : mode;
+            
+            return flight.execute(new CacheKey(query, values), () -> execution.execute(query, detachMode, values), result -> copy(query, result));
+        }
+    }
+
+    /**
+     * The key of a cached result, the query together with its parameter values.
+     */
+    private static final class CacheKey {
+
+        private final AbstractOrientQuery query;
+
+        private final Object[] values;
+
+        CacheKey(AbstractOrientQuery query, Object[] values) {
+            this.query = query;
+            this.values = values.clone();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            CacheKey that = (CacheKey) o;
+
+            return query == that.query && Arrays.deepEquals(values, that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(query) + Arrays.deepHashCode(values);
         }
     }
 
@@ -96,7 +527,13 @@ public abstract class OrientQueryExecution {
          */
         @Override
         protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
-            return operations.queryForObject(query.createQuery(values), mode, prepareParameters(parameters, values));
+            if (query.getProjection(values) != null) {
+                List<Object> result = query(query, mode, values);
+                
+                return result.isEmpty() ? null : result.get(0);
+            }
+            
+            return operations.queryForObject(query.createQuery(values), mode, query.prepareParameters(parameters, values));
         }
     }
 
@@ -122,12 +559,54 @@ public abstract class OrientQueryExecution {
         @Override
         @SuppressWarnings("unchecked")
         protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
-            return operations.count(query.createQuery(values), prepareParameters(parameters, values));
+            return count(query, values, query.createQuery(values));
+        }
+    }
+
+    /**
+     * Executes a {@link AbstractOrientQuery} to check if any entity matches. A criterion comparing a key field of the
+     * {@link OrientExistenceFilter} of the class with a value the filter rules out answers without running the query,
+     * unless the current transaction has pending changes the filter does not know yet.
+     */
+    static class ExistsExecution extends OrientQueryExecution {
+
+        /**
+         * Instantiates a new {@link ExistsExecution}.
+         *
+         * @param template the template
+         * @param parameters the parameters
+         */
+        public ExistsExecution(OrientOperations template, OrientParameters parameters) {
+            super(template, parameters);
+        }
+
+        /* (non-Javadoc)
+         * @see org.springframework.data.orient.commons.repository.query.OrientQueryExecution#doExecute(org.springframework.data.orient.commons.repository.query.AbstractOrientQuery, org.springframework.data.orient.commons.repository.DetachMode, java.lang.Object[])
+         */
+        @Override
+        protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
+            Map<String, Object> key = query.getNaturalKey(values);
+            
+            if (key != null && operations.getTransaction().getEntryCount() == 0) {
+                OrientExistenceFilter filter = operations.getExistenceFilter(query.getQueryMethod().getEntityInformation().getJavaType().getSimpleName());
+                
+                if (filter != null) {
+                    for (Map.Entry<String, Object> field : key.entrySet()) {
+                        if (filter.isKeyField(field.getKey()) && !filter.mightContain(field.getKey(), field.getValue())) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            
+            return count(query, values, query.createCountQuery(values)) > 0;
         }
     }
 
     /**
      * Executes the {@link AbstractOrientQuery} to return a {@link org.springframework.data.domain.Page} of entities.
+     * The content is fetched first so the count is skipped whenever the content tells the total, e.g. on a short
+     * first page.
      *
      * @author Dzmitry_Naskou
      */
@@ -151,21 +630,101 @@ public abstract class OrientQueryExecution {
         protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
             OrientParameterAccessor accessor = new OrientParametersParameterAccessor(parameters, values);
             
-            final Object[] queryParams = prepareParameters(parameters, values);
+            Pageable pageable = accessor.getPageable() == null ? Pageable.unpaged() : accessor.getPageable();
+            
+            if (pageable.isPaged() && isParallelCount(query, values)) {
+                CompletableFuture<Long> total = operations.getAsyncExecutor().submit(() -> count(query, values, query.createCountQuery(values)));
+                
+                List<Object> content = query(query, mode, values);
+                
+                return PageableExecutionUtils.getPage(content, pageable, () -> OrientAsyncExecutor.join(total));
+            }
+            
+            List<Object> content = query(query, mode, values);
+            
+            return PageableExecutionUtils.getPage(content, pageable, () -> count(query, values, query.createCountQuery(values)));
+        }
+        
+        /**
+         * Checks if the count query runs on another pooled session. Counts read from the cluster metadata are cheap
+         * enough to run in place, and the other session can not see the uncommitted changes of the current
+         * transaction, so the count only runs in parallel when there are none.
+         *
+         * @param query the orient query
+         * @param values the parameters values
+         * @return true, if the count runs in parallel with the content query
+         */
+        private boolean isParallelCount(AbstractOrientQuery query, Object[] values) {
+            return query.isParallelCount() && query.getCountSource(values) == null && operations.getTransaction().getEntryCount() == 0;
+        }
+    }
+    
+    /**
+     * Executes the {@link AbstractOrientQuery} to return a {@link org.springframework.data.domain.Slice} of entities.
+     * One more record than the page size is fetched to tell whether there is a next slice, the entities are never
+     * counted.
+     */
+    static class SlicedExecution extends OrientQueryExecution {
+
+        /**
+         * Instantiates a new {@link SlicedExecution}.
+         *
+         * @param template the orient object template
+         * @param parameters the parameters
+         */
+        public SlicedExecution(OrientOperations template, OrientParameters parameters) {
+            super(template, parameters);
+        }
+
+        /* (non-Javadoc)
+         * @see org.springframework.data.orient.commons.repository.query.OrientQueryExecution#doExecute(org.springframework.data.orient.commons.repository.query.AbstractOrientQuery, org.springframework.data.orient.commons.repository.DetachMode, java.lang.Object[])
+         */
+        @Override
+        protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
+            OrientParameterAccessor accessor = new OrientParametersParameterAccessor(parameters, values);
+            
+            List<Object> content = query(query, mode, values);
             
-            Long total = operations.count(query.createCountQuery(values), queryParams);
+            Pageable pageable = accessor.getPageable() == null ? Pageable.unpaged() : accessor.getPageable();
+            boolean hasNext = pageable.isPaged() && content.size() > pageable.getPageSize();
             
-            Pageable pageable = accessor.getPageable();
+            return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+        }
+    }
+    
+    /**
+     * Executes the {@link AbstractOrientQuery} to return a {@link org.springframework.data.orient.commons.repository.Window}
+     * of entities using keyset pagination.
+     */
+    static class WindowExecution extends OrientQueryExecution {
+
+        /**
+         * Instantiates a new {@link WindowExecution}.
+         *
+         * @param template the orient object template
+         * @param parameters the parameters
+         */
+        public WindowExecution(OrientOperations template, OrientParameters parameters) {
+            super(template, parameters);
+        }
+
+        /* (non-Javadoc)
+         * @see org.springframework.data.orient.commons.repository.query.OrientQueryExecution#doExecute(org.springframework.data.orient.commons.repository.query.AbstractOrientQuery, org.springframework.data.orient.commons.repository.DetachMode, java.lang.Object[])
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Object doExecute(AbstractOrientQuery query, DetachMode mode, Object[] values) {
+            OrientParameterAccessor accessor = new OrientParametersParameterAccessor(parameters, values);
             
-            List<Object> content;
+            KeysetPageable pageable = accessor.getKeysetPageable();
             
-            if (pageable != null && total > pageable.getOffset()) {
-                content = operations.query(query.createQuery(values), mode, queryParams);
-            } else {
-                content = Collections.emptyList();
+            if (pageable == null) {
+                throw new IllegalArgumentException("Keyset pageable must not be null!");
             }
             
-            return new PageImpl<>(content, pageable, total);
+            List<Object> records = operations.query(query.createQuery(values), mode, query.prepareParameters(parameters, values));
+            
+            return QueryUtils.toWindow(records, query.getSort(accessor), pageable, operations);
         }
     }
     
@@ -198,19 +757,4 @@ public abstract class OrientQueryExecution {
             return operations.command(this.sql, values);
         }
     }
-    
-    protected Object[] prepareParameters(OrientParameters parameters, Object[] values) {
-        int index = 0;
-        List<Object> params = new ArrayList<>();
-        
-        for (OrientParameter parameter : parameters) {
-            if (parameter.isBindable()) {
-                params.add(values[index]);
-            }
-            
-            ++index;
-        }
-        
-        return params.toArray();
-    }
 }
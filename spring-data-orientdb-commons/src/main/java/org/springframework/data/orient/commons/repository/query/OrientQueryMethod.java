@@ -1,16 +1,24 @@
 package org.springframework.data.orient.commons.repository.query;
 
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.orient.commons.repository.annotation.Count;
 import org.springframework.data.orient.commons.repository.annotation.Detach;
+import org.springframework.data.orient.commons.repository.CountMode;
 import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.data.orient.commons.repository.Window;
 import org.springframework.data.orient.commons.repository.annotation.FetchPlan;
+import org.springframework.data.orient.commons.repository.annotation.NearCache;
 import org.springframework.data.orient.commons.repository.annotation.Query;
+import org.springframework.data.orient.commons.repository.annotation.ResultCache;
+import org.springframework.data.orient.commons.repository.annotation.SingleFlight;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Orient specific extension of {@link org.springframework.data.repository.query.QueryMethod}.
@@ -25,6 +33,9 @@ public final class OrientQueryMethod extends QueryMethod {
     /** The repository interface. */
     private final Class<?> repositoryInterface;
 
+    /** The projection factory. */
+    private final ProjectionFactory factory;
+
     /**
      * Instantiates a new {@link OrientQueryMethod}.
      *
@@ -35,6 +46,27 @@ public final class OrientQueryMethod extends QueryMethod {
         super(method, metadata, factory);
         this.method = method;
         this.repositoryInterface = metadata.getRepositoryInterface();
+        this.factory = factory;
+        
+        if (isWindowQuery() && !getParameters().hasKeysetParameter()) {
+            throw new IllegalStateException(String.format("Method must have a KeysetPageable parameter to return a Window! Offending method: %s", method));
+        }
+
+        if (isAsyncQuery() && (isStreamQuery() || isIteratorQuery())) {
+            throw new IllegalStateException(String.format("Asynchronous methods must not return a stream! Offending method: %s", method));
+        }
+
+        if (isResultCached() && (isStreamQuery() || isIteratorQuery())) {
+            throw new IllegalStateException(String.format("Methods returning a stream can not cache their results! Offending method: %s", method));
+        }
+
+        if (isSingleFlight() && (isStreamQuery() || isIteratorQuery())) {
+            throw new IllegalStateException(String.format("Methods returning a stream can not share their results! Offending method: %s", method));
+        }
+
+        if (isNearCached() && getAnnotatedQuery() != null) {
+            throw new IllegalStateException(String.format("Only derived queries can have a near cache! Offending method: %s", method));
+        }
     }
     
     /* (non-Javadoc)
@@ -68,6 +100,33 @@ public final class OrientQueryMethod extends QueryMethod {
         return repositoryInterface;
     }
 
+    /**
+     * Returns whether the method returns a {@link Window} using keyset pagination.
+     *
+     * @return true, if it's a window query
+     */
+    public boolean isWindowQuery() {
+        return Window.class.isAssignableFrom(method.getReturnType());
+    }
+
+    /**
+     * Returns whether the method returns a {@link CloseableIterator} over the lazily fetched entities.
+     *
+     * @return true, if it's an iterator query
+     */
+    public boolean isIteratorQuery() {
+        return CloseableIterator.class.isAssignableFrom(method.getReturnType());
+    }
+
+    /**
+     * Returns whether the method returns a {@link CompletableFuture} completed by the async executor.
+     *
+     * @return true, if it's an asynchronous query
+     */
+    public boolean isAsyncQuery() {
+        return CompletableFuture.class.equals(method.getReturnType());
+    }
+
     /**
      * Returns whether the method has an annotated query.
      * 
@@ -116,4 +175,54 @@ public final class OrientQueryMethod extends QueryMethod {
         
         return mode == null ? DetachMode.NONE : mode;
     }
+    
+    ProjectionFactory getProjectionFactory() {
+        return factory;
+    }
+    
+    Count getCountAnnotation() {
+        return method.getAnnotation(Count.class);
+    }
+    
+    CountMode getCountMode() {
+        CountMode mode = (CountMode) AnnotationUtils.getValue(getCountAnnotation());
+        
+        return mode == null ? CountMode.EXACT : mode;
+    }
+    
+    boolean isParallelCount() {
+        Count count = getCountAnnotation();
+        
+        return count != null && count.parallel();
+    }
+    
+    ResultCache getResultCacheAnnotation() {
+        return method.getAnnotation(ResultCache.class);
+    }
+    
+    boolean isResultCached() {
+        return getResultCacheAnnotation() != null;
+    }
+    
+    long getResultCacheTtl() {
+        ResultCache cache = getResultCacheAnnotation();
+        
+        return cache == null ? 0 : cache.unit().toMillis(cache.ttl());
+    }
+    
+    SingleFlight getSingleFlightAnnotation() {
+        return method.getAnnotation(SingleFlight.class);
+    }
+    
+    boolean isSingleFlight() {
+        return getSingleFlightAnnotation() != null;
+    }
+    
+    NearCache getNearCacheAnnotation() {
+        return method.getAnnotation(NearCache.class);
+    }
+    
+    boolean isNearCached() {
+        return getNearCacheAnnotation() != null;
+    }
 }
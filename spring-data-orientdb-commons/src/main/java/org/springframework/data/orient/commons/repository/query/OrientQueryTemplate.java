@@ -0,0 +1,68 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * A query compiled once into OrientDB SQL with positional placeholders together with the
+ * {@link OrientParameterBinding}s for its placeholders. Values are only bound at execution time.
+ */
+public final class OrientQueryTemplate {
+
+    /** The SQL with positional placeholders. */
+    private final String sql;
+
+    /** The bindings, one per placeholder in order of appearance. */
+    private final List<OrientParameterBinding> bindings;
+
+    /**
+     * Instantiates a new {@link OrientQueryTemplate}.
+     *
+     * @param sql the SQL with positional placeholders
+     * @param bindings the bindings for the placeholders
+     */
+    public OrientQueryTemplate(String sql, List<OrientParameterBinding> bindings) {
+        Assert.hasText(sql, "SQL must not be empty!");
+        Assert.notNull(bindings, "Bindings must not be null!");
+
+        this.sql = sql;
+        this.bindings = Collections.unmodifiableList(new ArrayList<>(bindings));
+    }
+
+    /**
+     * Gets the SQL with positional placeholders.
+     *
+     * @return the SQL
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Gets the bindings for the placeholders.
+     *
+     * @return the bindings
+     */
+    public List<OrientParameterBinding> getBindings() {
+        return bindings;
+    }
+
+    /**
+     * Binds the given bindable parameter values to the placeholders.
+     *
+     * @param values the bindable parameter values in declaration order
+     * @return the values for the placeholders
+     */
+    public Object[] bind(Object[] values) {
+        Object[] result = new Object[bindings.size()];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bindings.get(i).prepare(values[i]);
+        }
+
+        return result;
+    }
+}
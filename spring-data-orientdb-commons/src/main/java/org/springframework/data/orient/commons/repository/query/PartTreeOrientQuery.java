@@ -2,16 +2,38 @@ package org.springframework.data.orient.commons.repository.query;
 
 import com.orientechnologies.orient.core.sql.query.OSQLQuery;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.orient.commons.core.OrientOperations;
+import org.springframework.data.orient.commons.repository.KeysetPageable;
+import org.springframework.data.orient.commons.repository.OrientSource;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.ObjectUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A {@link AbstractOrientQuery} implementation based on a {@link org.springframework.data.repository.query.parser.PartTree}.
+ * The tree is compiled once per source, sort and projection into an {@link OrientQueryTemplate}, the arguments are
+ * bound on execution.
  *
  * @author Dzmitry_Naskou
  */
 public class PartTreeOrientQuery extends AbstractOrientQuery {
 
+    /** The max number of cached templates, bounds the cache for dynamic sources and sorts. */
+    private static final int MAX_CACHED_TEMPLATES = 64;
+
     /** The domain class. */
     private final Class<?> domainClass;
 
@@ -23,6 +45,15 @@ public class PartTreeOrientQuery extends AbstractOrientQuery {
 
     private final OrientQueryMethod method;
 
+    /** The compiled templates. */
+    private final ConcurrentMap<TemplateKey, OrientQueryTemplate> templates = new ConcurrentHashMap<>();
+
+    /** The projections by returned type. */
+    private final ConcurrentMap<Class<?>, OrientProjection> projections = new ConcurrentHashMap<>();
+
+    /** Whether the criteria only compare the own properties of the entity for equality. */
+    private final boolean equalityCriteria;
+
     /**
      * Instantiates a new {@link PartTreeOrientQuery} from given {@link OrientQueryMethod} and {@link OrientOperations}.
      *
@@ -36,6 +67,38 @@ public class PartTreeOrientQuery extends AbstractOrientQuery {
         this.domainClass = method.getEntityInformation().getJavaType();
         this.tree = new PartTree(method.getName(), domainClass);
         this.parameters = method.getParameters();
+        
+        this.equalityCriteria = hasEqualityCriteria();
+        
+        if (method.isNearCached() && !(equalityCriteria && isSingleEntityQuery())) {
+            throw new IllegalStateException(String.format("Methods with a near cache must return a single entity found by equal properties! Offending method: %s", method));
+        }
+        
+        if (method.isNearCached()) {
+            checkUniqueIndex(operations);
+        }
+        
+        // a DTO projection the parameters cannot be matched to fails now rather than on first use
+        getProjection(method.getResultProcessor().getReturnedType());
+    }
+    
+    /**
+     * Checks a unique index of the class covers the fields of the natural key, otherwise the key may find another
+     * entity than the cached one.
+     *
+     * @param operations the orient object template
+     */
+    private void checkUniqueIndex(OrientOperations operations) {
+        Set<String> fields = new LinkedHashSet<>();
+        
+        for (Part part : tree.getParts()) {
+            fields.add(part.getProperty().getSegment());
+        }
+        
+        if (!operations.isUniquelyIndexed(domainClass.getSimpleName(), fields)) {
+            throw new IllegalStateException(String.format("Methods with a near cache must query a unique index of class %s on the fields %s! Offending method: %s", 
+                    domainClass.getSimpleName(), fields, method));
+        }
     }
 
     /* (non-Javadoc)
@@ -46,9 +109,19 @@ public class PartTreeOrientQuery extends AbstractOrientQuery {
     protected OSQLQuery<?> doCreateQuery(Object[] values) {
         OrientParameterAccessor accessor = new OrientParametersParameterAccessor(parameters, values);
         
-        OrientQueryCreator creator = new OrientQueryCreator(tree, method, accessor);
+        OrientQueryTemplate template = getTemplate(accessor, false);
+        KeysetPageable keyset = accessor.getKeysetPageable();
+        
+        if (keyset != null) {
+            // one more record than requested tells whether there is a next window
+            return new OSQLSynchQuery(QueryUtils.applyLimit(template.getSql(), keyset.getSize() + 1));
+        }
         
-        return new OSQLSynchQuery(creator.createQuery());
+        if (method.isSliceQuery()) {
+            return new OSQLSynchQuery(QueryUtils.applySlicePaging(template.getSql(), accessor.getPageable()));
+        }
+        
+        return new OSQLSynchQuery(QueryUtils.applyPaging(template.getSql(), accessor.getPageable()));
     }
 
     /* (non-Javadoc)
@@ -59,9 +132,178 @@ public class PartTreeOrientQuery extends AbstractOrientQuery {
     protected OSQLQuery<?> doCreateCountQuery(Object[] values) {
         OrientParameterAccessor accessor = new OrientParametersParameterAccessor(parameters, values);
         
-        OrientQueryCreator creator = new OrientCountQueryCreator(tree, method, accessor);
+        return new OSQLSynchQuery(getTemplate(accessor, true).getSql());
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.query.AbstractOrientQuery#getCountSource(java.lang.Object[])
+     */
+    @Override
+    protected OrientSource getCountSource(Object[] values) {
+        if (tree.isDistinct() || tree.getParts().iterator().hasNext()) {
+            return null;
+        }
+        
+        return new OrientQueryCreator(tree, method, new OrientParametersParameterAccessor(parameters, values)).getSource();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.query.AbstractOrientQuery#getProjection(java.lang.Object[])
+     */
+    @Override
+    OrientProjection getProjection(Object[] values) {
+        return getProjection(new OrientParametersParameterAccessor(parameters, values));
+    }
+
+    /**
+     * Gets the projection of the returned type for the given accessor. Counts, deletes and windows always read entities,
+     * as do projections without input properties, e.g. open interface projections.
+     *
+     * @param accessor the parameter accessor
+     * @return the projection or {@literal null} if the query returns entities
+     */
+    private OrientProjection getProjection(OrientParameterAccessor accessor) {
+        return getProjection(method.getResultProcessor().withDynamicProjection(accessor).getReturnedType());
+    }
+
+    /**
+     * Gets the projection of the given returned type.
+     *
+     * @param type the returned type
+     * @return the projection or {@literal null} if the query returns entities
+     */
+    private OrientProjection getProjection(ReturnedType type) {
+        if (tree.isCountProjection() || tree.isExistsProjection() || tree.isDelete() || method.isWindowQuery()) {
+            return null;
+        }
+        
+        if (!type.isProjecting() || type.getInputProperties().isEmpty()) {
+            return null;
+        }
+        
+        return projections.computeIfAbsent(type.getReturnedType(), key -> new OrientProjection(type, method.getProjectionFactory()));
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.query.AbstractOrientQuery#prepareParameters(org.springframework.data.orient.commons.repository.query.OrientParameters, java.lang.Object[])
+     */
+    @Override
+    protected Object[] prepareParameters(OrientParameters parameters, Object[] values) {
+        OrientParameterAccessor accessor = new OrientParametersParameterAccessor(parameters, values);
+        
+        // all templates of the tree share the same bindings
+        Object[] bound = getTemplate(accessor, false).bind(super.prepareParameters(parameters, values));
+        KeysetPageable keyset = accessor.getKeysetPageable();
+        
+        if (keyset == null || keyset.isInitial()) {
+            return bound;
+        }
         
-        return new OSQLSynchQuery(creator.createQuery());
+        Object[] keysetValues = QueryUtils.getKeysetValues(getSort(accessor), keyset);
+        Object[] result = Arrays.copyOf(bound, bound.length + keysetValues.length);
+        System.arraycopy(keysetValues, 0, result, bound.length, keysetValues.length);
+        
+        return result;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.query.AbstractOrientQuery#getSort(org.springframework.data.orient.commons.repository.query.OrientParameterAccessor)
+     */
+    @Override
+    protected Sort getSort(OrientParameterAccessor accessor) {
+        return tree.getSort().and(accessor.getSort());
+    }
+
+    /**
+     * Gets the compiled template for the source and sort of the given accessor, compiling it on first use.
+     *
+     * @param accessor the parameter accessor
+     * @param count whether to get the count query template
+     * @return the template
+     */
+    private OrientQueryTemplate getTemplate(OrientParameterAccessor accessor, boolean count) {
+        OrientProjection projection = count ? null : getProjection(accessor);
+        List<String> fields = projection == null ? Collections.<String> emptyList() : projection.getFields();
+        
+        KeysetPageable keyset = accessor.getKeysetPageable();
+        TemplateKey key = new TemplateKey(QueryUtils.toSource(accessor.getSource()), accessor.getSort(), count, KeysetMode.of(keyset), getNullKeys(keyset), fields);
+        
+        OrientQueryTemplate template = templates.get(key);
+        
+        if (template == null) {
+            OrientQueryCreator creator = count ? new OrientCountQueryCreator(tree, method, accessor) : new OrientQueryCreator(tree, method, accessor, fields);
+            
+            template = new OrientQueryTemplate(creator.createQuery(), creator.getBindings());
+            
+            if (templates.size() < MAX_CACHED_TEMPLATES) {
+                templates.putIfAbsent(key, template);
+            }
+        }
+        
+        return template;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.query.AbstractOrientQuery#getNaturalKey(java.lang.Object[])
+     */
+    @Override
+    Map<String, Object> getNaturalKey(Object[] values) {
+        if (!equalityCriteria) {
+            return null;
+        }
+        
+        Iterator<Object> bindable = new OrientParametersParameterAccessor(parameters, values).iterator();
+        Map<String, Object> key = new LinkedHashMap<>();
+        
+        for (Part part : tree.getParts()) {
+            String field = part.getProperty().getSegment();
+            
+            switch (part.getType()) {
+                case TRUE:
+                    key.put(field, Boolean.TRUE);
+                    break;
+                case FALSE:
+                    key.put(field, Boolean.FALSE);
+                    break;
+                default:
+                    key.put(field, bindable.next());
+            }
+        }
+        
+        return key;
+    }
+    
+    /**
+     * Checks if the query returns a single entity.
+     *
+     * @return true, if the method returns a single entity
+     */
+    private boolean isSingleEntityQuery() {
+        return method.isQueryForEntity() && !method.isCollectionQuery() && !method.isPageQuery() && !method.isSliceQuery() && !method.isStreamQuery() 
+                && !method.isIteratorQuery() && !method.isWindowQuery() && !method.getResultProcessor().getReturnedType().isProjecting() 
+                && !tree.isCountProjection() && !tree.isExistsProjection() && !tree.isDelete() && !tree.isDistinct();
+    }
+    
+    /**
+     * Checks if the criteria only compare the own properties of the entity for equality, so the arguments form a
+     * natural key.
+     *
+     * @return true, if the arguments are a natural key
+     */
+    private boolean hasEqualityCriteria() {
+        if (parameters.hasSourceParameter() || parameters.hasSortParameter() || parameters.hasPageableParameter() || tree.stream().count() != 1 || tree.getParts().isEmpty()) {
+            return false;
+        }
+        
+        for (Part part : tree.getParts()) {
+            boolean equal = part.getType() == Part.Type.SIMPLE_PROPERTY || part.getType() == Part.Type.TRUE || part.getType() == Part.Type.FALSE;
+            
+            if (!equal || part.getProperty().hasNext() || part.shouldIgnoreCase() != Part.IgnoreCaseType.NEVER) {
+                return false;
+            }
+        }
+        
+        return true;
     }
 
     /* (non-Javadoc)
@@ -71,4 +313,106 @@ public class PartTreeOrientQuery extends AbstractOrientQuery {
     protected boolean isCountQuery() {
         return tree.isCountProjection();
     }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.query.AbstractOrientQuery#isExistsQuery()
+     */
+    @Override
+    protected boolean isExistsQuery() {
+        return tree.isExistsProjection();
+    }
+
+    /**
+     * The cache key of a compiled template.
+     */
+    private static final class TemplateKey {
+
+        private final String source;
+
+        private final Sort sort;
+
+        private final boolean count;
+
+        private final KeysetMode keyset;
+
+        /** The sort keys the position is null for, they are compared without placeholders. */
+        private final Set<String> nullKeys;
+
+        private final List<String> fields;
+
+        TemplateKey(String source, Sort sort, boolean count, KeysetMode keyset, Set<String> nullKeys, List<String> fields) {
+            this.source = source;
+            this.sort = sort;
+            this.count = count;
+            this.keyset = keyset;
+            this.nullKeys = nullKeys;
+            this.fields = fields;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            TemplateKey that = (TemplateKey) o;
+
+            return count == that.count && keyset == that.keyset && nullKeys.equals(that.nullKeys) && ObjectUtils.nullSafeEquals(source, that.source) && ObjectUtils.nullSafeEquals(sort, that.sort) && fields.equals(that.fields);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = ObjectUtils.nullSafeHashCode(source);
+            result = 31 * result + ObjectUtils.nullSafeHashCode(sort);
+            result = 31 * result + (count ? 1 : 0);
+            result = 31 * result + keyset.hashCode();
+            result = 31 * result + nullKeys.hashCode();
+            result = 31 * result + fields.hashCode();
+            return result;
+        }
+    }
+
+    /**
+     * Gets the sort keys the position of the given {@link KeysetPageable} is null for, they shape the keyset condition.
+     *
+     * @param pageable the keyset pageable, may be {@literal null}
+     * @return the null keys
+     */
+    private static Set<String> getNullKeys(KeysetPageable pageable) {
+        if (pageable == null || pageable.isInitial() || !pageable.getKeys().containsValue(null)) {
+            return Collections.emptySet();
+        }
+
+        Set<String> keys = new LinkedHashSet<>();
+
+        for (Map.Entry<String, Object> key : pageable.getKeys().entrySet()) {
+            if (key.getValue() == null) {
+                keys.add(key.getKey());
+            }
+        }
+
+        return keys;
+    }
+
+    /**
+     * The shape a {@link KeysetPageable} gives to a compiled template.
+     */
+    private enum KeysetMode {
+
+        /** No keyset pagination. */
+        NONE,
+
+        /** The first window, ordered by the keys only. */
+        INITIAL,
+
+        /** A following window, ordered and restricted by the keys. */
+        CONTINUATION;
+
+        static KeysetMode of(KeysetPageable pageable) {
+            if (pageable == null) {
+                return NONE;
+            }
+
+            return pageable.isInitial() ? INITIAL : CONTINUATION;
+        }
+    }
 }
@@ -1,20 +1,38 @@
 package org.springframework.data.orient.commons.repository.query;
 
 import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.param;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SelectConditionStep;
+import org.jooq.SelectJoinStep;
 import org.jooq.SortField;
 import org.jooq.SortOrder;
+import org.jooq.conf.ParamType;
+import org.jooq.impl.DSL;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.orient.commons.core.OrientOperations;
 import org.springframework.data.orient.commons.repository.DefaultSource;
+import org.springframework.data.orient.commons.repository.KeysetPageable;
 import org.springframework.data.orient.commons.repository.OrientSource;
+import org.springframework.data.orient.commons.repository.Window;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
 import org.springframework.util.Assert;
 
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
 /**
  * Utility class to create Orient queries.
  * 
@@ -22,6 +40,9 @@ import org.springframework.util.Assert;
  */
 public final class QueryUtils {
 
+    /** The record id field, the tie breaker of every keyset. */
+    private static final String RID = "@rid";
+
     private QueryUtils() {
         super();
     }
@@ -43,6 +64,224 @@ public final class QueryUtils {
         throw new UnsupportedOperationException("Not implemented");
     }
     
+    /**
+     * Applies the given {@link Pageable} to the given query.
+     *
+     * @param query the query
+     * @param pageable the pageable, may be {@literal null}
+     * @return the query limited to the requested page
+     */
+    public static String applyPaging(String query, Pageable pageable) {
+        Assert.hasText(query,"Query not be empty");
+        
+        if (pageable == null || !pageable.isPaged()) {
+            return query;
+        }
+        
+        return new StringBuilder(query).append(" skip ").append(pageable.getOffset())
+                .append(" limit ").append(pageable.getPageSize()).toString();
+    }
+    
+    /**
+     * Applies the given {@link Pageable} to the given query, fetching one more record than the page size to tell
+     * whether there is a next {@link org.springframework.data.domain.Slice}.
+     *
+     * @param query the query
+     * @param pageable the pageable, may be {@literal null}
+     * @return the query limited to the requested slice and one more record
+     */
+    public static String applySlicePaging(String query, Pageable pageable) {
+        Assert.hasText(query,"Query not be empty");
+        
+        if (pageable == null || !pageable.isPaged()) {
+            return query;
+        }
+        
+        return new StringBuilder(query).append(" skip ").append(pageable.getOffset())
+                .append(" limit ").append(pageable.getPageSize() + 1).toString();
+    }
+    
+    /**
+     * Limits the given query to the given number of records.
+     *
+     * @param query the query
+     * @param limit the max number of records
+     * @return the limited query
+     */
+    public static String applyLimit(String query, int limit) {
+        Assert.hasText(query,"Query not be empty");
+        
+        return new StringBuilder(query).append(" limit ").append(limit).toString();
+    }
+    
+    /**
+     * Creates the command deleting all records of the given source.
+     *
+     * @param source the source
+     * @return the command
+     */
+    public static String toDeleteCommand(String source) {
+        Assert.hasText(source, "Source must not be empty");
+        
+        return new StringBuilder("delete from ").append(source).toString();
+    }
+    
+    /**
+     * Creates the command deleting at most the given number of records of the given source.
+     *
+     * @param source the source
+     * @param limit the max number of records to delete
+     * @return the command
+     */
+    public static String toDeleteCommand(String source, int limit) {
+        return applyLimit(toDeleteCommand(source), limit);
+    }
+    
+    /**
+     * Creates the query for a {@link Window} of the given source. The values of its placeholders are given by
+     * {@link #getKeysetValues(Sort, KeysetPageable)} unless the pageable requests the first window.
+     *
+     * @param source the source
+     * @param sort the sort, the order of the keys
+     * @param pageable the keyset pageable
+     * @return the query
+     */
+    public static String toKeysetQuery(String source, Sort sort, KeysetPageable pageable) {
+        SelectJoinStep<Record> joinStep = JooqUtils.context().select().from(source);
+        SelectConditionStep<Record> conditionStep = joinStep.where(pageable.isInitial() ? DSL.noCondition() : toKeysetCondition(sort, pageable));
+        
+        return applyLimit(conditionStep.orderBy(toKeysetOrders(sort)).getSQL(ParamType.INDEXED), pageable.getSize() + 1);
+    }
+    
+    /**
+     * Creates the condition selecting the records after the position of a {@link KeysetPageable} for the given
+     * {@link Sort}. OrientDB has no row value comparison, so {@code (k1, k2, @rid) > (?, ?, ?)} is expanded into
+     * {@code k1 >= ? and ((k1 > ?) or (k1 = ? and k2 > ?) or (k1 = ? and k2 = ? and @rid > ?))}, where the leading
+     * range on the first key lets an index on it serve the query. The placeholders are bound with
+     * {@link #getKeysetValues(Sort, KeysetPageable)}.
+     * <p>
+     * OrientDB sorts null before any value and compares nothing equal to null, so a null key of the position is
+     * compared with {@code is null} and {@code is not null} instead of a placeholder, and the records with a null key
+     * follow every value in descending order. The condition thus depends on which keys of the position are null.
+     *
+     * @param sort the sort, the order of the keys
+     * @param pageable the keyset pageable continuing after a seen position
+     * @return the condition
+     */
+    public static Condition toKeysetCondition(Sort sort, KeysetPageable pageable) {
+        Assert.isTrue(!pageable.isInitial(), "Keyset pageable must continue after a position!");
+        
+        List<Order> orders = toList(sort);
+        Condition expansion = null;
+        
+        for (int i = 0; i <= orders.size(); i++) {
+            if (i < orders.size() && isLast(orders.get(i), getKey(pageable, orders.get(i)))) {
+                continue;
+            }
+            
+            Condition term = null;
+            
+            for (int j = 0; j < i; j++) {
+                term = and(term, equal(orders.get(j), getKey(pageable, orders.get(j))));
+            }
+            
+            term = and(term, i < orders.size() ? after(orders.get(i), getKey(pageable, orders.get(i))) : field(RID).gt(param()));
+            expansion = expansion == null ? term : expansion.or(term);
+        }
+        
+        if (orders.isEmpty()) {
+            return expansion;
+        }
+        
+        Condition range = range(orders.get(0), getKey(pageable, orders.get(0)));
+        
+        return range == null ? expansion : range.and(expansion);
+    }
+    
+    /**
+     * Gets the values for the placeholders of {@link #toKeysetCondition(Sort, KeysetPageable)}, the null keys have
+     * none.
+     *
+     * @param sort the sort, the order of the keys
+     * @param pageable the keyset pageable continuing after a seen position
+     * @return the values to bind
+     */
+    public static Object[] getKeysetValues(Sort sort, KeysetPageable pageable) {
+        Assert.isTrue(!pageable.isInitial(), "Keyset pageable must continue after a position!");
+        
+        List<Order> orders = toList(sort);
+        List<Object> values = new ArrayList<>();
+        
+        if (!orders.isEmpty()) {
+            addKey(values, getKey(pageable, orders.get(0)));
+        }
+        
+        for (int i = 0; i <= orders.size(); i++) {
+            if (i < orders.size() && isLast(orders.get(i), getKey(pageable, orders.get(i)))) {
+                continue;
+            }
+            
+            for (int j = 0; j < i; j++) {
+                addKey(values, getKey(pageable, orders.get(j)));
+            }
+            
+            if (i < orders.size()) {
+                addKey(values, getKey(pageable, orders.get(i)));
+            } else {
+                values.add(new ORecordId(pageable.getRid()));
+            }
+        }
+        
+        return values.toArray();
+    }
+    
+    /**
+     * Converts the given {@link Sort} into {@link SortField}s with the record id as the last key, so the order is
+     * total and matches {@link #toKeysetCondition(Sort, KeysetPageable)}.
+     *
+     * @param sort the sort
+     * @return the list of {@link SortField}s.
+     */
+    public static List<SortField<?>> toKeysetOrders(Sort sort) {
+        List<SortField<?>> orders = new ArrayList<>(toOrders(sort));
+        orders.add(field(RID).asc());
+        
+        return orders;
+    }
+    
+    /**
+     * Creates a {@link Window} from the records of a keyset query limited to one record more than the window size.
+     * The extra record only tells that there is a next window.
+     *
+     * @param records the records
+     * @param sort the sort, the order of the keys
+     * @param pageable the requested keyset pageable
+     * @param operations the operations to resolve record ids with
+     * @return the window
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Window<T> toWindow(List<T> records, Sort sort, KeysetPageable pageable, OrientOperations<?> operations) {
+        int size = pageable.getSize();
+        
+        if (records.size() <= size) {
+            return new Window<>(records, null);
+        }
+        
+        List<T> content = new ArrayList<>(records.subList(0, size));
+        T last = content.get(size - 1);
+        
+        Map<String, Object> keys = new LinkedHashMap<>();
+        
+        for (Order order : toList(sort)) {
+            keys.put(order.getProperty(), getProperty(last, order.getProperty()));
+        }
+        
+        String rid = ((OrientOperations<Object>) operations).getRid(last);
+        Assert.notNull(rid, "Keyset pagination requires entities with a record id!");
+        
+        return new Window<>(content, new KeysetPageable(size, keys, rid));
+    }
+    
     /**
      * Converts the given {@link org.springframework.data.domain.Sort} into {@link SortField}s.
      *
@@ -86,5 +325,78 @@ public final class QueryUtils {
         return null;
     }
     
-   
+    private static List<Order> toList(Sort sort) {
+        List<Order> orders = new ArrayList<>();
+        
+        if (sort != null) {
+            sort.forEach(orders::add);
+        }
+        
+        return orders;
+    }
+    
+    private static Condition and(Condition base, Condition condition) {
+        return base == null ? condition : base.and(condition);
+    }
+    
+    /**
+     * Checks if no record follows the given key in the order of the key, only the records with the same key do.
+     */
+    private static boolean isLast(Order order, Object key) {
+        return key == null && order.isDescending();
+    }
+    
+    private static Condition equal(Order order, Object key) {
+        Field<Object> field = field(order.getProperty());
+        
+        return key == null ? field.isNull() : field.eq(param());
+    }
+    
+    private static Condition after(Order order, Object key) {
+        Field<Object> field = field(order.getProperty());
+        
+        if (order.isAscending()) {
+            return key == null ? field.isNotNull() : field.gt(param());
+        }
+        
+        return field.lt(param()).or(field.isNull());
+    }
+    
+    /**
+     * Creates the range of the first key that contains every record after the given key, {@literal null} if every
+     * record is in it.
+     */
+    private static Condition range(Order order, Object key) {
+        Field<Object> field = field(order.getProperty());
+        
+        if (order.isAscending()) {
+            return key == null ? null : field.ge(param());
+        }
+        
+        return key == null ? field.isNull() : field.le(param()).or(field.isNull());
+    }
+    
+    private static void addKey(List<Object> values, Object key) {
+        if (key != null) {
+            values.add(key);
+        }
+    }
+    
+    private static Object getKey(KeysetPageable pageable, Order order) {
+        Map<String, Object> keys = pageable.getKeys();
+        
+        if (!keys.containsKey(order.getProperty())) {
+            throw new IllegalArgumentException("Keyset pageable has no key for " + order.getProperty());
+        }
+        
+        return keys.get(order.getProperty());
+    }
+    
+    private static Object getProperty(Object entity, String path) {
+        if (entity instanceof ODocument) {
+            return ((ODocument) entity).field(path);
+        }
+        
+        return new DirectFieldAccessFallbackBeanWrapper(entity).getPropertyValue(path);
+    }
 }
@@ -0,0 +1,89 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import org.springframework.data.orient.commons.core.ReactiveOrientOperations;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.util.ReactiveWrappers;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * {@link RepositoryQuery} returning a {@link reactor.core.publisher.Flux} or {@link reactor.core.publisher.Mono} for a
+ * derived or declared query. The query itself is created by the wrapped {@link AbstractOrientQuery}, so reactive
+ * query methods are parsed and compiled exactly like the blocking ones.
+ */
+public class ReactiveOrientQuery implements RepositoryQuery {
+
+    /** The blocking query creating the SQL. */
+    private final AbstractOrientQuery query;
+
+    /** The reactive orient operations. */
+    private final ReactiveOrientOperations<?> operations;
+
+    /** Whether the method emits entities fetched from a result set, unless it is a count query. */
+    private final boolean streamed;
+
+    /** Whether the method emits multiple results. */
+    private final boolean multiValue;
+
+    /**
+     * Instantiates a new {@link ReactiveOrientQuery}.
+     *
+     * @param query the blocking query creating the SQL
+     * @param operations the reactive orient operations
+     */
+    public ReactiveOrientQuery(AbstractOrientQuery query, ReactiveOrientOperations<?> operations) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(operations, "Operations must not be null!");
+
+        OrientQueryMethod method = query.getQueryMethod();
+        Class<?> returnType = method.getMethod().getReturnType();
+
+        if (!ReactiveWrappers.supports(returnType)) {
+            throw new IllegalStateException(String.format("Method must return a reactive type! Offending method: %s", method.getMethod()));
+        }
+
+        if (method.isPageQuery() || method.isSliceQuery() || method.isWindowQuery()) {
+            throw new IllegalStateException(String.format("Paged reactive queries are not supported! Offending method: %s", method.getMethod()));
+        }
+
+        this.query = query;
+        this.operations = operations;
+        this.multiValue = ReactiveWrappers.isMultiValueType(returnType);
+        this.streamed = multiValue || method.isQueryForEntity();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.query.RepositoryQuery#getQueryMethod()
+     */
+    @Override
+    public OrientQueryMethod getQueryMethod() {
+        return query.getQueryMethod();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.query.RepositoryQuery#execute(java.lang.Object[])
+     */
+    @Override
+    public Object execute(Object[] parameters) {
+        OrientParameters orientParameters = query.getQueryMethod().getParameters();
+
+        if (query.isCountQuery()) {
+            return operations.count(query.createQuery(parameters), query.prepareParameters(orientParameters, parameters));
+        }
+
+        if (streamed) {
+            Flux<Object> results = operations.query(query.createQuery(parameters), query.prepareParameters(orientParameters, parameters));
+
+            return multiValue ? results : results.next();
+        }
+
+        Class<?> domainType = query.getQueryMethod().getEntityInformation().getJavaType();
+
+        return operations.execute(ops -> {
+            Object result = query.execute(parameters);
+
+            return domainType.isInstance(result) ? operations.detach(result) : result;
+        });
+    }
+}
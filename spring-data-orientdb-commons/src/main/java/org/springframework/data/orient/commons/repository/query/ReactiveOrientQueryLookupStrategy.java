@@ -0,0 +1,43 @@
+package org.springframework.data.orient.commons.repository.query;
+
+import java.lang.reflect.Method;
+
+import org.springframework.data.orient.commons.core.ReactiveOrientOperations;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.RepositoryQuery;
+
+/**
+ * {@link QueryLookupStrategy} to create {@link ReactiveOrientQuery} instances. The queries are resolved by the
+ * {@link OrientQueryLookupStrategy} and wrapped to run on the scheduler of the {@link ReactiveOrientOperations}.
+ */
+public final class ReactiveOrientQueryLookupStrategy implements QueryLookupStrategy {
+
+    /** The reactive orient operations. */
+    private final ReactiveOrientOperations<?> operations;
+
+    /** The strategy resolving the blocking queries. */
+    private final OrientQueryLookupStrategy strategy;
+
+    /**
+     * Instantiates a new {@link ReactiveOrientQueryLookupStrategy}.
+     *
+     * @param operations the reactive orient operations
+     * @param evaluationContextProvider the evaluation context provider
+     */
+    public ReactiveOrientQueryLookupStrategy(ReactiveOrientOperations<?> operations, QueryMethodEvaluationContextProvider evaluationContextProvider) {
+        this.operations = operations;
+        this.strategy = new OrientQueryLookupStrategy(operations.getOperations(), evaluationContextProvider);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.query.QueryLookupStrategy#resolveQuery(java.lang.reflect.Method, org.springframework.data.repository.core.RepositoryMetadata, org.springframework.data.projection.ProjectionFactory, org.springframework.data.repository.core.NamedQueries)
+     */
+    @Override
+    public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory, NamedQueries namedQueries) {
+        return new ReactiveOrientQuery((AbstractOrientQuery) strategy.resolveQuery(method, metadata, factory, namedQueries), operations);
+    }
+}
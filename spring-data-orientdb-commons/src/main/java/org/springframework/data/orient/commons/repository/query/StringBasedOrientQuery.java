@@ -42,6 +42,11 @@ public class StringBasedOrientQuery extends AbstractOrientQuery {
 	 */
     public StringBasedOrientQuery(String query, OrientQueryMethod method, OrientOperations operations, QueryMethodEvaluationContextProvider evaluationContextProvider) {
         super(method, operations);
+        
+        if (method.isWindowQuery()) {
+            throw new IllegalStateException(String.format("Keyset pagination is only supported for derived queries! Offending method: %s", method.getMethod()));
+        }
+        
         this.queryString = query;
         this.isCountQuery = method.hasAnnotatedQuery() ? method.getQueryAnnotation().count() : false;
         this.evaluationContextProvider = evaluationContextProvider;
@@ -53,6 +58,10 @@ public class StringBasedOrientQuery extends AbstractOrientQuery {
         OrientParameterAccessor accessor = new OrientParametersParameterAccessor(getQueryMethod().getParameters(), values);
         String sortedQuery = QueryUtils.applySorting(queryString, accessor.getSort());
         
+        if (getQueryMethod().isSliceQuery()) {
+            return new OSQLSynchQuery(QueryUtils.applySlicePaging(sortedQuery, accessor.getPageable()));
+        }
+        
         return new OSQLSynchQuery(sortedQuery);
     }
 
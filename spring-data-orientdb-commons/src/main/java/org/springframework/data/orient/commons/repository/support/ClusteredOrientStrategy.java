@@ -1,5 +1,7 @@
 package org.springframework.data.orient.commons.repository.support;
 
+import org.springframework.data.orient.commons.core.BulkWriteOptions;
+import org.springframework.data.orient.commons.core.BulkWriteResult;
 import org.springframework.data.orient.commons.core.OrientOperations;
 import org.springframework.data.orient.commons.repository.query.QueryUtils;
 
@@ -20,6 +22,11 @@ public class ClusteredOrientStrategy<T> implements OrientStrategy<T> {
         return operations.save(entity, cluster);
     }
 
+    @Override
+    public BulkWriteResult saveAll(Iterable<? extends T> entities, BulkWriteOptions options) {
+        return operations.bulkSave(entities, options.getClusters().isEmpty() ? options.withCluster(cluster) : options);
+    }
+
     @Override
     public long count() {
         return operations.countClusterElements(cluster);
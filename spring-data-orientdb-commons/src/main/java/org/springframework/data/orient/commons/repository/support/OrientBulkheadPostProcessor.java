@@ -0,0 +1,196 @@
+package org.springframework.data.orient.commons.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.orient.commons.core.OrientBulkhead;
+import org.springframework.data.orient.commons.core.OrientInvocation;
+import org.springframework.data.orient.commons.core.OrientOperations;
+import org.springframework.data.orient.commons.repository.annotation.Bulkhead;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
+import org.springframework.data.util.CloseableIterator;
+
+/**
+ * {@link RepositoryProxyPostProcessor} adding an interceptor to the repositories that runs every method invocation in
+ * its {@link OrientBulkhead}: the one named by the {@link Bulkhead} of the method or else of the repository interface,
+ * or the {@link OrientBulkhead#DEFAULT} one. The permit is held until the method returned, until the future of an
+ * asynchronous method completed, or until the {@link Stream} or {@link CloseableIterator} returned by a streaming
+ * method is closed, as these hold their session until then. The bulkheads are looked up on every invocation, so they
+ * can be added to the operations once the repositories are created; a method whose bulkhead is not registered runs
+ * unbounded.
+ * <p>
+ * Acquiring a permit blocks the calling thread, so the post processor is not installed on the reactive repositories,
+ * those run unbounded.
+ */
+public class OrientBulkheadPostProcessor implements RepositoryProxyPostProcessor {
+
+    /** The operations. */
+    private final OrientOperations<?> operations;
+
+    /**
+     * Instantiates a new {@link OrientBulkheadPostProcessor}.
+     *
+     * @param operations the operations holding the bulkheads
+     */
+    public OrientBulkheadPostProcessor(OrientOperations<?> operations) {
+        this.operations = operations;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryProxyPostProcessor#postProcess(org.springframework.aop.framework.ProxyFactory, org.springframework.data.repository.core.RepositoryInformation)
+     */
+    @Override
+    public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+        factory.addAdvice(new BulkheadInterceptor(repositoryInformation.getRepositoryInterface()));
+    }
+
+    /**
+     * The interceptor bounding the invocations of a repository.
+     */
+    private final class BulkheadInterceptor implements MethodInterceptor {
+
+        private final Class<?> repositoryInterface;
+
+        /** The bulkhead names by method. */
+        private final Map<Method, String> names = new ConcurrentHashMap<>();
+
+        BulkheadInterceptor(Class<?> repositoryInterface) {
+            this.repositoryInterface = repositoryInterface;
+        }
+
+        /* (non-Javadoc)
+         * @see org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
+         */
+        @Override
+        public Object invoke(MethodInvocation methodInvocation) throws Throwable {
+            String name = names.computeIfAbsent(methodInvocation.getMethod(), this::getName);
+            OrientBulkhead bulkhead = operations.getBulkhead(name);
+
+            if (bulkhead == null) {
+                return methodInvocation.proceed();
+            }
+
+            OrientInvocation.recordQueue(name, bulkhead.acquire());
+
+            long start = System.nanoTime();
+            Object result;
+
+            try {
+                result = methodInvocation.proceed();
+            } catch (Throwable e) {
+                bulkhead.release(System.nanoTime() - start);
+                throw e;
+            }
+
+            Runnable release = new Release(bulkhead, start);
+
+            if (result instanceof CompletableFuture) {
+                // asynchronous methods hold a session until their future completes
+                ((CompletableFuture<?>) result).whenComplete((value, failure) -> release.run());
+            } else if (result instanceof Stream) {
+                // streaming methods hold a session until the stream is closed
+                return ((Stream<?>) result).onClose(release);
+            } else if (result instanceof CloseableIterator) {
+                return new ReleasingIterator<>((CloseableIterator<?>) result, release);
+            } else {
+                release.run();
+            }
+
+            return result;
+        }
+
+        private String getName(Method method) {
+            Bulkhead annotation = AnnotatedElementUtils.findMergedAnnotation(method, Bulkhead.class);
+
+            if (annotation == null) {
+                annotation = AnnotatedElementUtils.findMergedAnnotation(repositoryInterface, Bulkhead.class);
+            }
+
+            return annotation == null ? OrientBulkhead.DEFAULT : annotation.value();
+        }
+    }
+
+    /**
+     * Releases the permit of an invocation once, however often it is run.
+     */
+    private static final class Release implements Runnable {
+
+        /** The bulkhead. */
+        private final OrientBulkhead bulkhead;
+
+        /** The start of the invocation in nanoseconds. */
+        private final long start;
+
+        /** Whether the permit was released. */
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Release(OrientBulkhead bulkhead, long start) {
+            this.bulkhead = bulkhead;
+            this.start = start;
+        }
+
+        /* (non-Javadoc)
+         * @see java.lang.Runnable#run()
+         */
+        @Override
+        public void run() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * {@link CloseableIterator} releasing the permit of the invocation that returned it once it is closed.
+     */
+    private static final class ReleasingIterator<T> implements CloseableIterator<T> {
+
+        /** The iterator returned by the invocation. */
+        private final CloseableIterator<T> delegate;
+
+        /** The release of the permit. */
+        private final Runnable release;
+
+        ReleasingIterator(CloseableIterator<T> delegate, Runnable release) {
+            this.delegate = delegate;
+            this.release = release;
+        }
+
+        /* (non-Javadoc)
+         * @see java.util.Iterator#hasNext()
+         */
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        /* (non-Javadoc)
+         * @see java.util.Iterator#next()
+         */
+        @Override
+        public T next() {
+            return delegate.next();
+        }
+
+        /* (non-Javadoc)
+         * @see org.springframework.data.util.CloseableIterator#close()
+         */
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                release.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.springframework.data.orient.commons.repository.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.orient.commons.core.OrientInvocation;
+import org.springframework.data.orient.commons.core.OrientInvocationListener;
+import org.springframework.data.orient.commons.core.OrientOperations;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
+
+/**
+ * {@link RepositoryProxyPostProcessor} adding an interceptor to the repositories that notifies the
+ * {@link OrientInvocationListener} of the operations of every method invocation, before it runs, once it returned and
+ * once it completed. The listener is looked up on every invocation, so it can be set on the operations once the
+ * repositories are created.
+ */
+public class OrientInvocationPostProcessor implements RepositoryProxyPostProcessor {
+
+    /** The logger. */
+    private static final Logger log = LoggerFactory.getLogger(OrientInvocationPostProcessor.class);
+
+    /** The operations. */
+    private final OrientOperations<?> operations;
+
+    /**
+     * Instantiates a new {@link OrientInvocationPostProcessor}.
+     *
+     * @param operations the operations holding the listener
+     */
+    public OrientInvocationPostProcessor(OrientOperations<?> operations) {
+        this.operations = operations;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryProxyPostProcessor#postProcess(org.springframework.aop.framework.ProxyFactory, org.springframework.data.repository.core.RepositoryInformation)
+     */
+    @Override
+    public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+        factory.addAdvice(new InvocationInterceptor(repositoryInformation.getRepositoryInterface()));
+    }
+
+    /**
+     * The interceptor recording the invocations of a repository.
+     */
+    private final class InvocationInterceptor implements MethodInterceptor {
+
+        private final Class<?> repositoryInterface;
+
+        InvocationInterceptor(Class<?> repositoryInterface) {
+            this.repositoryInterface = repositoryInterface;
+        }
+
+        /* (non-Javadoc)
+         * @see org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
+         */
+        @Override
+        public Object invoke(MethodInvocation methodInvocation) throws Throwable {
+            OrientInvocationListener listener = operations.getInvocationListener();
+
+            if (listener == null) {
+                return methodInvocation.proceed();
+            }
+
+            OrientInvocation invocation = OrientInvocation.start(repositoryInterface, methodInvocation.getMethod());
+            Object result;
+
+            callListener(listener::beforeInvocation, invocation);
+
+            try {
+                result = methodInvocation.proceed();
+            } catch (Throwable e) {
+                end(listener, invocation);
+                complete(listener, invocation, null, e);
+                throw e;
+            }
+
+            end(listener, invocation);
+
+            if (result instanceof CompletableFuture) {
+                // asynchronous methods are complete once their future is
+                ((CompletableFuture<?>) result).whenComplete((value, failure) -> complete(listener, invocation, value, failure));
+            } else {
+                complete(listener, invocation, result, null);
+            }
+
+            return result;
+        }
+
+        private void end(OrientInvocationListener listener, OrientInvocation invocation) {
+            callListener(listener::afterReturn, invocation);
+            invocation.end();
+        }
+
+        private void complete(OrientInvocationListener listener, OrientInvocation invocation, Object result, Throwable failure) {
+            invocation.complete(result, failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure);
+
+            callListener(listener::afterInvocation, invocation);
+        }
+
+        private void callListener(Consumer<OrientInvocation> callback, OrientInvocation invocation) {
+            try {
+                callback.accept(invocation);
+            } catch (RuntimeException e) {
+                log.warn("Invocation listener failed for {}", invocation.getMethod(), e);
+            }
+        }
+    }
+}
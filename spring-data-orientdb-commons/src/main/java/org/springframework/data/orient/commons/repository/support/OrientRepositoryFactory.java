@@ -54,6 +54,8 @@ public class OrientRepositoryFactory extends RepositoryFactorySupport {
 		Assert.notNull(operations, "MongoOperations must not be null!");
 		this.operations = operations;
 		this.mappingContext = operations.getConverter().getMappingContext();
+		addRepositoryProxyPostProcessor(new OrientInvocationPostProcessor(operations));
+		addRepositoryProxyPostProcessor(new OrientBulkheadPostProcessor(operations));
 	}
 
 	@Override
@@ -170,8 +172,17 @@ public class OrientRepositoryFactory extends RepositoryFactorySupport {
 	 * @return cluster name or null if it's not defined
 	 */
 	protected String getCustomCluster(RepositoryMetadata metadata) {
-		Class<?> repositoryInterface = metadata.getRepositoryInterface();
+		return getCustomCluster(metadata.getRepositoryInterface());
+	}
 
+	/**
+	 * Get Custom Cluster Name declared on the given repository interface.
+	 *
+	 * @param repositoryInterface the repository interface
+	 * @return cluster name or null if it's not defined
+	 * @see #getCustomCluster(RepositoryMetadata)
+	 */
+	static String getCustomCluster(Class<?> repositoryInterface) {
 		Source source = AnnotationUtils.getAnnotation(repositoryInterface, Source.class);
 		if (source != null && SourceType.CLUSTER.equals(source.type())) {
 			return source.value();
@@ -1,10 +1,14 @@
 package org.springframework.data.orient.commons.repository.support;
 
+import org.springframework.data.orient.commons.core.BulkWriteOptions;
+import org.springframework.data.orient.commons.core.BulkWriteResult;
 
 public interface OrientStrategy<T> {
 
     <S extends T> S save(S entity);
     
+    BulkWriteResult saveAll(Iterable<? extends T> entities, BulkWriteOptions options);
+    
     long count();
     
     String getSource();
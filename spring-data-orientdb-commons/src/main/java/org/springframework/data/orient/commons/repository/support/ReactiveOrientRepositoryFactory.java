@@ -0,0 +1,103 @@
+package org.springframework.data.orient.commons.repository.support;
+
+import java.util.Optional;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.orient.commons.core.ReactiveOrientOperations;
+import org.springframework.data.orient.commons.core.mapping.OrientPersistentEntity;
+import org.springframework.data.orient.commons.core.mapping.OrientPersistentProperty;
+import org.springframework.data.orient.commons.repository.query.OrientEntityInformation;
+import org.springframework.data.orient.commons.repository.query.ReactiveOrientQueryLookupStrategy;
+import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.querydsl.QuerydslUtils;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Orient specific generic factory of reactive repositories. Unlike the blocking repositories, the reactive ones do not
+ * run in an {@link org.springframework.data.orient.commons.core.OrientBulkhead}, acquiring a permit would block the
+ * subscribing thread, so their invocations are unbounded.
+ */
+public class ReactiveOrientRepositoryFactory extends ReactiveRepositoryFactorySupport {
+
+    /** The reactive orient operations. */
+    protected final ReactiveOrientOperations<?> operations;
+
+    /** The mapping context. */
+    private final MappingContext<? extends OrientPersistentEntity<?>, OrientPersistentProperty> mappingContext;
+
+    /**
+     * Instantiates a new {@link ReactiveOrientRepositoryFactory}.
+     *
+     * @param operations the reactive orient operations
+     */
+    public ReactiveOrientRepositoryFactory(ReactiveOrientOperations<?> operations) {
+        Assert.notNull(operations, "ReactiveOrientOperations must not be null!");
+
+        this.operations = operations;
+        this.mappingContext = operations.getOperations().getConverter().getMappingContext();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getTargetRepository(org.springframework.data.repository.core.RepositoryInformation)
+     */
+    @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    protected Object getTargetRepository(RepositoryInformation metadata) {
+        Class<?> javaType = getEntityInformation(metadata.getDomainType()).getJavaType();
+        String cluster = OrientRepositoryFactory.getCustomCluster(metadata.getRepositoryInterface());
+
+        if (cluster != null) {
+            return new SimpleReactiveOrientRepository(operations, javaType, cluster);
+        } else {
+            return new SimpleReactiveOrientRepository(operations, javaType);
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getRepositoryFragments(org.springframework.data.repository.core.RepositoryMetadata)
+     */
+    @Override
+    protected RepositoryFragments getRepositoryFragments(RepositoryMetadata metadata) {
+        if (QuerydslUtils.QUERY_DSL_PRESENT && QuerydslPredicateExecutor.class.isAssignableFrom(metadata.getRepositoryInterface())) {
+            throw new InvalidDataAccessApiUsageException("Cannot combine Querydsl and reactive repository support in a single interface");
+        }
+
+        return RepositoryFragments.empty();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getEntityInformation(java.lang.Class)
+     */
+    @Override
+    public <T, ID> OrientEntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
+        OrientPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(domainClass);
+
+        return OrientEntityInformationSupport.<T, ID> entityInformationFor(entity, null);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getRepositoryBaseClass(org.springframework.data.repository.core.RepositoryMetadata)
+     */
+    @Override
+    protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+        return SimpleReactiveOrientRepository.class;
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getQueryLookupStrategy(org.springframework.data.repository.query.QueryLookupStrategy.Key, org.springframework.data.repository.query.QueryMethodEvaluationContextProvider)
+     */
+    @Override
+    protected Optional<QueryLookupStrategy> getQueryLookupStrategy(@Nullable Key key,
+            QueryMethodEvaluationContextProvider evaluationContextProvider) {
+        return Optional.of(new ReactiveOrientQueryLookupStrategy(operations, evaluationContextProvider));
+    }
+}
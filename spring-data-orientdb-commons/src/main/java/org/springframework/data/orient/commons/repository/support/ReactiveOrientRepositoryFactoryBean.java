@@ -0,0 +1,36 @@
+package org.springframework.data.orient.commons.repository.support;
+
+import java.io.Serializable;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.commons.core.ReactiveOrientOperations;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+
+/**
+ * Special adapter for Springs {@link org.springframework.beans.factory.FactoryBean} interface to allow easy setup of
+ * reactive repository factories via Spring configuration.
+ *
+ * @param <T> the type of the repository
+ * @param <S> the type of the entity to handle
+ * @param <ID> the type of the entity identifier to handle
+ */
+public class ReactiveOrientRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable> extends RepositoryFactoryBeanSupport<T, S, ID> {
+
+    protected ReactiveOrientRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
+        super(repositoryInterface);
+    }
+
+    /** The reactive orient operations. */
+    @Autowired
+    private ReactiveOrientOperations<?> operations;
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#createRepositoryFactory()
+     */
+    @Override
+    protected RepositoryFactorySupport createRepositoryFactory() {
+        return new ReactiveOrientRepositoryFactory(operations);
+    }
+}
@@ -10,18 +10,26 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.orient.commons.core.BulkWriteOptions;
+import org.springframework.data.orient.commons.core.BulkWriteResult;
 import org.springframework.data.orient.commons.core.OrientOperations;
+import org.springframework.data.orient.commons.repository.KeysetPageable;
 import org.springframework.data.orient.commons.repository.OrientRepository;
 import org.springframework.data.orient.commons.repository.OrientSource;
+import org.springframework.data.orient.commons.repository.Window;
 import org.springframework.data.orient.commons.repository.query.JooqUtils;
 import org.springframework.data.orient.commons.repository.query.QueryUtils;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Default implementation of the {@link org.springframework.data.repository.PagingAndSortingRepository} interface for OrientDB.
@@ -135,6 +143,15 @@ public class SimpleOrientRepository<T> implements OrientRepository<T> {
         return result;
     }
 
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.OrientRepository#saveAll(java.lang.Iterable, org.springframework.data.orient.commons.core.BulkWriteOptions)
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BulkWriteResult saveAll(Iterable<? extends T> entities, BulkWriteOptions options) {
+        return strategy.saveAll(entities, options);
+    }
+
     /* (non-Javadoc)
      * @see org.springframework.data.repository.CrudRepository#findOne(java.io.Serializable)
      */
@@ -142,11 +159,20 @@ public class SimpleOrientRepository<T> implements OrientRepository<T> {
         return operations.load(new ORecordId(id));
     }
 
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.OrientRepository#findByIdAsync(java.lang.String)
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CompletableFuture<T> findByIdAsync(String id) {
+        return operations.loadAsync(new ORecordId(id));
+    }
+
     /* (non-Javadoc)
      * @see org.springframework.data.repository.CrudRepository#exists(java.io.Serializable)
      */
     public boolean exists(String id) {
-        return findOne(id) != null;
+        return operations.exists(new ORecordId(id));
     }
 
     /* (non-Javadoc)
@@ -262,29 +288,77 @@ public class SimpleOrientRepository<T> implements OrientRepository<T> {
      */
     @Transactional(readOnly = false)
     public void deleteAll() {
-        for (T entity : findAll()) {
-            delete(entity);
-        }
+        deleteFrom(source);
     }
 
     /* (non-Javadoc)
      * @see org.springframework.data.orient.repository.OrientRepository#deleteAll(java.lang.String)
      */
     @Override
-    public void deleteAll(String cluster) {
-        for (T entity : findAll(cluster)) {
-            delete(entity);
-        }
+    @Transactional(readOnly = false)
+    public long deleteAll(String cluster) {
+        return deleteFrom(QueryUtils.clusterToSource(cluster));
     }
 
     /* (non-Javadoc)
      * @see org.springframework.data.orient.repository.OrientRepository#deleteAll(java.lang.Class)
      */
     @Override
-    public void deleteAll(Class<? extends T> domainClass) {
-        for (T entity : findAll(domainClass)) {
-            delete(entity);
+    @Transactional(readOnly = false)
+    public long deleteAll(Class<? extends T> domainClass) {
+        return deleteFrom(QueryUtils.toSource(domainClass));
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.OrientRepository#deleteAll(org.springframework.data.orient.commons.repository.OrientSource)
+     */
+    @Override
+    @Transactional(readOnly = false)
+    public long deleteAll(OrientSource source) {
+        return deleteFrom(QueryUtils.toSource(source));
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.OrientRepository#deleteAll(org.springframework.data.orient.commons.repository.OrientSource, int)
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long deleteAll(OrientSource source, int chunkSize) {
+        Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero!");
+        
+        if (operations.getTransaction().isActive()) {
+            throw new IllegalStateException("Chunked deletes must not run within a transaction!");
         }
+        
+        String command = QueryUtils.toDeleteCommand(QueryUtils.toSource(source), chunkSize);
+        long total = 0;
+        long deleted;
+        
+        do {
+            operations.begin();
+            
+            try {
+                deleted = operations.<Number> command(command).longValue();
+                operations.commit();
+            } catch (RuntimeException e) {
+                operations.rollback();
+                throw e;
+            }
+            
+            total += deleted;
+        } while (deleted == chunkSize);
+        
+        return total;
+    }
+
+    /**
+     * Deletes all records of the given source with a single command.
+     *
+     * @param source the source
+     * @return the number of deleted records
+     */
+    private long deleteFrom(String source) {
+        return operations.<Number> command(QueryUtils.toDeleteCommand(source)).longValue();
     }
 
     /* (non-Javadoc)
@@ -317,10 +391,20 @@ public class SimpleOrientRepository<T> implements OrientRepository<T> {
             return new PageImpl<>(findAll());
         }
 
-        Long total = count();
-        List<T> content = (List<T>) (total > pageable.getOffset() ? operations.query(getQuery(pageable)) : Collections.<T> emptyList());
+        List<T> content = (List<T>) operations.query(getQuery(pageable));
 
-        return new PageImpl<>(content, pageable, total);
+        return PageableExecutionUtils.getPage(content, pageable, this::count);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.OrientRepository#findAll(org.springframework.data.orient.commons.repository.KeysetPageable, org.springframework.data.domain.Sort)
+     */
+    @Override
+    public Window<T> findAll(KeysetPageable pageable, Sort sort) {
+        Object[] args = pageable.isInitial() ? new Object[0] : QueryUtils.getKeysetValues(sort, pageable);
+        List<T> records = operations.query(new OSQLSynchQuery<T>(QueryUtils.toKeysetQuery(source, sort, pageable)), args);
+        
+        return QueryUtils.toWindow(records, sort, pageable, operations);
     }
 
     /**
@@ -386,7 +470,7 @@ public class SimpleOrientRepository<T> implements OrientRepository<T> {
 
 	@Override
 	public boolean existsById(String id) {
-		return findById(id).isPresent();
+		return operations.exists(new ORecordId(id));
 	}
 
 	@Transactional(readOnly = false)
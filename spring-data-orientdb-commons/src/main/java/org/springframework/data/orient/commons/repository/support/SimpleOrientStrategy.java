@@ -1,5 +1,7 @@
 package org.springframework.data.orient.commons.repository.support;
 
+import org.springframework.data.orient.commons.core.BulkWriteOptions;
+import org.springframework.data.orient.commons.core.BulkWriteResult;
 import org.springframework.data.orient.commons.core.OrientOperations;
 import org.springframework.data.orient.commons.repository.query.QueryUtils;
 
@@ -20,6 +22,15 @@ public class SimpleOrientStrategy<T> implements OrientStrategy<T> {
         return operations.save(entity);
     }
 
+    @Override
+    public BulkWriteResult saveAll(Iterable<? extends T> entities, BulkWriteOptions options) {
+        if (options.isParallel() && options.getClusters().isEmpty()) {
+            return operations.bulkSave(entities, options.withClusters(operations.getClusterNamesByClass(domainClass, true)));
+        }
+
+        return operations.bulkSave(entities, options);
+    }
+
     @Override
     public long count() {
         return operations.countClass(domainClass);
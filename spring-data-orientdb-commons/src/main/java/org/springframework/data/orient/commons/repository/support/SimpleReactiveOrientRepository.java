@@ -0,0 +1,306 @@
+package org.springframework.data.orient.commons.repository.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.Query;
+import org.jooq.conf.ParamType;
+import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.orient.commons.core.ReactiveOrientOperations;
+import org.springframework.data.orient.commons.repository.OrientSource;
+import org.springframework.data.orient.commons.repository.ReactiveOrientRepository;
+import org.springframework.data.orient.commons.repository.query.JooqUtils;
+import org.springframework.data.orient.commons.repository.query.QueryUtils;
+import org.springframework.util.Assert;
+
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.sql.query.OSQLQuery;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Default implementation of the {@link ReactiveOrientRepository} interface. Every method delegates to the blocking
+ * {@link OrientStrategy} and {@link org.springframework.data.orient.commons.core.OrientOperations} on the scheduler of
+ * the {@link ReactiveOrientOperations}.
+ *
+ * @param <T> the type of the entity to handle
+ */
+public class SimpleReactiveOrientRepository<T> implements ReactiveOrientRepository<T> {
+
+    /** The reactive orient operations. */
+    protected final ReactiveOrientOperations<T> operations;
+
+    /** The domain class. */
+    protected final Class<T> domainClass;
+
+    /** The source of the entities. */
+    protected final String source;
+
+    /** The strategy. */
+    private final OrientStrategy<T> strategy;
+
+    /**
+     * Instantiates a new {@link SimpleReactiveOrientRepository} from the given {@link ReactiveOrientOperations} and
+     * domain class.
+     *
+     * @param operations the reactive orient operations
+     * @param domainClass the domain class
+     */
+    public SimpleReactiveOrientRepository(ReactiveOrientOperations<T> operations, Class<T> domainClass) {
+        this(operations, domainClass, new SimpleOrientStrategy<>(operations.getOperations(), domainClass));
+    }
+
+    /**
+     * Instantiates a new {@link SimpleReactiveOrientRepository} for the entities in the given cluster.
+     *
+     * @param operations the reactive orient operations
+     * @param domainClass the domain class
+     * @param cluster the cluster
+     */
+    public SimpleReactiveOrientRepository(ReactiveOrientOperations<T> operations, Class<T> domainClass, String cluster) {
+        this(operations, domainClass, new ClusteredOrientStrategy<T>(operations.getOperations(), cluster));
+    }
+
+    private SimpleReactiveOrientRepository(ReactiveOrientOperations<T> operations, Class<T> domainClass, OrientStrategy<T> strategy) {
+        this.operations = operations;
+        this.domainClass = domainClass;
+        this.strategy = strategy;
+        this.source = strategy.getSource();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#save(java.lang.Object)
+     */
+    @Override
+    public <S extends T> Mono<S> save(S entity) {
+        Assert.notNull(entity, "Entity must not be null!");
+
+        return operations.execute(ops -> operations.detach(strategy.save(entity)));
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.ReactiveOrientRepository#save(java.lang.Object, java.lang.String)
+     */
+    @Override
+    public <S extends T> Mono<S> save(S entity, String cluster) {
+        Assert.notNull(entity, "Entity must not be null!");
+
+        return operations.save(entity, cluster);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#saveAll(java.lang.Iterable)
+     */
+    @Override
+    public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+        Assert.notNull(entities, "Entities must not be null!");
+
+        return Flux.fromIterable(entities).concatMap(this::save);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#saveAll(org.reactivestreams.Publisher)
+     */
+    @Override
+    public <S extends T> Flux<S> saveAll(Publisher<S> entities) {
+        Assert.notNull(entities, "Entities must not be null!");
+
+        return Flux.from(entities).concatMap(this::save);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findById(java.lang.Object)
+     */
+    @Override
+    public Mono<T> findById(String id) {
+        Assert.notNull(id, "Id must not be null!");
+
+        return operations.load(new ORecordId(id));
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findById(org.reactivestreams.Publisher)
+     */
+    @Override
+    public Mono<T> findById(Publisher<String> id) {
+        return Mono.from(id).flatMap(this::findById);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#existsById(java.lang.Object)
+     */
+    @Override
+    public Mono<Boolean> existsById(String id) {
+        Assert.notNull(id, "Id must not be null!");
+
+        return operations.load(new ORecordId(id)).hasElement();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#existsById(org.reactivestreams.Publisher)
+     */
+    @Override
+    public Mono<Boolean> existsById(Publisher<String> id) {
+        return Mono.from(id).flatMap(this::existsById);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findAll()
+     */
+    @Override
+    public Flux<T> findAll() {
+        return operations.query(getQuery(source, Sort.unsorted()));
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveSortingRepository#findAll(org.springframework.data.domain.Sort)
+     */
+    @Override
+    public Flux<T> findAll(Sort sort) {
+        return operations.query(getQuery(source, sort));
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.ReactiveOrientRepository#findAll(java.lang.String)
+     */
+    @Override
+    public Flux<T> findAll(String cluster) {
+        return operations.query(getQuery(QueryUtils.clusterToSource(cluster), Sort.unsorted()));
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.ReactiveOrientRepository#findAll(org.springframework.data.orient.commons.repository.OrientSource)
+     */
+    @Override
+    public Flux<T> findAll(OrientSource source) {
+        return operations.query(getQuery(QueryUtils.toSource(source), Sort.unsorted()));
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findAllById(java.lang.Iterable)
+     */
+    @Override
+    public Flux<T> findAllById(Iterable<String> ids) {
+        Assert.notNull(ids, "Ids must not be null!");
+
+        List<ORecordId> recordIds = new ArrayList<>();
+
+        for (String id : ids) {
+            recordIds.add(new ORecordId(id));
+        }
+
+        return recordIds.isEmpty() ? Flux.empty() : operations.query(getQuery("?", Sort.unsorted()), recordIds);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#findAllById(org.reactivestreams.Publisher)
+     */
+    @Override
+    public Flux<T> findAllById(Publisher<String> ids) {
+        return Flux.from(ids).collectList().flatMapMany(this::findAllById);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#count()
+     */
+    @Override
+    public Mono<Long> count() {
+        return operations.execute(ops -> strategy.count());
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.ReactiveOrientRepository#count(java.lang.String)
+     */
+    @Override
+    public Mono<Long> count(String cluster) {
+        return operations.countClusterElements(cluster);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteById(java.lang.Object)
+     */
+    @Override
+    public Mono<Void> deleteById(String id) {
+        Assert.notNull(id, "Id must not be null!");
+
+        return operations.delete(new ORecordId(id));
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteById(org.reactivestreams.Publisher)
+     */
+    @Override
+    public Mono<Void> deleteById(Publisher<String> id) {
+        return Mono.from(id).flatMap(this::deleteById);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#delete(java.lang.Object)
+     */
+    @Override
+    public Mono<Void> delete(T entity) {
+        Assert.notNull(entity, "Entity must not be null!");
+
+        return operations.delete(entity);
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteAll(java.lang.Iterable)
+     */
+    @Override
+    public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+        Assert.notNull(entities, "Entities must not be null!");
+
+        return Flux.fromIterable(entities).concatMap(this::delete).then();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteAll(org.reactivestreams.Publisher)
+     */
+    @Override
+    public Mono<Void> deleteAll(Publisher<? extends T> entities) {
+        Assert.notNull(entities, "Entities must not be null!");
+
+        return Flux.from(entities).concatMap(this::delete).then();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#deleteAll()
+     */
+    @Override
+    public Mono<Void> deleteAll() {
+        return operations.command(QueryUtils.toDeleteCommand(source)).then();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.ReactiveOrientRepository#deleteAll(org.springframework.data.orient.commons.repository.OrientSource)
+     */
+    @Override
+    public Mono<Long> deleteAll(OrientSource source) {
+        return operations.command(QueryUtils.toDeleteCommand(QueryUtils.toSource(source)));
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.repository.ReactiveOrientRepository#getDomainClass()
+     */
+    @Override
+    public Class<T> getDomainClass() {
+        return domainClass;
+    }
+
+    /**
+     * Creates the query for the given source and {@link Sort}.
+     *
+     * @param source the source
+     * @param sort the sort
+     * @return the query
+     */
+    private OSQLQuery<T> getQuery(String source, Sort sort) {
+        Query query = JooqUtils.context().select().from(source).orderBy(QueryUtils.toOrders(sort));
+
+        return new OSQLSynchQuery<>(query.getSQL(ParamType.INLINED));
+    }
+}
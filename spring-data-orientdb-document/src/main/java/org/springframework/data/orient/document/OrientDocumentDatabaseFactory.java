@@ -29,10 +29,35 @@ public class OrientDocumentDatabaseFactory extends AbstractOrientDatabaseFactory
      */
     @Override
     public ODatabaseDocumentTx openDatabase() {
-        db = pool.acquire();
+        db = acquire(pool::acquire);
         return db;
     }
 
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.core.AbstractOrientDatabaseFactory#getSessionCount()
+     */
+    @Override
+    public int getSessionCount() {
+        return pool == null || pool.isClosed() ? 0 : pool.getCreatedInstances();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.core.AbstractOrientDatabaseFactory#getIdleSessionCount()
+     */
+    @Override
+    public int getIdleSessionCount() {
+        return pool == null || pool.isClosed() ? 0 : pool.getAvailableConnections();
+    }
+
+    /* (non-Javadoc)
+     * @see org.springframework.data.orient.commons.core.AbstractOrientDatabaseFactory#isAcquireTimeout(java.lang.RuntimeException)
+     */
+    @Override
+    protected boolean isAcquireTimeout(RuntimeException e) {
+        // the partitioned pool fails at once instead of waiting when the partition of the thread is full
+        return super.isAcquireTimeout(e) || (e instanceof IllegalStateException && !pool.isClosed());
+    }
+
     /* (non-Javadoc)
      * @see org.springframework.orm.orient.AbstractOrientDatabaseFactory#db()
      */
@@ -33,4 +33,10 @@ public class OrientDocumentTemplate extends AbstractOrientOperations<ORecord> im
         // TODO: is this enough?
         return detach(entity);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <RET> RET copy(RET entity) {
+        return (RET) ((ORecord) entity).copy();
+    }
 }
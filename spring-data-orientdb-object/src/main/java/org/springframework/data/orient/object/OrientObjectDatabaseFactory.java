@@ -1,9 +1,12 @@
 package org.springframework.data.orient.object;
 
+import com.orientechnologies.common.concur.resource.OResourcePool;
 import com.orientechnologies.orient.object.db.OObjectDatabasePool;
 import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
 import org.springframework.data.orient.commons.core.AbstractOrientDatabaseFactory;
 
+import java.util.function.ToIntFunction;
+
 /**
  * A specific factory for creating OrientObjectDatabase objects that handle {@link com.orientechnologies.orient.object.db.OObjectDatabaseTx}.
  *
@@ -25,10 +28,26 @@ public class OrientObjectDatabaseFactory extends AbstractOrientDatabaseFactory<O
 
     @Override
     public OObjectDatabaseTx openDatabase() {
-        db = pool.acquire();
+        db = acquire(pool::acquire);
         return db;
     }
 
+    @Override
+    public int getSessionCount() {
+        return sum(OResourcePool::getCreatedInstances);
+    }
+
+    @Override
+    public int getIdleSessionCount() {
+        return sum(OResourcePool::getInPoolResources);
+    }
+
+    @Override
+    public int getActiveSessionCount() {
+        // the available resources of the pool are the permits left, idle or not created yet
+        return sum(resources -> resources.getMaxResources() - resources.getAvailableResources());
+    }
+
     @Override
     public OObjectDatabaseTx db() {
         return (OObjectDatabaseTx) super.db();
@@ -38,4 +57,12 @@ public class OrientObjectDatabaseFactory extends AbstractOrientDatabaseFactory<O
     protected OObjectDatabaseTx newDatabase() {
         return new OObjectDatabaseTx(getUrl());
     }
+
+    private int sum(ToIntFunction<OResourcePool<String, OObjectDatabaseTx>> statistic) {
+        if (pool == null) {
+            return 0;
+        }
+
+        return pool.getPools().values().stream().mapToInt(statistic::applyAsInt).sum();
+    }
 }
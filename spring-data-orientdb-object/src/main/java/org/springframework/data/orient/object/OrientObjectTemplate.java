@@ -7,11 +7,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.data.orient.commons.core.AbstractOrientOperations;
+import org.springframework.data.orient.commons.core.OrientFlightRecorder;
+import org.springframework.data.orient.commons.core.OrientInvocation;
 import org.springframework.data.orient.commons.repository.DetachMode;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.orientechnologies.orient.core.annotation.OId;
-import com.orientechnologies.orient.core.query.OQuery;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
 
 @Transactional
@@ -98,20 +101,19 @@ public class OrientObjectTemplate extends AbstractOrientOperations<Object> imple
         return (RET)getObjectDatabase().detachAll(entity, true);
     }
 
-
     @Override
-    public <RET extends List<?>> RET query(OQuery<?> query, DetachMode detachMode, Object... args) {
-        RET result = query(query, args);
+    protected Object toEntity(OResult result) {
+        return getObjectDatabase().getUserObjectByRecord(result.toElement(), null);
+    }
 
-        switch (detachMode) {
-            case ENTITY:
-                return detach(result);
-            case ALL:
-                return detachAll(result);
-            case NONE:
-        }
+    @Override
+    protected ORecord toRecord(Object entity) {
+        return getObjectDatabase().getRecordByUserObject(entity, false);
+    }
 
-        return result;
+    @Override
+    protected Object fromRecord(ORecord record) {
+        return getObjectDatabase().getUserObjectByRecord(record, null);
     }
 
     /**
@@ -338,13 +340,20 @@ public class OrientObjectTemplate extends AbstractOrientOperations<Object> imple
     @Override
     public <RET> RET queryForObject(OSQLQuery<?> query, DetachMode detachMode, Object... args) {
         RET result = queryForObject(query, args);
-
-        switch (detachMode) {
-            case ENTITY:
-                return getObjectDatabase().detach(result, true);
-            case ALL:
-                return getObjectDatabase().detachAll(result, true);
-            case NONE:
+        long start = System.nanoTime();
+        Object event = OrientFlightRecorder.beginDetach();
+
+        try {
+            switch (detachMode) {
+                case ENTITY:
+                    return getObjectDatabase().detach(result, true);
+                case ALL:
+                    return getObjectDatabase().detachAll(result, true);
+                case NONE:
+            }
+        } finally {
+            OrientInvocation.recordDetach(detachMode, System.nanoTime() - start);
+            OrientFlightRecorder.commitDetach(event, detachMode, result);
         }
 
         return result;
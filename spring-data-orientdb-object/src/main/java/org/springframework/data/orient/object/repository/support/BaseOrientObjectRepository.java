@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.PostConstruct;
 
@@ -21,13 +22,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.orient.commons.core.BulkWriteOptions;
+import org.springframework.data.orient.commons.core.BulkWriteResult;
+import org.springframework.data.orient.commons.repository.KeysetPageable;
 import org.springframework.data.orient.commons.repository.OrientRepository;
 import org.springframework.data.orient.commons.repository.OrientSource;
+import org.springframework.data.orient.commons.repository.Window;
 import org.springframework.data.orient.commons.repository.query.QueryUtils;
 import org.springframework.data.orient.commons.repository.support.SimpleOrientStrategy;
 import org.springframework.data.orient.object.OrientObjectOperations;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
 
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.sql.query.OSQLQuery;
@@ -125,6 +132,20 @@ public class BaseOrientObjectRepository<T> implements OrientRepository<T> {
 		return result;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.springframework.data.orient.commons.repository.OrientRepository#saveAll(
+	 * java.lang.Iterable,
+	 * org.springframework.data.orient.commons.core.BulkWriteOptions)
+	 */
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public BulkWriteResult saveAll(Iterable<? extends T> entities, BulkWriteOptions options) {
+		return strategy.saveAll(entities, options);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -142,7 +163,7 @@ public class BaseOrientObjectRepository<T> implements OrientRepository<T> {
 	 * Serializable)
 	 */
 	public boolean exists(String id) {
-		return findOne(id) != null;
+		return operations.exists(new ORecordId(id));
 	}
 
 	/*
@@ -302,9 +323,7 @@ public class BaseOrientObjectRepository<T> implements OrientRepository<T> {
 	 */
 	@Transactional(readOnly = false)
 	public void deleteAll() {
-		for (T entity : findAll()) {
-			delete(entity);
-		}
+		deleteFrom(strategy.getSource());
 	}
 
 	/*
@@ -315,10 +334,9 @@ public class BaseOrientObjectRepository<T> implements OrientRepository<T> {
 	 * lang.String)
 	 */
 	@Override
-	public void deleteAll(String cluster) {
-		for (T entity : findAll(cluster)) {
-			delete(entity);
-		}
+	@Transactional(readOnly = false)
+	public long deleteAll(String cluster) {
+		return deleteFrom(QueryUtils.clusterToSource(cluster));
 	}
 
 	/*
@@ -329,10 +347,70 @@ public class BaseOrientObjectRepository<T> implements OrientRepository<T> {
 	 * lang.Class)
 	 */
 	@Override
-	public void deleteAll(Class<? extends T> domainClass) {
-		for (T entity : findAll(domainClass)) {
-			delete(entity);
+	@Transactional(readOnly = false)
+	public long deleteAll(Class<? extends T> domainClass) {
+		return deleteFrom(QueryUtils.toSource(domainClass));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.springframework.data.orient.commons.repository.OrientRepository#deleteAll(
+	 * org.springframework.data.orient.commons.repository.OrientSource)
+	 */
+	@Override
+	@Transactional(readOnly = false)
+	public long deleteAll(OrientSource source) {
+		return deleteFrom(QueryUtils.toSource(source));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.springframework.data.orient.commons.repository.OrientRepository#deleteAll(
+	 * org.springframework.data.orient.commons.repository.OrientSource, int)
+	 */
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public long deleteAll(OrientSource source, int chunkSize) {
+		Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero!");
+
+		if (operations.getTransaction().isActive()) {
+			throw new IllegalStateException("Chunked deletes must not run within a transaction!");
 		}
+
+		String command = QueryUtils.toDeleteCommand(QueryUtils.toSource(source), chunkSize);
+		long total = 0;
+		long deleted;
+
+		do {
+			operations.begin();
+
+			try {
+				deleted = operations.<Number>command(command).longValue();
+				operations.commit();
+			} catch (RuntimeException e) {
+				operations.rollback();
+				throw e;
+			}
+
+			total += deleted;
+		} while (deleted == chunkSize);
+
+		return total;
+	}
+
+	/**
+	 * Deletes all records of the given source with a single command.
+	 *
+	 * @param source
+	 *            the source
+	 * @return the number of deleted records
+	 */
+	private long deleteFrom(String source) {
+		return operations.<Number>command(QueryUtils.toDeleteCommand(source)).longValue();
 	}
 
 	/*
@@ -383,6 +461,23 @@ public class BaseOrientObjectRepository<T> implements OrientRepository<T> {
 		return new PageImpl<>(content, pageable, total);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.springframework.data.orient.commons.repository.OrientRepository#findAll(
+	 * org.springframework.data.orient.commons.repository.KeysetPageable,
+	 * org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public Window<T> findAll(KeysetPageable pageable, Sort sort) {
+		Object[] args = pageable.isInitial() ? new Object[0] : QueryUtils.getKeysetValues(sort, pageable);
+		List<T> records = operations
+				.query(new OSQLSynchQuery<T>(QueryUtils.toKeysetQuery(strategy.getSource(), sort, pageable)), args);
+
+		return QueryUtils.toWindow(records, sort, pageable, operations);
+	}
+
 	/**
 	 * Creates the query for the given {@link org.springframework.data.domain.Sort}.
 	 *
@@ -451,9 +546,16 @@ public class BaseOrientObjectRepository<T> implements OrientRepository<T> {
 		return (Optional<T>) Optional.ofNullable(operations.load(new ORecordId(id)));
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public CompletableFuture<T> findByIdAsync(String id) {
+		return (CompletableFuture<T>) operations.loadAsync(new ORecordId(id));
+	}
+
 	@Override
 	public boolean existsById(String id) {
-		return findById(id).isPresent();
+		return operations.exists(new ORecordId(id));
 	}
 
 	@Transactional(readOnly = false)
@@ -11,6 +11,8 @@ import org.springframework.data.orient.commons.repository.annotation.Source;
 import org.springframework.data.orient.commons.repository.query.OrientEntityInformation;
 import org.springframework.data.orient.commons.repository.query.OrientQueryLookupStrategy;
 import org.springframework.data.orient.commons.repository.support.OrientEntityInformationSupport;
+import org.springframework.data.orient.commons.repository.support.OrientBulkheadPostProcessor;
+import org.springframework.data.orient.commons.repository.support.OrientInvocationPostProcessor;
 import org.springframework.data.orient.commons.repository.support.OrientMetamodelEntityInformation;
 import org.springframework.data.orient.commons.repository.support.QuerydslOrientPredicateExecutor;
 import org.springframework.data.orient.commons.repository.support.SimpleOrientRepository;
@@ -41,6 +43,8 @@ public class OrientObjectRepositoryFactory extends RepositoryFactorySupport {
         super();
         this.operations = operations;
         this.mappingContext = operations.getConverter().getMappingContext();
+        addRepositoryProxyPostProcessor(new OrientInvocationPostProcessor(operations));
+        addRepositoryProxyPostProcessor(new OrientBulkheadPostProcessor(operations));
     }
 
     /*
@@ -1,29 +1,59 @@
 package org.springframework.data.orient.object;
 
 import com.orientechnologies.orient.core.entity.OEntityManager;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
 import org.slf4j.bridge.SLF4JBridgeHandler;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.orient.commons.core.OrientBatchLoader;
+import org.springframework.data.orient.commons.core.OrientBulkhead;
+import org.springframework.data.orient.commons.core.OrientExistenceFilter;
+import org.springframework.data.orient.commons.core.OrientInvocationListeners;
+import org.springframework.data.orient.commons.core.OrientLeakDetector;
+import org.springframework.data.orient.commons.core.OrientNearCache;
+import org.springframework.data.orient.commons.core.OrientQueryCache;
+import org.springframework.data.orient.commons.core.OrientRepositoryMetrics;
+import org.springframework.data.orient.commons.core.OrientSingleFlight;
+import org.springframework.data.orient.commons.core.OrientSlowQueryLog;
+import org.springframework.data.orient.commons.core.OrientStatementStatistics;
+import org.springframework.data.orient.commons.core.OrientTracing;
 import org.springframework.data.orient.commons.core.OrientTransactionManager;
+import org.springframework.data.orient.commons.core.ReactiveOrientTemplate;
 import org.springframework.data.orient.commons.repository.config.EnableOrientRepositories;
+import org.springframework.data.orient.commons.repository.config.EnableReactiveOrientRepositories;
+import org.springframework.data.orient.object.domain.Account;
 import org.springframework.data.orient.object.domain.Address;
 import org.springframework.data.orient.object.domain.Employee;
 import org.springframework.data.orient.object.domain.Person;
 import org.springframework.data.orient.object.repository.support.OrientObjectRepositoryFactoryBean;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+
 import javax.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.LogManager;
 
 @Configuration
 @EnableTransactionManagement
 @EnableOrientRepositories(basePackages = "org.springframework.data.orient.object", repositoryFactoryBeanClass = OrientObjectRepositoryFactoryBean.class)
+@EnableReactiveOrientRepositories(basePackages = "org.springframework.data.orient.object")
 public class OrientDbObjectTestConfiguration {
 
     public static final String EMPLOYEE_TMP_CLUSTER = "employee_tmp";
     public static final String EMPLOYEE_HISTORY_CLUSTER = "employee_history";
+    public static final String EMPLOYEE_PURGE_CLUSTER = "employee_purge";
 
     static {
         // Note: trick for slf4j to manage log output of OrientLogManager (which uses JUL)
@@ -39,10 +69,16 @@ public class OrientDbObjectTestConfiguration {
         factory.setUrl("memory:spring-data-orientdb-db");
         factory.setUsername("admin");
         factory.setPassword("admin");
+        factory.setLeakDetector(leakDetector());
 
         return factory;
     }
 
+    @Bean
+    public OrientLeakDetector leakDetector() {
+        return new OrientLeakDetector(10, TimeUnit.MINUTES, 1, OrientLeakDetector.Action.WARN);
+    }
+
     @Bean
     public OrientTransactionManager transactionManager() {
         return new OrientTransactionManager(factory());
@@ -51,17 +87,123 @@ public class OrientDbObjectTestConfiguration {
     @Bean
     @Qualifier("employeeClusterTemplate")
     public OrientObjectTemplate objectTemplate() {
-        return new OrientObjectTemplate(factory());
+        OrientObjectTemplate template = new OrientObjectTemplate(factory());
+        template.setQueryCache(queryCache());
+        template.setNearCache(nearCache());
+        template.addExistenceFilter(accountFilter());
+        template.setBatchLoader(batchLoader());
+        template.setSingleFlight(singleFlight());
+        template.setInvocationListener(OrientInvocationListeners.of(Arrays.asList(repositoryMetrics(), tracing())));
+        template.setSlowQueryLog(slowQueryLog());
+        template.setStatementStatistics(statementStatistics());
+        template.setTracer(tracing());
+        template.getAsyncExecutor().setTaskDecorator(tracing()::wrap);
+        template.addBulkhead(reportsBulkhead());
+        template.addBulkhead(batchBulkhead());
+
+        return template;
+    }
+
+    @Bean
+    public OrientQueryCache queryCache() {
+        return new OrientQueryCache(1000);
+    }
+
+    @Bean
+    public OrientNearCache nearCache() {
+        return new OrientNearCache(1000);
+    }
+
+    @Bean
+    public OrientExistenceFilter accountFilter() {
+        return new OrientExistenceFilter("Account", 1000, 0.01, "email");
+    }
+
+    @Bean
+    public OrientBatchLoader batchLoader() {
+        return new OrientBatchLoader(20, TimeUnit.MILLISECONDS, 50);
+    }
+
+    @Bean
+    public OrientSingleFlight singleFlight() {
+        return new OrientSingleFlight();
+    }
+
+    @Bean
+    public OrientSlowQueryLog slowQueryLog() {
+        return new OrientSlowQueryLog(10, TimeUnit.SECONDS, true);
+    }
+
+    @Bean
+    public OrientStatementStatistics statementStatistics() {
+        return new OrientStatementStatistics(1000);
+    }
+
+    @Bean
+    public OrientBulkhead reportsBulkhead() {
+        return new OrientBulkhead("reports", 1, 0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Bean
+    public OrientBulkhead batchBulkhead() {
+        return new OrientBulkhead("batch", 1, 1, 200, TimeUnit.MILLISECONDS);
+    }
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public OrientRepositoryMetrics repositoryMetrics() {
+        return new OrientRepositoryMetrics(meterRegistry(), Tags.empty());
+    }
+
+    @Bean
+    public InMemorySpanExporter spanExporter() {
+        return InMemorySpanExporter.create();
+    }
+
+    @Bean
+    public OpenTelemetry openTelemetry() {
+        return OpenTelemetrySdk.builder()
+            .setTracerProvider(SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(spanExporter())).build())
+            .build();
+    }
+
+    @Bean
+    public OrientTracing tracing() {
+        return new OrientTracing(openTelemetry());
+    }
+
+    @Bean
+    public ReactiveOrientTemplate<Object> reactiveTemplate(OrientObjectOperations operations) {
+        return new ReactiveOrientTemplate<>(operations, 4);
     }
 
     @PostConstruct
     public void registerEntities() {
-        OObjectDatabaseTx db = factory().db();
+        OObjectDatabaseTx db = factory().openDatabase();
+
+        try {
+            register(db);
+        } finally {
+            db.close();
+        }
+    }
 
+    private void register(OObjectDatabaseTx db) {
         OEntityManager em = db.getEntityManager();
         em.registerEntityClass(Person.class);
         em.registerEntityClass(Address.class);
         em.registerEntityClass(Employee.class);
+        em.registerEntityClass(Account.class);
+
+        OClass account = db.getMetadata().getSchema().getClass(Account.class);
+
+        if (!account.existsProperty("email")) {
+            account.createProperty("email", OType.STRING).createIndex(OClass.INDEX_TYPE.UNIQUE);
+        }
 
         if (!db.existsCluster(EMPLOYEE_TMP_CLUSTER)) {
             int id = db.addCluster(EMPLOYEE_TMP_CLUSTER);
@@ -71,5 +213,9 @@ public class OrientDbObjectTestConfiguration {
             int id = db.addCluster(EMPLOYEE_HISTORY_CLUSTER);
             db.getMetadata().getSchema().getClass(Employee.class).addClusterId(id);
         }
+        if (!db.existsCluster(EMPLOYEE_PURGE_CLUSTER)) {
+            int id = db.addCluster(EMPLOYEE_PURGE_CLUSTER);
+            db.getMetadata().getSchema().getClass(Employee.class).addClusterId(id);
+        }
     }
 }
@@ -0,0 +1,49 @@
+package org.springframework.data.orient.object.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.object.OrientDbObjectTestConfiguration;
+import org.springframework.data.orient.object.domain.Account;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+
+/**
+ * Base class of the tests running on accounts: every test class starts and ends without accounts.
+ */
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestExecutionListeners(
+        inheritListeners = false,
+        listeners = {DependencyInjectionTestExecutionListener.class})
+@ContextConfiguration(classes = OrientDbObjectTestConfiguration.class)
+public abstract class AbstractAccountTest extends AbstractTestNGSpringContextTests {
+
+    @Autowired
+    AccountRepository repository;
+
+    @BeforeClass
+    public void setUpAccounts() {
+        repository.deleteAll();
+    }
+
+    @AfterClass
+    public void tearDownAccounts() {
+        repository.deleteAll();
+    }
+
+    protected Account account(String email, String name) {
+        Account account = new Account();
+        account.setEmail(email);
+        account.setName(name);
+        account.setActive(true);
+
+        return account;
+    }
+
+    protected Account saveAccount(String email, String name) {
+        return repository.save(account(email, name));
+    }
+}
@@ -0,0 +1,71 @@
+package org.springframework.data.orient.object.repository;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.commons.core.OrientAsyncExecutor;
+import org.springframework.data.orient.commons.core.OrientBatchLoader;
+import org.springframework.data.orient.object.OrientObjectOperations;
+import org.springframework.data.orient.object.domain.Account;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.orientechnologies.orient.core.id.ORecordId;
+
+public class AccountBatchLoaderTest extends AbstractAccountTest {
+
+    @Autowired
+    OrientObjectOperations operations;
+
+    @Autowired
+    OrientBatchLoader loader;
+
+    String ada;
+
+    String alan;
+
+    @BeforeClass
+    public void before() {
+        ada = saveAccount("ada@example.com", "Ada").getRid();
+        alan = saveAccount("alan@example.com", "Alan").getRid();
+    }
+
+    @Test
+    public void loadInOneBatch() {
+        ORecordId rid = new ORecordId(ada);
+        String missing = new ORecordId(rid.getClusterId(), rid.getClusterPosition() + 1000).toString();
+        long batches = loader.getBatchCount();
+
+        CompletableFuture<Account> first = repository.findByIdAsync(ada);
+        CompletableFuture<Account> second = repository.findByIdAsync(alan);
+        CompletableFuture<Account> again = repository.findByIdAsync(ada);
+        CompletableFuture<Account> none = repository.findByIdAsync(missing);
+
+        assertEquals(OrientAsyncExecutor.join(first).getName(), "Ada");
+        assertEquals(OrientAsyncExecutor.join(second).getName(), "Alan");
+        assertEquals(OrientAsyncExecutor.join(again).getName(), "Ada");
+        assertNull(OrientAsyncExecutor.join(none));
+        assertEquals(loader.getBatchCount(), batches + 1);
+    }
+
+    @Test(timeOut = 5000)
+    public void dispatchFullBatch() throws Exception {
+        OrientBatchLoader full = new OrientBatchLoader(1, TimeUnit.HOURS, 2);
+
+        try {
+            CompletableFuture<Object> first = full.load(operations, new ORecordId(ada));
+            CompletableFuture<Object> second = full.load(operations, new ORecordId(alan));
+
+            assertEquals(OrientAsyncExecutor.all(Arrays.asList(first, second)).get().size(), 2);
+            assertEquals(((Account) first.get()).getName(), "Ada");
+            assertEquals(full.getBatchCount(), 1);
+        } finally {
+            full.destroy();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.springframework.data.orient.object.repository;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.commons.core.OrientBulkhead;
+import org.springframework.data.orient.commons.core.OrientBulkheadFullException;
+import org.springframework.data.orient.object.domain.Account;
+import org.springframework.data.util.CloseableIterator;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public class AccountBulkheadTest extends AbstractAccountTest {
+
+    @Autowired
+    OrientBulkhead reportsBulkhead;
+
+    @Autowired
+    OrientBulkhead batchBulkhead;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @BeforeClass
+    public void before() {
+        saveAccount("hedy@example.com", "Hedy");
+    }
+
+    @Test
+    public void rejectWhenFull() {
+        long rejected = reportsBulkhead.getRejectedCount();
+
+        reportsBulkhead.acquire();
+
+        try {
+            repository.countByActive(true);
+            fail("Expected the bulkhead to reject the invocation");
+        } catch (OrientBulkheadFullException e) {
+            assertEquals(e.getBulkhead(), "reports");
+        } finally {
+            reportsBulkhead.release(0);
+        }
+
+        assertEquals(reportsBulkhead.getRejectedCount(), rejected + 1);
+        assertEquals(reportsBulkhead.getActiveCount(), 0);
+
+        assertEquals(repository.countByActive(true), 1);
+
+        Timer queue = meterRegistry.find("orientdb.repository.queue")
+            .tags("repository", "AccountRepository", "method", "countByActive", "bulkhead", "reports").timer();
+
+        assertTrue(queue != null && queue.count() >= 1);
+        assertTrue(meterRegistry.find("orientdb.repository.invocations")
+            .tags("method", "countByActive", "exception", "OrientBulkheadFullException").timer() != null);
+    }
+
+    @Test
+    public void rejectAfterMaxWait() {
+        batchBulkhead.acquire();
+
+        long start = System.nanoTime();
+
+        try {
+            repository.findByNameLike("Hed%");
+            fail("Expected the bulkhead to reject the invocation");
+        } catch (OrientBulkheadFullException e) {
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(150));
+        } finally {
+            batchBulkhead.release(0);
+        }
+
+        assertEquals(batchBulkhead.getWaitingCount(), 0);
+    }
+
+    @Test
+    public void waitForPermit() {
+        long queueTime = batchBulkhead.getQueueTime(TimeUnit.MILLISECONDS);
+
+        batchBulkhead.acquire();
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                batchBulkhead.release(0);
+            }
+        });
+
+        assertEquals(repository.findByNameLike("Hed%").size(), 1);
+        assertTrue(batchBulkhead.getQueueTime(TimeUnit.MILLISECONDS) - queueTime >= 30);
+
+        Timer queue = meterRegistry.find("orientdb.repository.queue")
+            .tags("method", "findByNameLike", "bulkhead", "batch").timer();
+
+        assertTrue(queue != null && queue.max(TimeUnit.MILLISECONDS) >= 30);
+    }
+
+    @Test
+    public void holdPermitUntilStreamClosed() {
+        try (Stream<Account> accounts = repository.streamByActive(true)) {
+            assertEquals(reportsBulkhead.getActiveCount(), 1);
+            assertEquals(accounts.count(), 1);
+        }
+
+        assertEquals(reportsBulkhead.getActiveCount(), 0);
+    }
+
+    @Test
+    public void holdPermitUntilIteratorClosed() {
+        try (CloseableIterator<Account> accounts = repository.iterateByActive(true)) {
+            assertEquals(reportsBulkhead.getActiveCount(), 1);
+            assertTrue(accounts.hasNext());
+            assertEquals(accounts.next().getName(), "Hedy");
+        }
+
+        assertEquals(reportsBulkhead.getActiveCount(), 0);
+    }
+}
@@ -0,0 +1,111 @@
+package org.springframework.data.orient.object.repository;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.commons.core.BulkWriteOptions;
+import org.springframework.data.orient.commons.core.OrientExistenceFilter;
+import org.springframework.data.orient.object.domain.Account;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.orientechnologies.orient.core.id.ORecordId;
+
+public class AccountExistenceFilterTest extends AbstractAccountTest {
+
+    @Autowired
+    OrientExistenceFilter filter;
+
+    Account grace;
+
+    @BeforeClass
+    public void before() {
+        grace = saveAccount("grace@example.com", "Grace");
+    }
+
+    @Test
+    public void existsById() {
+        ORecordId rid = new ORecordId(grace.getRid());
+        ORecordId missing = new ORecordId(rid.getClusterId(), rid.getClusterPosition() + 1000);
+
+        assertTrue(repository.existsById(grace.getRid()));
+
+        long negatives = filter.getNegativeCount();
+
+        assertFalse(repository.existsById(missing.toString()));
+        assertEquals(filter.getNegativeCount(), negatives + 1);
+    }
+
+    @Test
+    public void existsByKey() {
+        assertTrue(repository.existsByEmail("grace@example.com"));
+
+        long negatives = filter.getNegativeCount();
+
+        assertFalse(repository.existsByEmail("nobody@example.com"));
+        assertEquals(filter.getNegativeCount(), negatives + 1);
+    }
+
+    @Test
+    public void existsAfterCreate() {
+        assertTrue(repository.existsByEmail("grace@example.com"));
+
+        Account linus = saveAccount("linus@example.com", "Linus");
+
+        try {
+            assertTrue(repository.existsById(linus.getRid()));
+            assertTrue(repository.existsByEmail("linus@example.com"));
+        } finally {
+            repository.delete(linus);
+        }
+
+        assertFalse(repository.existsById(linus.getRid()));
+        assertFalse(repository.existsByEmail("linus@example.com"));
+    }
+
+    @Test
+    public void existsDuringBulkWrite() {
+        assertTrue(repository.existsByEmail("grace@example.com"));
+
+        boolean[] existed = new boolean[1];
+        Iterator<Account> accounts = Arrays.asList(account("ada@example.com", "Ada"), account("alan@example.com", "Alan")).iterator();
+
+        // the first chunk is written once the second account is taken
+        Iterable<Account> input = () -> new Iterator<Account>() {
+
+            @Override
+            public boolean hasNext() {
+                return accounts.hasNext();
+            }
+
+            @Override
+            public Account next() {
+                Account account = accounts.next();
+
+                if (account.getName().equals("Alan")) {
+                    existed[0] = repository.existsByEmail("ada@example.com");
+                }
+
+                return account;
+            }
+        };
+
+        try {
+            assertEquals(repository.saveAll(input, BulkWriteOptions.defaults().withChunkSize(1)).getWritten(), 2);
+
+            assertTrue(existed[0]);
+            assertFalse(filter.isBulkWriting());
+            assertTrue(repository.existsByEmail("ada@example.com"));
+            assertTrue(repository.existsByEmail("alan@example.com"));
+            assertTrue(filter.isPopulated());
+        } finally {
+            repository.delete(repository.findByEmail("ada@example.com"));
+            repository.delete(repository.findByEmail("alan@example.com"));
+        }
+    }
+}
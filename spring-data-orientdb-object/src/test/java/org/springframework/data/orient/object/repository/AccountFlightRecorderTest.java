@@ -0,0 +1,108 @@
+package org.springframework.data.orient.object.repository;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.commons.core.OrientFlightRecorder;
+import org.springframework.data.orient.object.domain.Account;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class AccountFlightRecorderTest extends AbstractAccountTest {
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @BeforeClass
+    public void before() {
+        saveAccount("katherine@example.com", "Katherine");
+    }
+
+    @Test
+    public void recordEvents() throws IOException {
+        List<RecordedEvent> events;
+
+        try (Recording recording = new Recording()) {
+            recording.enable("org.springframework.data.orient.Acquire").withThreshold(Duration.ZERO);
+            recording.enable("org.springframework.data.orient.Statement").withThreshold(Duration.ZERO);
+            recording.enable("org.springframework.data.orient.Transaction").withThreshold(Duration.ZERO);
+            recording.enable("org.springframework.data.orient.Detach").withThreshold(Duration.ZERO);
+            recording.start();
+
+            new TransactionTemplate(transactionManager).execute(status -> repository.findByActive(true));
+
+            recording.stop();
+            events = read(recording);
+        }
+
+        RecordedEvent statement = getEvent(events, "org.springframework.data.orient.Statement");
+        assertEquals(statement.getString("fingerprint"), "Select * From Account Where active = ?");
+        assertEquals(statement.getInt("rows"), 1);
+        assertEquals(statement.getString("caller"), "AccountRepository.findByActive");
+        assertFalse(statement.getBoolean("failed"));
+
+        RecordedEvent detach = getEvent(events, "org.springframework.data.orient.Detach");
+        assertEquals(detach.getString("mode"), "ALL");
+        assertEquals(detach.getInt("entities"), 1);
+
+        assertEquals(getEvent(events, "org.springframework.data.orient.Transaction").getString("operation"), "commit");
+        RecordedEvent acquire = getEvent(events, "org.springframework.data.orient.Acquire");
+        assertFalse(acquire.getBoolean("failed"));
+        assertFalse(acquire.getBoolean("timedOut"));
+    }
+
+    @Test
+    public void disabledByDefault() throws IOException {
+        List<RecordedEvent> events;
+
+        try (Recording recording = new Recording()) {
+            recording.start();
+            repository.findByActive(true);
+
+            assertNull(OrientFlightRecorder.beginStatement());
+
+            recording.stop();
+            events = read(recording);
+        }
+
+        assertTrue(events.stream().noneMatch(event -> event.getEventType().getName().startsWith("org.springframework.data.orient")));
+    }
+
+    private static List<RecordedEvent> read(Recording recording) throws IOException {
+        Path file = Files.createTempFile("orient", ".jfr");
+
+        try {
+            recording.dump(file);
+
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static RecordedEvent getEvent(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .collect(Collectors.toList());
+
+        assertFalse(matching.isEmpty(), name);
+
+        return matching.get(0);
+    }
+}
@@ -0,0 +1,171 @@
+package org.springframework.data.orient.object.repository;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.commons.core.OrientLeakDetector;
+import org.springframework.data.orient.commons.core.OrientLeakDetector.HeldSession;
+import org.springframework.data.orient.object.OrientDbObjectTestConfiguration;
+import org.springframework.data.orient.object.OrientObjectDatabaseFactory;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.testng.annotations.Test;
+
+import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestExecutionListeners(
+        inheritListeners = false,
+        listeners = {DependencyInjectionTestExecutionListener.class})
+@ContextConfiguration(classes = OrientDbObjectTestConfiguration.class)
+public class AccountLeakDetectorTest extends AbstractTestNGSpringContextTests {
+
+    @Autowired
+    OrientObjectDatabaseFactory factory;
+
+    @Autowired
+    OrientLeakDetector leakDetector;
+
+    @Test
+    public void trackHeldSession() throws Exception {
+        onNewThread(() -> {
+            OObjectDatabaseTx db = factory.openDatabase();
+
+            try {
+                HeldSession held = getHeldSession(db).get();
+
+                assertEquals(held.getThread(), Thread.currentThread().getName());
+                assertEquals(held.getDepth(), 1);
+                assertTrue(held.getSite().stream().anyMatch(frame -> frame.contains("trackHeldSession")), held.getSite().toString());
+
+                // the pool hands the held session to a nested acquisition, tracked with the outermost one
+                OObjectDatabaseTx nested = factory.openDatabase();
+
+                try {
+                    assertSame(nested, db);
+                    assertEquals(getHeldSession(db).get().getDepth(), 2);
+                    assertEquals(getHeldSession(db).get().getAge(), held.getAge(), 1000);
+                } finally {
+                    nested.close();
+                }
+
+                assertTrue(getHeldSession(db).isPresent());
+            } finally {
+                db.close();
+            }
+
+            assertFalse(getHeldSession(db).isPresent());
+        });
+    }
+
+    @Test
+    public void warnLeakedSession() throws Exception {
+        onNewThread(() -> {
+            Logger logger = (Logger) LoggerFactory.getLogger(OrientLeakDetector.class);
+            ListAppender<ILoggingEvent> appender = new ListAppender<>();
+            OObjectDatabaseTx db = factory.openDatabase();
+            long leaks = leakDetector.getLeakCount();
+
+            appender.start();
+            logger.addAppender(appender);
+            leakDetector.setThreshold(0, TimeUnit.MILLISECONDS);
+
+            try {
+                assertTrue(leakDetector.check() >= 1);
+                assertTrue(leakDetector.getLeakCount() > leaks);
+                assertFalse(db.isClosed());
+                assertTrue(appender.list.stream().anyMatch(event -> event.getFormattedMessage().startsWith("Session " + OrientLeakDetector.getSessionId(db))
+                        && event.getThrowableProxy() != null));
+
+                // a leak is reported once
+                leaks = leakDetector.getLeakCount();
+                leakDetector.check();
+                assertEquals(leakDetector.getLeakCount(), leaks);
+            } finally {
+                leakDetector.setThreshold(10, TimeUnit.MINUTES);
+                logger.detachAppender(appender);
+                db.close();
+            }
+        });
+    }
+
+    @Test
+    public void closeLeakedSession() throws Exception {
+        OrientLeakDetector closing = new OrientLeakDetector(0, TimeUnit.MILLISECONDS, 1, OrientLeakDetector.Action.CLOSE);
+        factory.setLeakDetector(closing);
+
+        try {
+            onNewThread(() -> {
+                int active = factory.getActiveSessionCount();
+
+                factory.openDatabase();
+                factory.openDatabase();
+
+                assertEquals(closing.check(), 1);
+
+                // only the thread holding the session can return it to the pool, on its next acquisition
+                assertEquals(closing.getClosedCount(), 0);
+
+                OObjectDatabaseTx db = factory.db();
+
+                try {
+                    assertEquals(closing.getClosedCount(), 1);
+                    assertEquals(closing.getHeldSessions().size(), 1);
+                    assertEquals(closing.getHeldSessions().get(0).getDepth(), 1);
+                } finally {
+                    db.close();
+                }
+
+                assertTrue(closing.getHeldSessions().isEmpty());
+                assertEquals(factory.getActiveSessionCount(), active);
+            });
+        } finally {
+            factory.setLeakDetector(leakDetector);
+            closing.destroy();
+        }
+    }
+
+    /**
+     * Runs the given test on a new thread, so no session left bound to the test thread by other tests is handed to it.
+     *
+     * @param test the test
+     * @throws Exception if the test failed
+     */
+    private void onNewThread(Runnable test) throws Exception {
+        FutureTask<Void> task = new FutureTask<>(test, null);
+
+        new Thread(task).start();
+
+        try {
+            task.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+
+            throw e;
+        }
+    }
+
+    private Optional<HeldSession> getHeldSession(OObjectDatabaseTx db) {
+        String sessionId = OrientLeakDetector.getSessionId(db);
+
+        return leakDetector.getHeldSessions().stream().filter(held -> held.getSessionId().equals(sessionId)).findFirst();
+    }
+}
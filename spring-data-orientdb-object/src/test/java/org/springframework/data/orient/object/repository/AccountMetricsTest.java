@@ -0,0 +1,119 @@
+package org.springframework.data.orient.object.repository;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.commons.core.OrientMetrics;
+import org.springframework.data.orient.commons.core.OrientTransactionManager;
+import org.springframework.data.orient.object.OrientObjectDatabaseFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+public class AccountMetricsTest extends AbstractAccountTest {
+
+    @Autowired
+    OrientObjectDatabaseFactory factory;
+
+    @Autowired
+    OrientTransactionManager transactionManager;
+
+    @Autowired
+    MeterRegistry registry;
+
+    @BeforeClass
+    public void before() {
+        new OrientMetrics(factory, transactionManager, Tags.of("application", "test")).bindTo(registry);
+    }
+
+    @Test
+    public void sessions() {
+        double acquired = registry.get("orientdb.sessions.acquire").functionTimer().count();
+
+        new TransactionTemplate(transactionManager).execute(status -> repository.count());
+
+        assertTrue(registry.get("orientdb.sessions.acquire").functionTimer().count() > acquired);
+        assertEquals(registry.get("orientdb.sessions.max").tag("database", factory.getUrl()).gauge().value(), (double) factory.getMaxPoolSize());
+        assertTrue(registry.get("orientdb.sessions").gauge().value() >= registry.get("orientdb.sessions.idle").gauge().value());
+        assertEquals(registry.get("orientdb.sessions.timeouts").tag("application", "test").functionCounter().count(), 0.0);
+    }
+
+    @Test
+    public void transactions() {
+        FunctionTimer begins = registry.get("orientdb.transactions").tag("operation", "begin").functionTimer();
+        FunctionTimer commits = registry.get("orientdb.transactions").tag("operation", "commit").functionTimer();
+        FunctionTimer rollbacks = registry.get("orientdb.transactions").tag("operation", "rollback").functionTimer();
+
+        double begun = begins.count();
+        double committed = commits.count();
+        double rolledBack = rollbacks.count();
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+
+        template.execute(status -> repository.save(account("ada@example.com", "Ada")));
+        template.execute(status -> {
+            repository.save(account("alan@example.com", "Alan"));
+            status.setRollbackOnly();
+
+            return null;
+        });
+
+        assertEquals(begins.count(), begun + 2);
+        assertEquals(commits.count(), committed + 1);
+        assertEquals(rollbacks.count(), rolledBack + 1);
+        assertTrue(repository.existsByEmail("ada@example.com"));
+        assertFalse(repository.existsByEmail("alan@example.com"));
+    }
+
+    @Test
+    public void invocations() {
+        repository.deleteAll();
+
+        long saved = count("orientdb.repository.invocations", "method", "save", "execution", "save");
+        long found = count("orientdb.repository.invocations", "method", "findByActive", "execution", "collection", "outcome", "success");
+        double results = total("orientdb.repository.results", "method", "findByActive");
+        long detached = count("orientdb.repository.detach", "method", "findByActive");
+
+        repository.save(account("grace@example.com", "Grace"));
+        repository.save(account("linus@example.com", "Linus"));
+
+        assertEquals(repository.findByActive(true).size(), 2);
+        assertEquals(repository.findByActive(false).size(), 0);
+
+        assertEquals(count("orientdb.repository.invocations", "method", "findByActive", "execution", "collection", "outcome", "success"), found + 2);
+        assertEquals(total("orientdb.repository.results", "method", "findByActive"), results + 2.0);
+        assertEquals(count("orientdb.repository.detach", "method", "findByActive"), detached + 2);
+        assertEquals(count("orientdb.repository.invocations", "method", "save", "execution", "save"), saved + 2);
+    }
+
+    @Test
+    public void failedInvocations() {
+        long failed = registry.find("orientdb.repository.invocations").tags("method", "findById", "outcome", "error").timers().stream()
+                .mapToLong(Timer::count).sum();
+
+        try {
+            repository.findById("not a record id");
+        } catch (RuntimeException e) {
+            // recorded as an error
+        }
+
+        assertEquals(registry.get("orientdb.repository.invocations").tags("method", "findById", "outcome", "error").timer().count(), failed + 1);
+    }
+
+    private long count(String name, String... tags) {
+        return registry.find(name).tag("repository", "AccountRepository").tags(tags).timers().stream().mapToLong(Timer::count).sum();
+    }
+
+    private double total(String name, String... tags) {
+        return registry.find(name).tag("repository", "AccountRepository").tags(tags).summaries().stream()
+                .mapToDouble(DistributionSummary::totalAmount).sum();
+    }
+}
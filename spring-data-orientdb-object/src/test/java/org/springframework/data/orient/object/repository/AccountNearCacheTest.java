@@ -0,0 +1,88 @@
+package org.springframework.data.orient.object.repository;
+
+import static org.testng.Assert.assertEquals;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.commons.core.OrientNearCache;
+import org.springframework.data.orient.commons.repository.annotation.NearCache;
+import org.springframework.data.orient.object.OrientObjectOperations;
+import org.springframework.data.orient.object.domain.Account;
+import org.springframework.data.orient.object.repository.support.OrientObjectRepositoryFactory;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class AccountNearCacheTest extends AbstractAccountTest {
+
+    @Autowired
+    OrientNearCache cache;
+
+    @Autowired
+    OrientObjectOperations operations;
+
+    @BeforeClass
+    public void before() {
+        saveAccount("ada@example.com", "Ada");
+        saveAccount("alan@example.com", "Alan");
+    }
+
+    @Test
+    public void findFromNearCache() {
+        cache.clear();
+        long hits = cache.getHitCount();
+
+        assertEquals(repository.findByEmailAndActive("ada@example.com", true).getName(), "Ada");
+        assertEquals(repository.findByEmailAndActive("ada@example.com", true).getName(), "Ada");
+
+        assertEquals(cache.getHitCount(), hits + 1);
+        assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void invalidateOnKeyChange() {
+        Account account = repository.findByEmail("alan@example.com");
+        long invalidations = cache.getInvalidationCount();
+
+        account.setEmail("turing@example.com");
+        repository.save(account);
+
+        try {
+            assertEquals(cache.getInvalidationCount(), invalidations + 1);
+            assertEquals(repository.findByEmail("turing@example.com").getName(), "Alan");
+        } finally {
+            account = repository.findByEmail("turing@example.com");
+            account.setEmail("alan@example.com");
+            repository.save(account);
+        }
+
+        assertEquals(repository.findByEmail("alan@example.com").getName(), "Alan");
+    }
+
+    @Test
+    public void keepOnOtherChange() {
+        Account account = repository.findByEmail("ada@example.com");
+        long invalidations = cache.getInvalidationCount();
+
+        account.setName("Augusta");
+        repository.save(account);
+
+        try {
+            assertEquals(cache.getInvalidationCount(), invalidations);
+            assertEquals(repository.findByEmail("ada@example.com").getName(), "Augusta");
+        } finally {
+            account = repository.findByEmail("ada@example.com");
+            account.setName("Ada");
+            repository.save(account);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void rejectKeyWithoutUniqueIndex() {
+        new OrientObjectRepositoryFactory(operations).getRepository(AccountByNameRepository.class);
+    }
+
+    public interface AccountByNameRepository extends OrientObjectRepository<Account> {
+
+        @NearCache
+        Account findByName(String name);
+    }
+}
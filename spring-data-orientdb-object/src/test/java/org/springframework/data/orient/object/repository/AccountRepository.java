@@ -0,0 +1,39 @@
+package org.springframework.data.orient.object.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.data.orient.commons.repository.annotation.Bulkhead;
+import org.springframework.data.orient.commons.repository.annotation.Detach;
+import org.springframework.data.orient.commons.repository.annotation.NearCache;
+import org.springframework.data.orient.commons.repository.annotation.Query;
+import org.springframework.data.orient.object.domain.Account;
+import org.springframework.data.util.CloseableIterator;
+
+public interface AccountRepository extends OrientObjectRepository<Account> {
+
+    @NearCache
+    Account findByEmail(String email);
+
+    @NearCache
+    Account findByEmailAndActive(String email, Boolean active);
+
+    boolean existsByEmail(String email);
+
+    @Detach(DetachMode.ALL)
+    List<Account> findByActive(Boolean active);
+
+    @Bulkhead("reports")
+    long countByActive(Boolean active);
+
+    @Bulkhead("batch")
+    List<Account> findByNameLike(String name);
+
+    @Bulkhead("reports")
+    Stream<Account> streamByActive(Boolean active);
+
+    @Bulkhead("reports")
+    @Query("select from Account where active = ?")
+    CloseableIterator<Account> iterateByActive(Boolean active);
+}
@@ -0,0 +1,66 @@
+package org.springframework.data.orient.object.repository;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.commons.core.OrientSlowQueryLog;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+public class AccountSlowQueryLogTest extends AbstractAccountTest {
+
+    @Autowired
+    OrientSlowQueryLog slowQueryLog;
+
+    Logger logger = (Logger) LoggerFactory.getLogger(OrientSlowQueryLog.class);
+
+    ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeClass
+    public void before() {
+        saveAccount("grace@example.com", "Grace");
+
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterClass
+    public void after() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    public void logSlowQuery() {
+        long slow = slowQueryLog.getSlowCount();
+
+        repository.findByActive(true);
+        assertEquals(slowQueryLog.getSlowCount(), slow);
+
+        slowQueryLog.setThreshold(0, TimeUnit.MILLISECONDS);
+
+        try {
+            appender.list.clear();
+            repository.findByActive(true);
+        } finally {
+            slowQueryLog.setThreshold(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(slowQueryLog.getSlowCount(), slow + 1);
+        assertEquals(appender.list.size(), 1);
+
+        String message = appender.list.get(0).getFormattedMessage();
+
+        assertTrue(message.contains("1 rows, caller AccountRepository.findByActive, access full scan"), message);
+        assertTrue(message.contains("with parameters [Boolean]"), message);
+        assertTrue(message.contains("FETCH FROM CLASS"), message);
+    }
+}
@@ -0,0 +1,108 @@
+package org.springframework.data.orient.object.repository;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.commons.core.OrientStatementStatistics;
+import org.springframework.data.orient.commons.core.OrientStatementStatistics.Statement;
+import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.data.orient.object.OrientObjectOperations;
+import org.springframework.data.orient.object.domain.Account;
+import org.springframework.data.util.CloseableIterator;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+
+public class AccountStatementStatisticsTest extends AbstractAccountTest {
+
+    @Autowired
+    OrientObjectOperations operations;
+
+    @Autowired
+    OrientStatementStatistics statistics;
+
+    @BeforeClass
+    public void before() {
+        saveAccount("ada@example.com", "Ada");
+    }
+
+    @Test
+    public void fingerprint() {
+        assertEquals(OrientStatementStatistics.fingerprint("select from Account where email = 'ada@example.com' and  age > 42.5 limit 10"),
+                "select from Account where email = ? and age > ? limit ?");
+        assertEquals(OrientStatementStatistics.fingerprint("select from Account where name in ['Ada', \"Grace\"] or id IN (1, 2, 3)"),
+                "select from Account where name in [?] or id IN (?)");
+        assertEquals(OrientStatementStatistics.fingerprint("select from cluster:account_2 where @rid = #12:3"),
+                "select from cluster:account_2 where @rid = #12:3");
+    }
+
+    @Test
+    public void recordStatements() {
+        statistics.reset();
+
+        repository.findByActive(true);
+        repository.findByActive(false);
+        operations.command("update Account set name = 'Ada Lovelace' where email = 'ada@example.com'");
+
+        Statement query = getStatement("Select * From Account Where active = ?");
+
+        assertEquals(query.getCalls(), 2);
+        assertEquals(query.getRows(), 1);
+        assertEquals(query.getErrors(), 0);
+        assertTrue(query.getTotalTime() > 0);
+        assertTrue(query.getP99() >= query.getP95());
+        assertTrue(query.getMaxTime() >= query.getP99());
+
+        assertEquals(getStatement("update Account set name = ? where email = ?").getRows(), 1);
+        assertEquals(statistics.getTopStatements(1).size(), 1);
+    }
+
+    @Test
+    public void recordStreamedStatements() {
+        statistics.reset();
+
+        try (CloseableIterator<Account> iterator = operations.stream(new OSQLSynchQuery<Account>("select from Account where active = ?"), DetachMode.ENTITY, true)) {
+            assertTrue(iterator.hasNext());
+            iterator.next();
+        }
+
+        Statement query = getStatement("select from Account where active = ?");
+
+        assertEquals(query.getCalls(), 1);
+        assertEquals(query.getRows(), 1);
+        assertEquals(query.getErrors(), 0);
+    }
+
+    @Test
+    public void recordErrors() {
+        statistics.reset();
+
+        try {
+            operations.command("update Missing set name = 'Ada'");
+            fail("Expected a missing class to fail");
+        } catch (RuntimeException e) {
+            Statement statement = getStatement("update Missing set name = ?");
+
+            assertEquals(statement.getCalls(), 1);
+            assertEquals(statement.getErrors(), 1);
+        }
+
+        statistics.reset();
+        assertEquals(statistics.size(), 0);
+    }
+
+    private Statement getStatement(String fingerprint) {
+        Optional<Statement> statement = statistics.getStatements().stream()
+            .filter(candidate -> candidate.getFingerprint().equals(fingerprint))
+            .findFirst();
+
+        assertTrue(statement.isPresent(), fingerprint + " in " + statistics.getStatements());
+
+        return statement.get();
+    }
+}
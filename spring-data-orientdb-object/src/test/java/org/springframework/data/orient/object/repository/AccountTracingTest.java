@@ -0,0 +1,109 @@
+package org.springframework.data.orient.object.repository;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.commons.core.OrientAsyncExecutor;
+import org.springframework.data.orient.object.OrientObjectOperations;
+import org.springframework.data.orient.object.domain.Account;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+public class AccountTracingTest extends AbstractAccountTest {
+
+    @Autowired
+    PersonRepository personRepository;
+
+    @Autowired
+    OrientObjectOperations operations;
+
+    @Autowired
+    InMemorySpanExporter exporter;
+
+    @BeforeClass
+    public void before() {
+        saveAccount("barbara@example.com", "Barbara");
+    }
+
+    @Test
+    public void traceRepositoryMethod() {
+        exporter.reset();
+
+        repository.findByActive(true);
+
+        SpanData method = getSpan("AccountRepository.findByActive");
+        SpanData query = getSpan("query spring-data-orientdb-db");
+
+        assertEquals(method.getKind(), SpanKind.INTERNAL);
+        assertEquals(method.getAttributes().get(AttributeKey.stringKey("orientdb.execution")), "collection");
+        assertEquals(method.getAttributes().get(AttributeKey.stringKey("orientdb.detach_mode")), "ALL");
+        assertEquals(method.getAttributes().get(AttributeKey.longKey("orientdb.rows")), Long.valueOf(1));
+
+        assertEquals(query.getKind(), SpanKind.CLIENT);
+        assertEquals(query.getParentSpanId(), method.getSpanId());
+        assertEquals(query.getAttributes().get(AttributeKey.stringKey("db.system")), "orientdb");
+        assertEquals(query.getAttributes().get(AttributeKey.stringKey("db.name")), "spring-data-orientdb-db");
+        assertEquals(query.getAttributes().get(AttributeKey.stringKey("db.statement")), "Select * From Account Where active = ?");
+        assertEquals(query.getAttributes().get(AttributeKey.longKey("orientdb.rows")), Long.valueOf(1));
+    }
+
+    @Test
+    public void traceAsyncRepositoryMethod() throws InterruptedException {
+        exporter.reset();
+
+        OrientAsyncExecutor.join(personRepository.readByLastName("Nobody"));
+
+        SpanData query = getSpan("query spring-data-orientdb-db");
+        SpanData method = awaitSpan("PersonRepository.readByLastName");
+
+        assertEquals(query.getTraceId(), method.getTraceId());
+        assertEquals(query.getParentSpanId(), method.getSpanId());
+    }
+
+    @Test
+    public void traceFailedCommand() {
+        exporter.reset();
+
+        try {
+            operations.command("update Missing set name = 'Barbara'");
+            fail("Expected a missing class to fail");
+        } catch (RuntimeException e) {
+            SpanData command = getSpan("command spring-data-orientdb-db");
+
+            assertEquals(command.getStatus().getStatusCode(), StatusCode.ERROR);
+            assertEquals(command.getAttributes().get(AttributeKey.stringKey("db.statement")), "update Missing set name = ?");
+            assertEquals(command.getEvents().get(0).getName(), "exception");
+        }
+    }
+
+    private SpanData getSpan(String name) {
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        Optional<SpanData> span = spans.stream().filter(candidate -> candidate.getName().equals(name)).findFirst();
+
+        assertTrue(span.isPresent(), name + " in " + spans);
+
+        return span.get();
+    }
+
+    /**
+     * Waits for the span of an asynchronous method, ended once its future completed.
+     */
+    private SpanData awaitSpan(String name) throws InterruptedException {
+        for (int i = 0; i < 100 && exporter.getFinishedSpanItems().stream().noneMatch(span -> span.getName().equals(name)); i++) {
+            Thread.sleep(10);
+        }
+
+        return getSpan(name);
+    }
+}
@@ -0,0 +1,8 @@
+package org.springframework.data.orient.object.repository;
+
+public interface PersonName {
+
+    String getFirstName();
+
+    String getLastName();
+}
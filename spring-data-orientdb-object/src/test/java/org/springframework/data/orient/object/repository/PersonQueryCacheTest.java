@@ -0,0 +1,200 @@
+package org.springframework.data.orient.object.repository;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.commons.core.BulkWriteOptions;
+import org.springframework.data.orient.commons.core.OrientQueryCache;
+import org.springframework.data.orient.object.OrientDbObjectTestConfiguration;
+import org.springframework.data.orient.object.OrientObjectOperations;
+import org.springframework.data.orient.object.domain.Address;
+import org.springframework.data.orient.object.domain.Person;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestExecutionListeners(
+        inheritListeners = false,
+        listeners = {DependencyInjectionTestExecutionListener.class})
+@ContextConfiguration(classes = OrientDbObjectTestConfiguration.class)
+public class PersonQueryCacheTest extends AbstractTestNGSpringContextTests {
+
+    @Autowired
+    PersonRepository repository;
+
+    @Autowired
+    OrientQueryCache cache;
+
+    @Autowired
+    OrientObjectOperations operations;
+
+    @BeforeClass
+    public void before() {
+        Address address = new Address();
+        address.setCountry("Netherlands");
+        address.setCity("Nuenen");
+
+        Person edsger = person("Edsger", "QueryCached");
+        edsger.setAddress(address);
+
+        repository.save(edsger);
+        repository.save(person("Barbara", "QueryCached"));
+    }
+
+    @AfterClass
+    public void after() {
+        repository.deleteAll(repository.findByLastName("QueryCached"));
+    }
+
+    @Test
+    public void cacheResults() {
+        cache.clear();
+        long hits = cache.getHitCount();
+
+        List<Person> persons = repository.getByLastName("QueryCached");
+        List<Person> cached = repository.getByLastName("QueryCached");
+
+        assertEquals(cached.size(), persons.size());
+        assertEquals(cached.get(0).getRid(), persons.get(0).getRid());
+        assertNotSame(cached.get(0), persons.get(0));
+        assertEquals(persons.get(0).getLastName(), "QueryCached");
+        assertEquals(cache.getHitCount(), hits + 1);
+    }
+
+    @Test
+    public void copyCachedResults() {
+        cache.clear();
+
+        Person person = repository.getByFirstName("Edsger");
+        person.setLastName("Changed");
+        person.getAddress().setCity("Changed");
+
+        Person cached = repository.getByFirstName("Edsger");
+
+        assertEquals(cached.getLastName(), "QueryCached");
+        assertEquals(cached.getAddress().getCity(), "Nuenen");
+    }
+
+    @Test
+    public void copyFinalFields() {
+        Team team = new Team();
+        team.members.add(person("Edsger", "QueryCached"));
+        team.members.add(team.members.get(0));
+        team.roles.put("lead", team.members.get(0));
+
+        Team copy = operations.copy(team);
+
+        assertEquals(copy.members.size(), 2);
+        assertNotSame(copy.members.get(0), team.members.get(0));
+        assertEquals(copy.members.get(0).getFirstName(), "Edsger");
+        assertSame(copy.members.get(1), copy.members.get(0));
+        assertSame(copy.roles.get("lead"), copy.members.get(0));
+    }
+
+    @Test
+    public void rejectFinalFieldsNotCopyable() {
+        Roster roster = new Roster(new ArrayList<>(Collections.singletonList(person("Edsger", "QueryCached"))));
+
+        try {
+            operations.copy(roster);
+            fail("Expected the copy to be refused");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("members"));
+        }
+    }
+
+    @Test
+    public void cacheCounts() {
+        cache.clear();
+        long hits = cache.getHitCount();
+
+        assertEquals(repository.countByFirstNameAndLastName("Edsger", "QueryCached"), 1L);
+        assertEquals(repository.countByFirstNameAndLastName("Edsger", "QueryCached"), 1L);
+        assertEquals(cache.getHitCount(), hits + 1);
+    }
+
+    @Test
+    public void invalidateOnSave() {
+        int size = repository.getByLastName("QueryCached").size();
+
+        Person person = repository.save(person("Niklaus", "QueryCached"));
+
+        try {
+            assertEquals(repository.getByLastName("QueryCached").size(), size + 1);
+        } finally {
+            repository.delete(person);
+        }
+
+        assertEquals(repository.getByLastName("QueryCached").size(), size);
+    }
+
+    @Test
+    public void invalidateOnBulkSave() {
+        int size = repository.getByLastName("QueryCached").size();
+
+        repository.saveAll(Collections.singletonList(person("Tony", "QueryCached")), BulkWriteOptions.defaults());
+
+        try {
+            assertEquals(repository.getByLastName("QueryCached").size(), size + 1);
+        } finally {
+            repository.deleteAll(repository.findByFirstName("Tony"));
+        }
+    }
+
+    @Test
+    public void expireAfterTtl() throws InterruptedException {
+        long expirations = cache.getExpirationCount();
+
+        assertEquals(repository.getByFirstName("Barbara").getLastName(), "QueryCached");
+
+        Thread.sleep(100);
+
+        assertEquals(repository.getByFirstName("Barbara").getLastName(), "QueryCached");
+        assertEquals(cache.getExpirationCount(), expirations + 1);
+    }
+
+    private Person person(String firstName, String lastName) {
+        Person person = new Person();
+        person.setFirstName(firstName);
+        person.setLastName(lastName);
+        person.setActive(true);
+
+        return person;
+    }
+
+    static class Team {
+
+        private final List<Person> members = new ArrayList<>();
+
+        private final Map<String, Person> roles = new HashMap<>();
+    }
+
+    static class Roster {
+
+        private final List<Person> members;
+
+        Roster() {
+            this(null);
+        }
+
+        Roster(List<Person> members) {
+            this.members = members;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.springframework.data.orient.object.repository;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.commons.core.OrientAsyncExecutor;
+import org.springframework.data.orient.commons.core.OrientRecordCache;
+import org.springframework.data.orient.object.OrientDbObjectTestConfiguration;
+import org.springframework.data.orient.object.OrientObjectDatabaseFactory;
+import org.springframework.data.orient.object.OrientObjectOperations;
+import org.springframework.data.orient.object.OrientObjectTemplate;
+import org.springframework.data.orient.object.domain.Person;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.orientechnologies.orient.core.id.ORecordId;
+
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestExecutionListeners(
+        inheritListeners = false,
+        listeners = {DependencyInjectionTestExecutionListener.class})
+@ContextConfiguration(classes = OrientDbObjectTestConfiguration.class)
+public class PersonRecordCacheTest extends AbstractTestNGSpringContextTests {
+
+    @Autowired
+    OrientObjectDatabaseFactory factory;
+
+    @Autowired
+    OrientObjectOperations operations;
+
+    OrientObjectTemplate template;
+
+    OrientRecordCache cache;
+
+    ORecordId rid;
+
+    ORecordId otherRid;
+
+    @BeforeClass
+    public void before() {
+        cache = new OrientRecordCache(1 << 20);
+        template = new OrientObjectTemplate(factory);
+        template.setRecordCache(cache);
+
+        Person person = new Person();
+        person.setFirstName("Ada");
+        person.setLastName("Cached");
+        person.setActive(true);
+
+        rid = new ORecordId(operations.getRid(operations.save(person)));
+
+        Person other = new Person();
+        other.setFirstName("Alan");
+        other.setLastName("Cached");
+        other.setActive(true);
+
+        otherRid = new ORecordId(operations.getRid(operations.save(other)));
+    }
+
+    @AfterClass
+    public void after() {
+        template.getObjectDatabase().close();
+
+        OrientAsyncExecutor.join(operations.getAsyncExecutor().submit(() -> operations.command("delete from Person where lastName = 'Cached'")));
+    }
+
+    @Test
+    public void loadFromCache() {
+        cache.clear();
+        long hits = cache.getHitCount();
+
+        assertEquals(((Person) template.load(rid)).getLastName(), "Cached");
+        assertEquals(((Person) template.load(rid)).getLastName(), "Cached");
+
+        assertEquals(cache.getHitCount(), hits + 1);
+        assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void invalidateOnSave() {
+        Person person = (Person) template.load(rid);
+        person.setActive(false);
+        template.save(person);
+
+        assertTrue(cache.getInvalidationCount() > 0);
+        assertEquals(((Person) template.load(rid)).getActive(), Boolean.FALSE);
+    }
+
+    @Test
+    public void rejectStaleVersion() {
+        template.load(rid);
+        long stale = cache.getStaleCount();
+
+        // changed on another session the cache is not registered on
+        OrientAsyncExecutor.join(operations.getAsyncExecutor().submit(() -> operations.command("update Person set firstName = 'Grace' where @rid = ?", rid)));
+
+        assertEquals(((Person) template.load(rid)).getFirstName(), "Grace");
+        assertEquals(cache.getStaleCount(), stale + 1);
+    }
+
+    @Test
+    public void evictBeyondMaxWeight() {
+        OrientRecordCache small = new OrientRecordCache(1, record -> 1);
+        template.setRecordCache(small);
+
+        try {
+            template.load(rid);
+            template.load(otherRid);
+
+            assertEquals(small.size(), 1);
+            assertEquals(small.getEvictionCount(), 1);
+        } finally {
+            template.setRecordCache(cache);
+        }
+    }
+}
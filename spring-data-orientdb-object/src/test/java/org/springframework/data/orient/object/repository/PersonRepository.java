@@ -2,13 +2,26 @@ package org.springframework.data.orient.object.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.orient.commons.repository.CountMode;
 import org.springframework.data.orient.commons.repository.DetachMode;
+import org.springframework.data.orient.commons.repository.KeysetPageable;
+import org.springframework.data.orient.commons.repository.Window;
+import org.springframework.data.orient.commons.repository.annotation.Count;
 import org.springframework.data.orient.commons.repository.annotation.Detach;
 import org.springframework.data.orient.commons.repository.annotation.FetchPlan;
 import org.springframework.data.orient.commons.repository.annotation.Query;
+import org.springframework.data.orient.commons.repository.annotation.ResultCache;
+import org.springframework.data.orient.commons.repository.annotation.SingleFlight;
 import org.springframework.data.orient.object.domain.Person;
+import org.springframework.data.util.CloseableIterator;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 public interface PersonRepository extends OrientObjectRepository<Person> {
 
@@ -17,8 +30,31 @@ public interface PersonRepository extends OrientObjectRepository<Person> {
     
     Page<Person> findByFirstName(String firstName, Pageable pageable);
     
+    Page<Person> findBy(Pageable pageable);
+
+    @Count(CountMode.APPROXIMATE)
+    Page<Person> readBy(Pageable pageable);
+
+    Slice<Person> findByActive(Boolean active, Pageable pageable);
+
+    @Count(parallel = true)
+    Page<Person> queryByActive(Boolean active, Pageable pageable);
+    
     List<Person> findByLastName(String lastName);
 
+    List<PersonName> findNamesByLastName(String lastName);
+
+    Page<PersonName> findNamesByActive(Boolean active, Pageable pageable);
+
+    PersonSummary findSummaryByFirstName(String firstName);
+
+    <T> List<T> queryByLastName(String lastName, Class<T> type);
+
+    Stream<Person> streamByLastName(String lastName);
+
+    @Query("select from person where active = ?")
+    CloseableIterator<Person> iterateByActive(Boolean active);
+
     List<Person> findByLastNameLike(String lastName);
 
     List<Person> findByFirstNameAndLastName(String firstName, String lastName);
@@ -29,6 +65,8 @@ public interface PersonRepository extends OrientObjectRepository<Person> {
     
     List<Person> findByFirstNameStartsWith(String firstName);
 
+    List<Person> findByLastNameIn(Collection<String> lastNames);
+
     Long countByFirstName(String firstName);
 
     @Detach(DetachMode.ENTITY)
@@ -39,5 +77,25 @@ public interface PersonRepository extends OrientObjectRepository<Person> {
 
     List<Person> findByActiveIsTrue();
 
+    Window<Person> findByActiveIsTrue(KeysetPageable pageable, Sort sort);
+
     List<Person> findByActiveIsFalse();
+
+    CompletableFuture<List<Person>> readByLastName(String lastName);
+
+    CompletableFuture<Page<Person>> readByActive(Boolean active, Pageable pageable);
+
+    CompletableFuture<Long> countByLastName(String lastName);
+
+    @ResultCache
+    List<Person> getByLastName(String lastName);
+
+    @ResultCache
+    long countByFirstNameAndLastName(String firstName, String lastName);
+
+    @ResultCache(ttl = 50, unit = TimeUnit.MILLISECONDS)
+    Person getByFirstName(String firstName);
+
+    @SingleFlight
+    List<Person> readByFirstName(String firstName);
 }
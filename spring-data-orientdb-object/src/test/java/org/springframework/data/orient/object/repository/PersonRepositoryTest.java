@@ -5,16 +5,35 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.orient.commons.core.OrientAsyncExecutor;
+import org.springframework.data.orient.commons.core.OrientLeakDetector;
+import org.springframework.data.orient.commons.repository.CountMode;
+import org.springframework.data.orient.commons.repository.KeysetPageable;
+import org.springframework.data.orient.commons.repository.Window;
 import org.springframework.data.orient.object.OrientDbObjectTestConfiguration;
 import org.springframework.data.orient.object.OrientObjectDatabaseFactory;
 import org.springframework.data.orient.object.OrientObjectOperations;
+import org.springframework.data.orient.object.OrientObjectTemplate;
 import org.springframework.data.orient.object.domain.Address;
 import org.springframework.data.orient.object.domain.Person;
+import org.springframework.data.util.CloseableIterator;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestExecutionListeners;
@@ -41,6 +60,9 @@ public class PersonRepositoryTest extends AbstractTestNGSpringContextTests {
     
     @Autowired
     OrientObjectOperations operations;
+
+    @Autowired
+    OrientLeakDetector leakDetector;
     
     @BeforeClass
     public void before() {
@@ -92,6 +114,60 @@ public class PersonRepositoryTest extends AbstractTestNGSpringContextTests {
         }
     }
 
+    @Test
+    public void countClassFromMetadata() {
+        long total = operations.count(new OSQLSynchQuery<Long>("select count(*) from Person"));
+        
+        assertEquals(operations.countClass(Person.class), total);
+        assertEquals(operations.countClass("Person", CountMode.APPROXIMATE), total);
+    }
+    
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void countUnknownClass() {
+        operations.countClass("NoSuchClass");
+    }
+    
+    @Test
+    public void findPageWithoutCriteria() {
+        Page<Person> page = repository.findBy(PageRequest.of(0, 2));
+        
+        assertEquals(page.getContent().size(), 2);
+        assertEquals(page.getTotalElements(), repository.count());
+        assertEquals(repository.readBy(PageRequest.of(1, 2)).getTotalElements(), repository.count());
+    }
+
+    @Test
+    public void findSliceByActive() {
+        int active = repository.findByActiveIsTrue().size();
+        
+        Slice<Person> first = repository.findByActive(true, PageRequest.of(0, 2));
+        
+        assertEquals(first.getContent().size(), 2);
+        assertTrue(first.hasNext());
+        
+        Slice<Person> all = repository.findByActive(true, PageRequest.of(0, active));
+        
+        assertEquals(all.getContent().size(), active);
+        assertFalse(all.hasNext());
+    }
+    
+    @Test
+    public void findPageWithParallelCount() {
+        int active = repository.findByActiveIsTrue().size();
+        
+        Page<Person> page = repository.queryByActive(true, PageRequest.of(0, 2));
+        
+        assertEquals(page.getContent().size(), 2);
+        assertEquals(page.getTotalElements(), active);
+    }
+    
+    @Test
+    public void findShortPageWithoutCount() {
+        Page<Person> page = repository.findByFirstName("Dzmitry", PageRequest.of(0, 10));
+        
+        assertEquals(page.getTotalElements(), page.getContent().size());
+    }
+    
     @Test
     public void countByFirstName() {
         assertEquals(repository.countByFirstName("Dzmitry"), Long.valueOf(1));
@@ -120,11 +196,122 @@ public class PersonRepositoryTest extends AbstractTestNGSpringContextTests {
         }
     }
 
+    @Test
+    public void findByFirstNameStartsWith() {
+        List<Person> result = repository.findByFirstNameStartsWith("Dzm");
+
+        assertFalse(result.isEmpty());
+
+        for (Person person : result) {
+            assertTrue(person.getFirstName().startsWith("Dzm"));
+        }
+    }
+
+    @Test
+    public void findByLastNameIn() {
+        List<Person> result = repository.findByLastNameIn(Arrays.asList("Naskou", "Eliot"));
+
+        assertEquals(result.size(), 2);
+
+        for (Person person : result) {
+            assertTrue(person.getLastName().equals("Naskou") || person.getLastName().equals("Eliot"));
+        }
+    }
+
+    @Test
+    public void findByLastNameWithQuote() {
+        assertTrue(repository.findByLastName("O'Neil").isEmpty());
+        assertFalse(repository.findByLastName("Naskou").isEmpty());
+    }
+
     @Test
     public void findByLastName() {
         assertFalse(repository.findByLastName("Naskou").isEmpty());
     }
 
+    @Test
+    public void findNamesByLastName() {
+        List<PersonName> names = repository.findNamesByLastName("Naskou");
+        
+        assertEquals(names.size(), 1);
+        assertEquals(names.get(0).getFirstName(), "Dzmitry");
+        assertEquals(names.get(0).getLastName(), "Naskou");
+    }
+    
+    @Test
+    public void findNamesByActivePage() {
+        Page<PersonName> page = repository.findNamesByActive(false, PageRequest.of(0, 10));
+        
+        assertEquals(page.getTotalElements(), repository.findByActiveIsFalse().size());
+        
+        for (PersonName name : page) {
+            assertNotNull(name.getFirstName());
+        }
+    }
+    
+    @Test
+    public void findSummaryByFirstName() {
+        PersonSummary summary = repository.findSummaryByFirstName("Koby");
+        
+        assertEquals(summary.getFirstName(), "Koby");
+        assertEquals(summary.getActive(), Boolean.TRUE);
+    }
+    
+    @Test
+    public void queryByLastNameWithDynamicProjection() {
+        assertEquals(repository.queryByLastName("Eliot", PersonSummary.class).get(0).getFirstName(), "Koby");
+        assertEquals(repository.queryByLastName("Eliot", PersonName.class).get(0).getLastName(), "Eliot");
+        assertEquals(repository.queryByLastName("Eliot", Person.class).get(0).getFirstName(), "Koby");
+    }
+    
+    @Test
+    public void streamByLastName() {
+        try (Stream<Person> persons = repository.streamByLastName("Naskou")) {
+            List<Person> result = persons.collect(Collectors.toList());
+
+            assertEquals(result.size(), 1);
+            assertEquals(result.get(0).getFirstName(), "Dzmitry");
+        }
+    }
+
+    @Test
+    public void iterateByActive() {
+        int count = 0;
+
+        try (CloseableIterator<Person> persons = repository.iterateByActive(false)) {
+            while (persons.hasNext()) {
+                assertFalse(persons.next().getActive());
+                count++;
+            }
+        }
+
+        assertEquals(count, repository.findByActiveIsFalse().size());
+    }
+
+    @Test
+    public void holdSessionUntilIteratorClosed() throws Exception {
+        // a new thread holds no session before the query method
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            assertEquals(countHeldSessions(), 0);
+
+            // the transaction of the query method ended, the iterator still holds the session it reads from
+            try (CloseableIterator<Person> persons = repository.iterateByActive(false)) {
+                assertEquals(countHeldSessions(), 1);
+
+                while (persons.hasNext()) {
+                    assertFalse(persons.next().getActive());
+                }
+            }
+
+            assertEquals(countHeldSessions(), 0);
+
+            return null;
+        });
+
+        new Thread(task).start();
+        task.get();
+    }
+
     @Test
     public void findByLastNameLike() {
         for (Person person : repository.findByLastNameLike("Na%")) {
@@ -170,4 +357,144 @@ public class PersonRepositoryTest extends AbstractTestNGSpringContextTests {
             assertEquals(person.getAddress().getCity(), "Minsk");
         }
     }
+
+    @Test
+    public void findAllWindows() {
+        List<String> firstNames = new ArrayList<>();
+        
+        Window<Person> window = repository.findAll(KeysetPageable.of(2), Sort.by("firstName"));
+        firstNames.addAll(window.getContent().stream().map(Person::getFirstName).collect(Collectors.toList()));
+        
+        while (window.hasNext()) {
+            window = repository.findAll(window.nextPageable(), Sort.by("firstName"));
+            
+            assertTrue(window.size() <= 2);
+            firstNames.addAll(window.getContent().stream().map(Person::getFirstName).collect(Collectors.toList()));
+        }
+        
+        List<String> expected = repository.findAll().stream().map(Person::getFirstName).sorted().collect(Collectors.toList());
+        
+        assertEquals(firstNames, expected);
+    }
+
+    @Test
+    public void findByActiveIsTrueWindows() {
+        Sort sort = Sort.by(Sort.Direction.DESC, "lastName");
+        List<String> lastNames = new ArrayList<>();
+        
+        Window<Person> window = repository.findByActiveIsTrue(KeysetPageable.of(3), sort);
+        lastNames.addAll(window.getContent().stream().map(Person::getLastName).collect(Collectors.toList()));
+        
+        while (window.hasNext()) {
+            window = repository.findByActiveIsTrue(window.nextPageable(), sort);
+            
+            assertFalse(window.isEmpty());
+            lastNames.addAll(window.getContent().stream().map(Person::getLastName).collect(Collectors.toList()));
+        }
+        
+        List<String> expected = repository.findByActiveIsTrue().stream().map(Person::getLastName)
+                .sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        
+        assertEquals(lastNames, expected);
+    }
+
+    @Test
+    public void findWindowsWithNullKeys() {
+        List<Person> unnamed = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            Person person = new Person();
+            person.setLastName("Unnamed");
+            person.setActive(true);
+            unnamed.add(repository.save(person));
+        }
+
+        try {
+            Sort ascending = Sort.by("firstName");
+            List<String> firstNames = new ArrayList<>();
+
+            for (Window<Person> window = repository.findAll(KeysetPageable.of(2), ascending); ; window = repository.findAll(window.nextPageable(), ascending)) {
+                firstNames.addAll(window.getContent().stream().map(Person::getFirstName).collect(Collectors.toList()));
+
+                if (!window.hasNext()) {
+                    break;
+                }
+            }
+
+            assertEquals(firstNames, repository.findAll().stream().map(Person::getFirstName)
+                    .sorted(Comparator.nullsFirst(Comparator.naturalOrder())).collect(Collectors.toList()));
+
+            // the persons without a first name are in the middle of the last names
+            Sort descending = Sort.by(Sort.Direction.DESC, "lastName", "firstName");
+            List<Person> persons = new ArrayList<>();
+
+            for (Window<Person> window = repository.findByActiveIsTrue(KeysetPageable.of(2), descending); ; window = repository.findByActiveIsTrue(window.nextPageable(), descending)) {
+                persons.addAll(window.getContent());
+
+                if (!window.hasNext()) {
+                    break;
+                }
+            }
+
+            Comparator<Person> order = Comparator.comparing(Person::getLastName, Comparator.<String> reverseOrder())
+                    .thenComparing(Person::getFirstName, Comparator.nullsLast(Comparator.<String> reverseOrder()));
+
+            assertEquals(persons.stream().map(this::toName).collect(Collectors.toList()),
+                    repository.findByActiveIsTrue().stream().sorted(order).map(this::toName).collect(Collectors.toList()));
+        } finally {
+            repository.deleteAll(unnamed);
+        }
+    }
+
+    private String toName(Person person) {
+        return person.getFirstName() + " " + person.getLastName();
+    }
+
+    @Test
+    public void readByLastNameAsync() {
+        CompletableFuture<List<Person>> future = repository.readByLastName("Eliot");
+
+        List<Person> persons = OrientAsyncExecutor.join(future);
+
+        assertEquals(persons.size(), 1);
+        assertEquals(persons.get(0).getFirstName(), "Koby");
+    }
+
+    @Test
+    public void readByActiveAsync() {
+        Page<Person> page = OrientAsyncExecutor.join(repository.readByActive(true, PageRequest.of(0, 2)));
+
+        assertEquals(page.getContent().size(), 2);
+        assertTrue(page.getTotalElements() >= 4);
+    }
+
+    @Test
+    public void fanOutAsyncQueries() {
+        List<Long> counts = OrientAsyncExecutor.join(OrientAsyncExecutor.all(Arrays.asList(
+                repository.countByLastName("Eliot"), repository.countByLastName("Carlisle"), repository.countByLastName("Nobody"))));
+
+        assertEquals(counts, Arrays.asList(1L, 1L, 0L));
+
+        List<Supplier<Long>> queries = Arrays.asList(() -> repository.countByFirstName("Koby"), () -> repository.countByFirstName("Ronny"));
+
+        assertEquals(OrientAsyncExecutor.join(operations.getAsyncExecutor().submitAll(queries)), Arrays.asList(1L, 1L));
+    }
+
+    @Test
+    public void shutDownOwnAsyncExecutor() throws InterruptedException {
+        OrientObjectTemplate template = new OrientObjectTemplate(factory);
+
+        Thread thread = OrientAsyncExecutor.join(template.getAsyncExecutor().submit(Thread::currentThread));
+
+        template.destroy();
+        thread.join(1000);
+
+        assertFalse(thread.isAlive());
+    }
+
+    private long countHeldSessions() {
+        String thread = Thread.currentThread().getName();
+
+        return leakDetector.getHeldSessions().stream().filter(held -> held.getThread().equals(thread)).count();
+    }
 }
@@ -0,0 +1,122 @@
+package org.springframework.data.orient.object.repository;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.orient.commons.core.OrientAsyncExecutor;
+import org.springframework.data.orient.commons.core.OrientSingleFlight;
+import org.springframework.data.orient.object.OrientDbObjectTestConfiguration;
+import org.springframework.data.orient.object.OrientObjectOperations;
+import org.springframework.data.orient.object.domain.Person;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestExecutionListeners(
+        inheritListeners = false,
+        listeners = {DependencyInjectionTestExecutionListener.class})
+@ContextConfiguration(classes = OrientDbObjectTestConfiguration.class)
+public class PersonSingleFlightTest extends AbstractTestNGSpringContextTests {
+
+    @Autowired
+    PersonRepository repository;
+
+    @Autowired
+    OrientObjectOperations operations;
+
+    @Autowired
+    OrientSingleFlight flight;
+
+    @BeforeClass
+    public void before() {
+        repository.save(person("Grace", "SingleFlight"));
+        repository.save(person("Grace", "SingleFlight"));
+    }
+
+    @AfterClass
+    public void after() {
+        repository.deleteAll(repository.findByLastName("SingleFlight"));
+    }
+
+    @Test(timeOut = 5000)
+    public void shareRunningCall() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        long executions = flight.getExecutionCount();
+        long shared = flight.getSharedCount();
+
+        CompletableFuture<List<String>> leader = CompletableFuture.supplyAsync(() -> flight.execute("key", () -> {
+            started.countDown();
+            await(release);
+
+            List<String> result = new ArrayList<>();
+            result.add("value");
+
+            return result;
+        }, ArrayList::new));
+
+        started.await();
+
+        CompletableFuture<List<String>> follower = CompletableFuture.supplyAsync(() -> flight.execute("key", () -> {
+            throw new IllegalStateException("The running call must be shared!");
+        }, ArrayList::new));
+
+        while (flight.getSharedCount() == shared) {
+            Thread.sleep(1);
+        }
+
+        release.countDown();
+
+        assertEquals(follower.get(), leader.get());
+        assertNotSame(follower.get(), leader.get());
+        assertEquals(flight.getExecutionCount(), executions + 1);
+        assertEquals(flight.getRunningCount(), 0);
+    }
+
+    @Test
+    public void copyConcurrentResults() {
+        List<CompletableFuture<List<Person>>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            futures.add(operations.getAsyncExecutor().submit(() -> repository.readByFirstName("Grace")));
+        }
+
+        List<List<Person>> results = OrientAsyncExecutor.join(OrientAsyncExecutor.all(futures));
+
+        for (int i = 1; i < results.size(); i++) {
+            assertEquals(results.get(i).size(), 2);
+            assertEquals(results.get(i).get(0).getLastName(), "SingleFlight");
+            assertNotSame(results.get(i).get(0), results.get(0).get(0));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Person person(String firstName, String lastName) {
+        Person person = new Person();
+        person.setFirstName(firstName);
+        person.setLastName(lastName);
+        person.setActive(true);
+
+        return person;
+    }
+}
@@ -0,0 +1,21 @@
+package org.springframework.data.orient.object.repository;
+
+public class PersonSummary {
+
+    private final String firstName;
+
+    private final Boolean active;
+
+    public PersonSummary(String firstName, Boolean active) {
+        this.firstName = firstName;
+        this.active = active;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+}
@@ -0,0 +1,20 @@
+package org.springframework.data.orient.object.repository;
+
+import org.springframework.data.orient.commons.repository.ReactiveOrientRepository;
+import org.springframework.data.orient.commons.repository.annotation.Query;
+import org.springframework.data.orient.object.domain.Person;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactivePersonRepository extends ReactiveOrientRepository<Person> {
+
+    Flux<Person> findByLastName(String lastName);
+
+    Mono<Person> findByFirstNameAndLastName(String firstName, String lastName);
+
+    Mono<Long> countByLastName(String lastName);
+
+    @Query("select from person where lastName = ? and active = ?")
+    Flux<Person> selectByLastNameAndActive(String lastName, Boolean active);
+}
@@ -0,0 +1,152 @@
+package org.springframework.data.orient.object.repository;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.reactivestreams.Subscription;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.orient.commons.core.OrientLeakDetector;
+import org.springframework.data.orient.object.OrientDbObjectTestConfiguration;
+import org.springframework.data.orient.object.domain.Person;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestExecutionListeners(
+        inheritListeners = false,
+        listeners = {DependencyInjectionTestExecutionListener.class})
+@ContextConfiguration(classes = OrientDbObjectTestConfiguration.class)
+public class ReactivePersonRepositoryTest extends AbstractTestNGSpringContextTests {
+
+    @Autowired
+    ReactivePersonRepository repository;
+
+    @Autowired
+    OrientLeakDetector leakDetector;
+
+    @BeforeClass
+    public void before() {
+        repository.saveAll(Flux.just(person("Ada", "Reactive", true), person("Alan", "Reactive", true), person("Grace", "Reactive", false)))
+                .blockLast();
+    }
+
+    @AfterClass
+    public void after() {
+        repository.findByLastName("Reactive").concatMap(repository::delete).blockLast();
+    }
+
+    @Test
+    public void findByLastName() {
+        List<String> names = repository.findByLastName("Reactive").map(Person::getFirstName).sort().collectList().block();
+
+        assertEquals(names.size(), 3);
+        assertEquals(names.get(0), "Ada");
+    }
+
+    @Test
+    public void findByLastNameRequestsOnDemand() {
+        assertEquals(repository.findByLastName("Reactive").limitRate(1).take(2).count().block(), Long.valueOf(2));
+    }
+
+    @Test
+    public void releaseSessionOnCancel() throws InterruptedException {
+        int held = leakDetector.getHeldSessions().size();
+        CountDownLatch first = new CountDownLatch(1);
+        BaseSubscriber<Person> subscriber = new BaseSubscriber<Person>() {
+
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(1);
+            }
+
+            @Override
+            protected void hookOnNext(Person person) {
+                first.countDown();
+            }
+        };
+
+        repository.findByLastName("Reactive").subscribe(subscriber);
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+
+        // cancelled from this thread, the session is released by the worker holding it
+        subscriber.dispose();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (leakDetector.getHeldSessions().size() > held && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(leakDetector.getHeldSessions().size(), held);
+    }
+
+    @Test
+    public void findByFirstNameAndLastName() {
+        Person person = repository.findByFirstNameAndLastName("Alan", "Reactive").block();
+
+        assertNotNull(person);
+        assertEquals(person.getFirstName(), "Alan");
+        assertNull(repository.findByFirstNameAndLastName("Nobody", "Reactive").block());
+    }
+
+    @Test
+    public void countByLastName() {
+        assertEquals(repository.countByLastName("Reactive").block(), Long.valueOf(3));
+    }
+
+    @Test
+    public void selectByLastNameAndActive() {
+        assertEquals(repository.selectByLastNameAndActive("Reactive", true).count().block(), Long.valueOf(2));
+    }
+
+    @Test
+    public void findAllSorted() {
+        List<String> names = repository.findAll(Sort.by("firstName")).map(Person::getFirstName).collectList().block();
+
+        assertEquals(names, names.stream().sorted().collect(Collectors.toList()));
+        assertTrue(names.contains("Grace"));
+    }
+
+    @Test
+    public void saveFindAndDelete() {
+        String thread = Thread.currentThread().getName();
+        Person saved = repository.save(person("Linus", "Transient", true)).block();
+
+        assertNotNull(saved.getRid());
+        assertTrue(repository.existsById(saved.getRid()).block());
+        assertEquals(repository.findById(saved.getRid()).block().getFirstName(), "Linus");
+        assertNotEquals(repository.findById(saved.getRid()).map(person -> Thread.currentThread().getName()).block(), thread);
+
+        repository.deleteById(saved.getRid()).block();
+
+        assertFalse(repository.existsById(saved.getRid()).block());
+    }
+
+    private static Person person(String firstName, String lastName, boolean active) {
+        Person person = new Person();
+        person.setFirstName(firstName);
+        person.setLastName(lastName);
+        person.setActive(active);
+
+        return person;
+    }
+}
@@ -1,10 +1,12 @@
 package org.springframework.data.orient.object.repository.cluster;
 
+import static org.springframework.data.orient.object.OrientDbObjectTestConfiguration.EMPLOYEE_PURGE_CLUSTER;
 import static org.springframework.data.orient.object.OrientDbObjectTestConfiguration.EMPLOYEE_TMP_CLUSTER;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,12 +15,17 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.orient.commons.core.BulkWriteOptions;
+import org.springframework.data.orient.commons.core.BulkWriteResult;
 import org.springframework.data.orient.commons.repository.DefaultCluster;
+import org.springframework.data.orient.commons.repository.DefaultSource;
 import org.springframework.data.orient.object.OrientDbObjectTestConfiguration;
 import org.springframework.data.orient.object.OrientObjectDatabaseFactory;
 import org.springframework.data.orient.object.OrientObjectOperations;
 import org.springframework.data.orient.object.domain.Employee;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
 import org.springframework.transaction.annotation.Transactional;
@@ -49,6 +56,9 @@ public class EmployeeClusteredRepositoryTest extends AbstractTestNGSpringContext
     @Autowired
     OrientObjectOperations operations;
 
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
     @BeforeClass
     public void before() {
         operations.command("insert into cluster:employee (firstName, lastName, active) values ('Dzmitry', 'Naskou', true)");
@@ -196,4 +206,74 @@ public class EmployeeClusteredRepositoryTest extends AbstractTestNGSpringContext
     public void countEmployeeTmp() {
         assertEquals(tmpRepository.count(), 2);
     }
+
+    @Test
+    public void deleteAllFromCluster() {
+        for (int i = 0; i < 3; i++) {
+            operations.command("insert into cluster:employee_purge (firstName, lastName, active) values (?, 'Purged', false)", "Employee" + i);
+        }
+
+        assertEquals(repository.deleteAll(EMPLOYEE_PURGE_CLUSTER), 3);
+        assertEquals(repository.count(EMPLOYEE_PURGE_CLUSTER), 0);
+    }
+
+    @Test
+    public void deleteAllFromClusterInChunks() {
+        for (int i = 0; i < 5; i++) {
+            operations.command("insert into cluster:employee_purge (firstName, lastName, active) values (?, 'Purged', false)", "Employee" + i);
+        }
+
+        assertEquals(repository.deleteAll(new DefaultSource(EMPLOYEE_PURGE_CLUSTER), 2), 5);
+        assertEquals(repository.count(EMPLOYEE_PURGE_CLUSTER), 0);
+    }
+
+    @Test
+    public void bulkSaveToCluster() {
+        List<Employee> employees = new ArrayList<>();
+
+        for (int i = 0; i < 25; i++) {
+            Employee employee = new Employee();
+            employee.setFirstName("Employee" + i);
+            employee.setLastName("Bulk");
+            employees.add(employee);
+        }
+
+        BulkWriteResult result = repository.saveAll(employees, BulkWriteOptions.defaults().withChunkSize(10).withCluster(EMPLOYEE_PURGE_CLUSTER));
+
+        assertEquals(result.getWritten(), 25);
+        Assert.assertTrue(result.isSuccessful());
+        assertEquals(repository.count(EMPLOYEE_PURGE_CLUSTER), 25);
+
+        assertEquals(repository.deleteAll(EMPLOYEE_PURGE_CLUSTER), 25);
+    }
+
+    @Test
+    public void parallelBulkSaveToCluster() {
+        List<Employee> employees = new ArrayList<>();
+
+        for (int i = 0; i < 95; i++) {
+            Employee employee = new Employee();
+            employee.setFirstName("Employee" + i);
+            employee.setLastName("ParallelBulk");
+            employees.add(employee);
+        }
+
+        BulkWriteResult result = repository.saveAll(employees, BulkWriteOptions.defaults().withChunkSize(10).withParallelism(3).withCluster(EMPLOYEE_PURGE_CLUSTER));
+
+        assertEquals(result.getWritten(), 95);
+        Assert.assertTrue(result.isSuccessful());
+        assertEquals(repository.count(EMPLOYEE_PURGE_CLUSTER), 95);
+
+        assertEquals(repository.deleteAll(EMPLOYEE_PURGE_CLUSTER), 95);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void bulkSaveRejectsRunningTransaction() {
+        Employee employee = new Employee();
+        employee.setFirstName("Rejected");
+        employee.setLastName("Bulk");
+
+        new TransactionTemplate(transactionManager).execute(status ->
+                repository.saveAll(Arrays.asList(employee), BulkWriteOptions.defaults().withCluster(EMPLOYEE_PURGE_CLUSTER)));
+    }
 }
@@ -14,8 +14,17 @@ package org.springframework.boot.orient.sample.shiro;
 
 import javax.annotation.PostConstruct;
 
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.orient.sample.shiro.model.User;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.orient.commons.core.OrientNearCache;
+import org.springframework.data.orient.commons.core.OrientRecordCache;
 import org.springframework.data.orient.commons.repository.config.EnableOrientRepositories;
 import org.springframework.data.orient.object.OrientObjectDatabaseFactory;
 import org.springframework.data.orient.object.repository.support.OrientObjectRepositoryFactoryBean;
@@ -31,6 +40,26 @@ public class OrientDbConfiguration {
     @PostConstruct
     @Transactional
     public void registerEntities() {
-        factory.db().getEntityManager().registerEntityClasses("org.springframework.boot.orient.sample.shiro.model");
+        OObjectDatabaseTx db = factory.db();
+
+        db.getEntityManager().registerEntityClasses("org.springframework.boot.orient.sample.shiro.model");
+
+        // the near cache of the login lookups requires a unique index on the e-mail
+        OClass user = db.getMetadata().getSchema().getClass(User.class);
+
+        if (!user.areIndexed("email")) {
+            OProperty email = user.existsProperty("email") ? user.getProperty("email") : user.createProperty("email", OType.STRING);
+            email.createIndex(OClass.INDEX_TYPE.UNIQUE);
+        }
+    }
+
+    @Bean
+    public OrientRecordCache recordCache() {
+        return new OrientRecordCache(16 * 1024 * 1024);
+    }
+
+    @Bean
+    public OrientNearCache nearCache() {
+        return new OrientNearCache(10000);
     }
 }
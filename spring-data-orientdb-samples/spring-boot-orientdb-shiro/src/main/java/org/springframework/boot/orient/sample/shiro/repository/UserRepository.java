@@ -13,6 +13,7 @@
 package org.springframework.boot.orient.sample.shiro.repository;
 
 import org.springframework.boot.orient.sample.shiro.model.User;
+import org.springframework.data.orient.commons.repository.annotation.NearCache;
 import org.springframework.data.orient.object.repository.OrientObjectRepository;
 
 /**
@@ -20,8 +21,10 @@ import org.springframework.data.orient.object.repository.OrientObjectRepository;
  */
 public interface UserRepository extends OrientObjectRepository<User> {
 
+    @NearCache
     User findByEmail(String email);
 
+    @NearCache
     User findByEmailAndActive(String email, boolean active);
 
 }